@@ -0,0 +1,97 @@
+package com.highlight.nuzip.benchmark;
+
+import com.highlight.nuzip.service.ArticleExtractor;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+// 기사 본문 추출 CPU 비용 비교: 기존 GeminiService 방식(선택자 순차 select + text() 반복 + DOM 변경) vs ArticleExtractor
+// 두 방식 모두 매 호출마다 문서를 clone하여 같은 입력에서 측정합니다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ArticleExtractorBenchmark {
+
+    @Param({"naver-news.html", "publisher-article-body.html", "no-selector-fallback.html"})
+    public String fixture;
+
+    private static final String URL = "https://news.example.com/article/2026/10/17/123";
+
+    private Document document;
+    private ArticleExtractor learnedExtractor;
+
+    @Setup
+    public void setUp() throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/fixtures/" + fixture)) {
+            String html = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            document = Jsoup.parse(html, URL);
+        }
+        // 같은 도메인을 한 번 처리해 선택자를 학습시킨 상태
+        learnedExtractor = new ArticleExtractor();
+        learnedExtractor.extract(document.clone(), URL);
+    }
+
+    @Benchmark
+    public String[] legacy() {
+        return legacyExtract(document.clone(), URL);
+    }
+
+    @Benchmark
+    public ArticleExtractor.Extraction singlePassCold() {
+        return new ArticleExtractor().extract(document.clone(), URL);
+    }
+
+    @Benchmark
+    public ArticleExtractor.Extraction singlePassLearned() {
+        return learnedExtractor.extract(document.clone(), URL);
+    }
+
+    // 변경 전 GeminiService.extractArticleContent의 추출 로직 (로그 출력 제외)
+    static String[] legacyExtract(Document doc, String url) {
+        String[] commonSelectors = {
+                "#newsct_article", "#articleBodyContents", ".article_body", ".article-view", ".view_contents", "article"
+        };
+        Element contentElement = null;
+        String usedSelector = "";
+        for (String selector : commonSelectors) {
+            contentElement = doc.select(selector).first();
+            if (contentElement != null && !contentElement.text().trim().isEmpty()) {
+                usedSelector = selector;
+                break;
+            }
+        }
+        if (contentElement == null || usedSelector.isEmpty() || contentElement.text().trim().isEmpty()) {
+            contentElement = doc.body();
+            contentElement.select("header, footer, nav, aside, .sidebar, .ad, .ad-unit, .byline, #comment, .related-articles, .article_btns, .sub_copy, script, style, iframe").remove();
+        }
+        String imageUrl = null;
+        Element ogImage = doc.select("meta[property=og:image]").first();
+        if (ogImage != null) {
+            imageUrl = ogImage.attr("content");
+        }
+        if (imageUrl == null || imageUrl.isEmpty()) {
+            Elements images = contentElement.select("img");
+            if (!images.isEmpty()) {
+                String first = images.first().attr("src");
+                imageUrl = first.startsWith("/") ? URI.create(url).resolve(first).toString() : first;
+            }
+        }
+        contentElement.select(".article_btns, .byline, script, style, iframe, .sub_copy, .ad-unit, img").remove();
+        return new String[]{contentElement.text().trim(), imageUrl};
+    }
+}
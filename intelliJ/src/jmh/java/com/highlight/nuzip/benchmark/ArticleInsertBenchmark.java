@@ -0,0 +1,156 @@
+package com.highlight.nuzip.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+// 기사 저장 처리량 비교 (결과 단위 ops/s = rows/s)
+// - identityPerRow: 기존 방식. AUTO_INCREMENT로 한 건씩 INSERT 후 생성 키 조회 (Hibernate IDENTITY와 같은 왕복 수)
+// - pooledBatch: 시퀀스에서 50개씩 ID를 미리 할당받고 50건씩 JDBC 배치로 INSERT (hibernate.jdbc.batch_size=50과 같은 방식)
+// 실제 MariaDB가 필요하며, 애플리케이션과 같은 DB_URL / DB_USERNAME / DB_PASSWORD 환경 변수를 사용합니다.
+// 벤치마크 전용 테이블(bench_news_article_*)만 만들고 지우므로 운영 테이블에는 영향이 없습니다.
+// 실행: DB_URL=jdbc:mariadb://localhost:3306/nuzip DB_USERNAME=... DB_PASSWORD=... ./gradlew jmh -PjmhIncludes=ArticleInsert
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ArticleInsertBenchmark {
+
+    private static final int ROWS = 500;
+    private static final int ALLOCATION_SIZE = 50;
+
+    private static final String COLUMNS = "(id, title, original_link, image_url, summary, keywords, category, published_at, collected_at, created_at)";
+    private static final String VALUES = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // MariaDB 드라이버의 bulk 전송(useBulkStmts) 사용 여부
+    @Param({"true", "false"})
+    public boolean useBulkStmts;
+
+    private Connection connection;
+    private long linkSeq;
+
+    private static final String SUMMARY = "정부가 내년도 예산안을 발표하며 경기 회복을 위한 재정 지출 확대 방침을 밝혔다. "
+            .repeat(6);
+
+    @Setup(Level.Trial)
+    public void connect() throws SQLException {
+        String url = System.getenv("DB_URL");
+        if (url == null) {
+            throw new IllegalStateException("DB_URL 환경 변수가 필요합니다 (예: jdbc:mariadb://localhost:3306/nuzip)");
+        }
+        url += (url.contains("?") ? "&" : "?") + "useBulkStmts=" + useBulkStmts;
+        connection = DriverManager.getConnection(url, System.getenv("DB_USERNAME"), System.getenv("DB_PASSWORD"));
+
+        try (Statement st = connection.createStatement()) {
+            st.execute("DROP TABLE IF EXISTS bench_news_article_identity");
+            st.execute("DROP TABLE IF EXISTS bench_news_article_pooled");
+            st.execute("DROP SEQUENCE IF EXISTS bench_news_article_seq");
+            String body = " title VARCHAR(255), original_link VARCHAR(500) NOT NULL UNIQUE, image_url VARCHAR(255),"
+                    + " summary TEXT, keywords TEXT, category VARCHAR(255), published_at DATETIME(6),"
+                    + " collected_at DATETIME(6), created_at DATETIME(6) NOT NULL)";
+            st.execute("CREATE TABLE bench_news_article_identity (id BIGINT AUTO_INCREMENT PRIMARY KEY," + body);
+            st.execute("CREATE TABLE bench_news_article_pooled (id BIGINT PRIMARY KEY," + body);
+            st.execute("CREATE SEQUENCE bench_news_article_seq START WITH 1 INCREMENT BY " + ALLOCATION_SIZE);
+        }
+        connection.setAutoCommit(false);
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() throws SQLException {
+        try (Statement st = connection.createStatement()) {
+            st.execute("TRUNCATE TABLE bench_news_article_identity");
+            st.execute("TRUNCATE TABLE bench_news_article_pooled");
+        }
+        connection.commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void cleanUp() throws SQLException {
+        connection.setAutoCommit(true);
+        try (Statement st = connection.createStatement()) {
+            st.execute("DROP TABLE IF EXISTS bench_news_article_identity");
+            st.execute("DROP TABLE IF EXISTS bench_news_article_pooled");
+            st.execute("DROP SEQUENCE IF EXISTS bench_news_article_seq");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long identityPerRow() throws SQLException {
+        long lastId = 0;
+        String sql = "INSERT INTO bench_news_article_identity "
+                + COLUMNS.replace("(id, ", "(") + " VALUES " + VALUES.replace("(?, ", "(");
+        try (PreparedStatement ps = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < ROWS; i++) {
+                bindRow(ps, 1, i);
+                ps.executeUpdate();
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    keys.next();
+                    lastId = keys.getLong(1);
+                }
+            }
+        }
+        connection.commit();
+        return lastId;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long pooledBatch() throws SQLException {
+        long nextId = 0;
+        long maxId = -1;
+        try (PreparedStatement seq = connection.prepareStatement("SELECT NEXTVAL(bench_news_article_seq)");
+             PreparedStatement ps = connection.prepareStatement("INSERT INTO bench_news_article_pooled " + COLUMNS + " VALUES " + VALUES)) {
+            for (int i = 0; i < ROWS; i++) {
+                if (nextId > maxId) {
+                    // Hibernate pooled optimizer와 같이 시퀀스 값 1회 조회로 ALLOCATION_SIZE개의 ID를 확보합니다.
+                    try (ResultSet rs = seq.executeQuery()) {
+                        rs.next();
+                        maxId = rs.getLong(1) + ALLOCATION_SIZE - 1;
+                        nextId = rs.getLong(1);
+                    }
+                }
+                ps.setLong(1, nextId++);
+                bindRow(ps, 2, i);
+                ps.addBatch();
+                if ((i + 1) % ALLOCATION_SIZE == 0) {
+                    ps.executeBatch();
+                }
+            }
+            ps.executeBatch();
+        }
+        connection.commit();
+        return nextId;
+    }
+
+    private void bindRow(PreparedStatement ps, int index, int row) throws SQLException {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        ps.setString(index, "[속보] 내년 예산안 발표, 재정 지출 확대 기조 유지 " + row);
+        ps.setString(index + 1, "https://news.example.com/article/" + (linkSeq++));
+        ps.setString(index + 2, "https://img.example.com/" + row + ".jpg");
+        ps.setString(index + 3, SUMMARY);
+        ps.setString(index + 4, "예산, 재정, 경기");
+        ps.setString(index + 5, "경제");
+        ps.setTimestamp(index + 6, now);
+        ps.setTimestamp(index + 7, now);
+        ps.setTimestamp(index + 8, now);
+    }
+}
@@ -0,0 +1,185 @@
+package com.highlight.nuzip.benchmark;
+
+import com.highlight.nuzip.NuzipApplication;
+import com.highlight.nuzip.model.Category;
+import com.highlight.nuzip.repository.CategoryRepository;
+import com.highlight.nuzip.service.IngestionPipeline;
+import com.highlight.nuzip.service.NewsCollectorService;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Files;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// 수집 파이프라인 종단 간 처리량 벤치마크 (외부 API 없이 오프라인으로 실행)
+// StubServers를 띄우고 애플리케이션의 네이버/언론사/Gemini 호출을 모두 스텁으로 보낸 뒤,
+// NewsCollectorService 수집 1회로 적재된 기사가 모두 알림 단계까지 끝나는(또는 FAILED) 데 걸린 시간을 잽니다.
+// 결과: 분당 처리 기사 수, 네이버 수집 시간, IngestionPipeline 단계별 지연 백분위, 적재→완료 종단 지연 백분위, 스텁별 요청/주입 오류 수
+// 실제 MariaDB가 필요합니다. 운영 DB를 건드리지 않도록 DB_URL 대신 BENCH_DB_URL(빈 스키마 가능, ddl-auto로 생성)을 사용합니다.
+// 실행: BENCH_DB_URL=jdbc:mariadb://localhost:3306/nuzip_bench DB_USERNAME=... DB_PASSWORD=... ./gradlew ingestionBenchmark
+// 설정 (-D 시스템 프로퍼티):
+//   bench.categories(5), bench.page-size(50), bench.timeout-minutes(30), bench.publisher-hosts(8), bench.duplicate-rate(0.05)
+//   bench.<naver|publisher|gemini>.latency-ms / jitter-ms / error-rate / throttle-rate, bench.gemini.retry-delay-seconds(2)
+//   애플리케이션 설정(news.pipeline.*, gemini.batch.* 등)도 -D로 그대로 덮어쓸 수 있습니다.
+public class IngestionThroughputBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        String dbUrl = System.getenv("BENCH_DB_URL");
+        if (dbUrl == null || dbUrl.isBlank()) {
+            throw new IllegalStateException("BENCH_DB_URL 환경 변수가 필요합니다 (예: jdbc:mariadb://localhost:3306/nuzip_bench)");
+        }
+        int categoryCount = Integer.getInteger("bench.categories", 5);
+        long timeoutMinutes = Long.getLong("bench.timeout-minutes", 30);
+
+        StubServers.Behavior naver = StubServers.Behavior.fromSystemProperties("naver", new StubServers.Behavior(80, 40, 0.01, 0.01));
+        StubServers.Behavior publisher = StubServers.Behavior.fromSystemProperties("publisher", new StubServers.Behavior(150, 100, 0.02, 0.0));
+        StubServers.Behavior gemini = StubServers.Behavior.fromSystemProperties("gemini", new StubServers.Behavior(2500, 1000, 0.01, 0.03));
+
+        try (StubServers stubs = new StubServers(naver, publisher, gemini,
+                Integer.getInteger("bench.publisher-hosts", 8),
+                Double.parseDouble(System.getProperty("bench.duplicate-rate", "0.05")),
+                1000,
+                Long.getLong("bench.gemini.retry-delay-seconds", 2)).start()) {
+
+            ConfigurableApplicationContext context = startApplication(stubs, dbUrl);
+            try {
+                run(context, stubs, categoryCount, timeoutMinutes);
+            } finally {
+                context.close();
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext startApplication(StubServers stubs, String dbUrl) throws Exception {
+        // 반드시 스텁/벤치마크 DB를 가리켜야 하는 설정 (명령행 인자로 넘겨 application.properties보다 우선)
+        List<String> args = new ArrayList<>();
+        args.add("--spring.datasource.url=" + dbUrl);
+        args.add("--server.port=0");
+        args.add("--naver.base-url=" + stubs.naverBaseUrl());
+        args.add("--gemini.base-url=" + stubs.geminiBaseUrl());
+        args.add("--crawler.cache.dir=" + Files.createTempDirectory("nuzip-bench-crawl-cache"));
+        args.add("--news.collect.initial-delay-seconds=86400"); // 수집은 벤치마크가 직접 1회 호출
+
+        // 벤치마크 기본값. -D로 지정한 값이 있으면 그 값을 사용합니다.
+        addUnlessSet(args, "naver.page-size", System.getProperty("bench.page-size", "50"));
+        addUnlessSet(args, "news.ingestion.poll-millis", "500");
+        addUnlessSet(args, "news.ingestion.retry-backoff-seconds", "2");
+        addUnlessSet(args, "gemini.rate-limit.rpm", "600");
+        addUnlessSet(args, "gemini.rate-limit.tpm", "4000000");
+        addUnlessSet(args, "logging.level.com.highlight.nuzip.service", "WARN");
+
+        // 환경 변수로만 채워지는 자격 증명 자리표시자 (스텁은 검사하지 않음)
+        Map<String, Object> defaults = new HashMap<>();
+        for (String key : List.of("DB_URL", "NAVER_CLIENT_ID", "NAVER_CLIENT_SECRET", "GEMINI_API_KEY", "GOOGLE_CLIENT_ID",
+                "GOOGLE_CLIENT_SECRET", "GOOGLE_OAUTH_REFRESH_TOKEN", "GMAIL_SENDER_EMAIL")) {
+            defaults.put(key, "bench");
+        }
+        defaults.put("JWT_SECRET", UUID.randomUUID() + "-" + UUID.randomUUID());
+
+        SpringApplication application = new SpringApplication(NuzipApplication.class);
+        application.setDefaultProperties(defaults);
+        return application.run(args.toArray(String[]::new));
+    }
+
+    private static void addUnlessSet(List<String> args, String key, String value) {
+        if (System.getProperty(key) == null) {
+            args.add("--" + key + "=" + value);
+        }
+    }
+
+    private static void run(ConfigurableApplicationContext context, StubServers stubs, int categoryCount, long timeoutMinutes)
+            throws InterruptedException {
+        CategoryRepository categoryRepository = context.getBean(CategoryRepository.class);
+        NewsCollectorService collector = context.getBean(NewsCollectorService.class);
+        IngestionPipeline pipeline = context.getBean(IngestionPipeline.class);
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+
+        // 이전 실행에서 남은 활성 카테고리는 끄고, 이번 실행용 카테고리만 수집합니다.
+        List<Category> leftovers = categoryRepository.findActiveForCollection();
+        leftovers.forEach(category -> category.setActiveForCollection(false));
+        categoryRepository.saveAll(leftovers);
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        List<Category> categories = new ArrayList<>();
+        for (int i = 0; i < categoryCount; i++) {
+            Category category = new Category();
+            category.setName("bench-" + runId + "-" + i);
+            categories.add(category);
+        }
+        categories = categoryRepository.saveAll(categories);
+
+        LocalDateTime runStart = LocalDateTime.now();
+        long startNanos = System.nanoTime();
+        collector.collectAndSummarizeNews();
+        long fetchMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        long enqueued = countTasks(jdbc, runStart, null);
+        System.out.println(">>> [벤치마크] 수집 " + fetchMillis + "ms, 적재 " + enqueued + "건. 처리 완료를 기다립니다.");
+
+        long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(timeoutMinutes);
+        long lastReport = System.nanoTime();
+        long done;
+        while ((done = countTasks(jdbc, runStart, List.of("NOTIFIED", "FAILED"))) < enqueued && System.nanoTime() < deadline) {
+            if (System.nanoTime() - lastReport > TimeUnit.SECONDS.toNanos(10)) {
+                System.out.println(">>> [벤치마크] 진행 " + done + "/" + enqueued);
+                lastReport = System.nanoTime();
+            }
+            Thread.sleep(500);
+        }
+        double elapsedMinutes = (System.nanoTime() - startNanos) / 60_000_000_000.0;
+
+        long notified = countTasks(jdbc, runStart, List.of("NOTIFIED"));
+        long failed = countTasks(jdbc, runStart, List.of("FAILED"));
+        List<Long> endToEnd = jdbc.queryForList(
+                "SELECT TIMESTAMPDIFF(MICROSECOND, created_at, updated_at) FROM ingestion_task WHERE created_at >= ? AND status = 'NOTIFIED'",
+                Long.class, Timestamp.valueOf(runStart));
+        long[] endToEndMicros = endToEnd.stream().mapToLong(Long::longValue).sorted().toArray();
+
+        StringBuilder report = new StringBuilder("\n=== 수집 파이프라인 벤치마크 결과 ===\n");
+        report.append(String.format("카테고리 %d개, 적재 %d건 → 완료 %d건, 실패 %d건, 미완료 %d건%n",
+                categories.size(), enqueued, notified, failed, enqueued - notified - failed));
+        report.append(String.format("소요 %.1f초, 처리량 %.1f건/분 (네이버 수집 %dms 포함)%n",
+                elapsedMinutes * 60, elapsedMinutes == 0 ? 0 : notified / elapsedMinutes, fetchMillis));
+        report.append(String.format("%-8s %8s %6s %8s %9s %9s %9s %9s%n", "단계", "처리", "보류", "시간초과", "p50(ms)", "p95(ms)", "p99(ms)", "평균(ms)"));
+        for (IngestionPipeline.StageStats stats : pipeline.snapshot()) {
+            report.append(String.format("%-8s %8d %6d %8d %9.0f %9.0f %9.0f %9.0f%n", stats.name(), stats.processed(),
+                    stats.deferred(), stats.timedOut(), stats.p50Millis(), stats.p95Millis(), stats.p99Millis(), stats.avgMillis()));
+        }
+        report.append(String.format("종단 지연(적재→알림) p50 %.0fms, p95 %.0fms, p99 %.0fms%n",
+                percentile(endToEndMicros, 0.50) / 1000.0, percentile(endToEndMicros, 0.95) / 1000.0, percentile(endToEndMicros, 0.99) / 1000.0));
+        report.append("스텁 네이버: ").append(stubs.naverStats()).append('\n');
+        report.append("스텁 언론사: ").append(stubs.publisherStats()).append('\n');
+        report.append("스텁 Gemini: ").append(stubs.geminiStats()).append('\n');
+        System.out.println(report);
+
+        // 다음 실행이나 다른 벤치마크에 영향이 없도록 이번 실행용 카테고리를 끕니다.
+        categories.forEach(category -> category.setActiveForCollection(false));
+        categoryRepository.saveAll(categories);
+    }
+
+    private static long countTasks(JdbcTemplate jdbc, LocalDateTime since, List<String> statuses) {
+        String sql = "SELECT COUNT(*) FROM ingestion_task WHERE created_at >= ?";
+        List<Object> params = new ArrayList<>();
+        params.add(Timestamp.valueOf(since));
+        if (statuses != null) {
+            sql += " AND status IN (" + String.join(", ", statuses.stream().map(status -> "?").toList()) + ")";
+            params.addAll(statuses);
+        }
+        Long count = jdbc.queryForObject(sql, Long.class, params.toArray());
+        return count == null ? 0 : count;
+    }
+
+    // nearest-rank 백분위
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[Math.max(0, (int) Math.ceil(percentile * sorted.length) - 1)];
+    }
+}
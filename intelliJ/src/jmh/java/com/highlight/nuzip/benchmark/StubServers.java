@@ -0,0 +1,369 @@
+package com.highlight.nuzip.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.highlight.nuzip.model.NewsCategory;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 오프라인 벤치마크용 스텁 서버 (JDK HttpServer 하나에 세 가지 경로)
+// - 네이버 검색 (/v1/search/news.json): 녹화된 응답(fixtures/naver-news-search.json)의 항목을 돌려 쓰며, 요청한 start/display에 맞춰 링크와 발행 시각만 바꿉니다.
+// - 언론사 기사 (/article/...): 녹화된 기사 HTML 틀에 기사마다 다른 문장 조합을 넣어 응답합니다. (SimHash 중복/분석 캐시에 모두 걸리지 않도록)
+// - Gemini (/v1beta/models/...:generateContent): 녹화된 응답 틀에 요청에 들어 있는 기사 수만큼 분석 결과를 채워 응답하고, 429는 녹화된 RESOURCE_EXHAUSTED 본문으로 응답합니다.
+// 경로마다 응답 지연(latency ± jitter), 오류(500) 비율, 429 비율을 따로 설정할 수 있습니다.
+// 언론사 링크는 127.0.0.1 ~ 127.0.0.N으로 나눠 CrawlerClient의 호스트별 동시성 제한/요청 간격이 실제와 비슷하게 적용되도록 합니다.
+public final class StubServers implements AutoCloseable {
+
+    private static final String FIXTURES = "/fixtures/";
+    private static final DateTimeFormatter PUB_DATE = DateTimeFormatter.ofPattern("EEE, dd MMM yyyy HH:mm:ss Z", Locale.ENGLISH);
+    private static final Pattern BATCH_ARTICLE = Pattern.compile("\\[기사 (\\d+)\\]");
+    private static final int SENTENCES_PER_ARTICLE = 12;
+    private static final int SENTENCES_PER_PARAGRAPH = 3;
+
+    // 경로별 응답 동작
+    public record Behavior(long latencyMillis, long jitterMillis, double errorRate, double throttleRate) {
+
+        // bench.<name>.latency-ms / jitter-ms / error-rate / throttle-rate 시스템 프로퍼티로 기본값을 덮어씁니다.
+        public static Behavior fromSystemProperties(String name, Behavior defaults) {
+            String prefix = "bench." + name + ".";
+            return new Behavior(
+                    Long.getLong(prefix + "latency-ms", defaults.latencyMillis()),
+                    Long.getLong(prefix + "jitter-ms", defaults.jitterMillis()),
+                    Double.parseDouble(System.getProperty(prefix + "error-rate", String.valueOf(defaults.errorRate()))),
+                    Double.parseDouble(System.getProperty(prefix + "throttle-rate", String.valueOf(defaults.throttleRate()))));
+        }
+
+        long sampleLatency() {
+            return latencyMillis + (jitterMillis > 0 ? ThreadLocalRandom.current().nextLong(-jitterMillis, jitterMillis + 1) : 0);
+        }
+    }
+
+    // 경로별 요청 수와 주입한 오류/429 수
+    public static final class Stats {
+        final AtomicLong requests = new AtomicLong();
+        final AtomicLong errors = new AtomicLong();
+        final AtomicLong throttled = new AtomicLong();
+
+        @Override
+        public String toString() {
+            return "요청 " + requests.get() + ", 오류(500) " + errors.get() + ", 429 " + throttled.get();
+        }
+    }
+
+    private record Response(int status, String contentType, byte[] body) {}
+
+    private final Behavior naver;
+    private final Behavior publisher;
+    private final Behavior gemini;
+    private final int publisherHosts;
+    private final double duplicateRate;
+    private final int naverTotal;
+    private final long geminiRetryDelaySeconds;
+
+    private final Stats naverStats = new Stats();
+    private final Stats publisherStats = new Stats();
+    private final Stats geminiStats = new Stats();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JsonNode naverFixture;
+    private final String publisherTemplate;
+    private final List<String> sentences;
+    private final String geminiTemplate;
+    private final String quotaTemplate;
+
+    // 실행마다 다른 링크를 만들어, 같은 DB로 다시 돌려도 링크 중복 제거에 걸리지 않게 합니다.
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+    private final ZonedDateTime newestPubDate = ZonedDateTime.now(ZoneId.of("Asia/Seoul")).truncatedTo(ChronoUnit.MINUTES);
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public StubServers(Behavior naver, Behavior publisher, Behavior gemini, int publisherHosts, double duplicateRate,
+                       int naverTotal, long geminiRetryDelaySeconds) {
+        this.naver = naver;
+        this.publisher = publisher;
+        this.gemini = gemini;
+        this.publisherHosts = Math.max(1, Math.min(publisherHosts, 254));
+        this.duplicateRate = duplicateRate;
+        this.naverTotal = naverTotal;
+        this.geminiRetryDelaySeconds = geminiRetryDelaySeconds;
+        try {
+            this.naverFixture = objectMapper.readTree(fixture("naver-news-search.json"));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.publisherTemplate = fixture("publisher-article-template.html");
+        this.sentences = fixture("article-sentences.txt").lines().filter(line -> !line.isBlank()).toList();
+        this.geminiTemplate = fixture("gemini-generate-content.json");
+        this.quotaTemplate = fixture("gemini-quota-exceeded.json");
+    }
+
+    public StubServers start() throws IOException {
+        // 127.0.0.x 전체에서 받을 수 있도록 와일드카드 주소에 바인딩합니다.
+        server = HttpServer.create(new InetSocketAddress(0), 256);
+        executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "stub-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/v1/search/news.json", exchange -> handle(exchange, naver, naverStats, this::naverSearch, this::naverError));
+        server.createContext("/article/", exchange -> handle(exchange, publisher, publisherStats, this::publisherArticle, status -> text(status, "text/html; charset=utf-8", "<html><body>error</body></html>")));
+        server.createContext("/v1beta/models/", exchange -> handle(exchange, gemini, geminiStats, this::geminiGenerate, this::geminiError));
+        server.start();
+        return this;
+    }
+
+    @Override
+    public void close() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+        }
+    }
+
+    public String naverBaseUrl() {
+        return "http://127.0.0.1:" + port();
+    }
+
+    public String geminiBaseUrl() {
+        return "http://127.0.0.1:" + port() + "/v1beta/models/";
+    }
+
+    public Stats naverStats() {
+        return naverStats;
+    }
+
+    public Stats publisherStats() {
+        return publisherStats;
+    }
+
+    public Stats geminiStats() {
+        return geminiStats;
+    }
+
+    private int port() {
+        return server.getAddress().getPort();
+    }
+
+    // 지연 → 429/오류 주입 → 정상 응답 순으로 처리합니다.
+    private void handle(HttpExchange exchange, Behavior behavior, Stats stats,
+                        Function<HttpExchange, Response> handler, Function<Integer, Response> errorResponse) throws IOException {
+        try (exchange) {
+            stats.requests.incrementAndGet();
+            long latency = behavior.sampleLatency();
+            if (latency > 0) {
+                Thread.sleep(latency);
+            }
+            double roll = ThreadLocalRandom.current().nextDouble();
+            Response response;
+            if (roll < behavior.throttleRate()) {
+                stats.throttled.incrementAndGet();
+                response = errorResponse.apply(429);
+            } else if (roll < behavior.throttleRate() + behavior.errorRate()) {
+                stats.errors.incrementAndGet();
+                response = errorResponse.apply(500);
+            } else {
+                response = handler.apply(exchange);
+            }
+            exchange.getResponseHeaders().set("Content-Type", response.contentType());
+            exchange.sendResponseHeaders(response.status(), response.body().length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response.body());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // --- 네이버 검색 ---
+
+    private Response naverSearch(HttpExchange exchange) {
+        Map<String, String> params = queryParams(exchange.getRequestURI().getRawQuery());
+        String query = params.getOrDefault("query", "");
+        int display = Integer.parseInt(params.getOrDefault("display", "10"));
+        int start = Integer.parseInt(params.getOrDefault("start", "1"));
+
+        JsonNode recorded = naverFixture.get("items");
+        ObjectNode body = naverFixture.deepCopy();
+        ArrayNode items = body.putArray("items");
+        for (int seq = start; seq < start + display && seq <= naverTotal; seq++) {
+            ObjectNode item = recorded.get((seq - 1) % recorded.size()).deepCopy();
+            String link = publisherUrl(query, seq);
+            item.put("originallink", link);
+            item.put("link", link);
+            // 최신순 정렬: 뒤 페이지일수록 오래된 기사
+            item.put("pubDate", newestPubDate.minusMinutes(seq).format(PUB_DATE));
+            items.add(item);
+        }
+        body.put("total", naverTotal);
+        body.put("start", start);
+        body.put("display", items.size());
+        return json(200, body.toString());
+    }
+
+    private Response naverError(int status) {
+        return json(status, status == 429
+                ? "{\"errorMessage\":\"Rate limit exceeded. (속도 제한을 초과했습니다.)\",\"errorCode\":\"012\"}"
+                : "{\"errorMessage\":\"System error.\",\"errorCode\":\"SE99\"}");
+    }
+
+    private String publisherUrl(String query, int seq) {
+        String host = "127.0.0." + (1 + seq % publisherHosts);
+        return "http://" + host + ":" + port() + "/article/" + runId + "/" + URLEncoder.encode(query, StandardCharsets.UTF_8) + "/" + seq;
+    }
+
+    // --- 언론사 기사 ---
+
+    // 같은 경로에는 항상 같은 본문을 돌려줍니다. duplicateRate 비율만큼은 바로 앞 기사와 같은 본문(재배포 기사)을 돌려줍니다.
+    private Response publisherArticle(HttpExchange exchange) {
+        String path = exchange.getRequestURI().getRawPath();
+        long seed = path.hashCode();
+        if (new Random(seed).nextDouble() < duplicateRate) {
+            int slash = path.lastIndexOf('/');
+            int seq = Integer.parseInt(path.substring(slash + 1));
+            seed = (path.substring(0, slash + 1) + Math.max(1, seq - 1)).hashCode();
+        }
+
+        Random random = new Random(seed);
+        List<String> pool = new ArrayList<>(sentences);
+        StringBuilder paragraphs = new StringBuilder();
+        String title = null;
+        for (int i = 0; i < SENTENCES_PER_ARTICLE && !pool.isEmpty(); i++) {
+            String sentence = pool.remove(random.nextInt(pool.size()));
+            if (title == null) {
+                title = sentence.length() > 30 ? sentence.substring(0, 30) : sentence;
+            }
+            if (i % SENTENCES_PER_PARAGRAPH == 0) {
+                paragraphs.append(i == 0 ? "<p>" : "</p>\n<p>");
+            } else {
+                paragraphs.append(' ');
+            }
+            paragraphs.append(sentence);
+        }
+        paragraphs.append("</p>");
+
+        String html = publisherTemplate
+                .replace("__TITLE__", title == null ? "" : title)
+                .replace("__IMAGE__", "http://127.0.0.1:" + port() + "/photos/" + Long.toHexString(seed) + ".jpg")
+                .replace("__PARAGRAPHS__", paragraphs);
+        return text(200, "text/html; charset=utf-8", html);
+    }
+
+    // --- Gemini ---
+
+    // 배치 요청("[기사 N]" 포함)이면 기사 수만큼의 배열, 아니면 단일 객체로 응답합니다.
+    private Response geminiGenerate(HttpExchange exchange) {
+        String prompt;
+        try (InputStream in = exchange.getRequestBody()) {
+            prompt = objectMapper.readTree(in).path("contents").path(0).path("parts").path(0).path("text").asText("");
+        } catch (IOException e) {
+            return json(400, "{\"error\":{\"code\":400,\"message\":\"Invalid JSON payload received.\",\"status\":\"INVALID_ARGUMENT\"}}");
+        }
+
+        List<Integer> indexes = new ArrayList<>();
+        Matcher matcher = BATCH_ARTICLE.matcher(prompt);
+        while (matcher.find()) {
+            indexes.add(Integer.parseInt(matcher.group(1)));
+        }
+
+        String output;
+        if (indexes.isEmpty()) {
+            output = analysis(prompt.hashCode()).toString();
+        } else {
+            ArrayNode array = objectMapper.createArrayNode();
+            for (int index : indexes) {
+                array.add(analysis(prompt.hashCode() * 31 + index).put("index", index));
+            }
+            output = array.toString();
+        }
+        try {
+            return json(200, geminiTemplate.replace("\"__MODEL_OUTPUT__\"", objectMapper.writeValueAsString(output)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ObjectNode analysis(int seed) {
+        Random random = new Random(seed);
+        NewsCategory[] categories = NewsCategory.values();
+        ObjectNode node = objectMapper.createObjectNode();
+        node.put("summary", sentences.get(random.nextInt(sentences.size())) + "\n"
+                + sentences.get(random.nextInt(sentences.size())) + "\n"
+                + sentences.get(random.nextInt(sentences.size())));
+        node.put("keywords", "예산, 금리, 반도체, 국정감사, 인공지능");
+        node.put("category", categories[random.nextInt(categories.length)].getLabel());
+        return node;
+    }
+
+    private Response geminiError(int status) {
+        if (status == 429) {
+            return json(429, quotaTemplate.replace("__RETRY_DELAY__", String.valueOf(geminiRetryDelaySeconds)));
+        }
+        return json(status, "{\"error\":{\"code\":500,\"message\":\"An internal error has occurred.\",\"status\":\"INTERNAL\"}}");
+    }
+
+    // --- 공통 ---
+
+    private static Response json(int status, String body) {
+        return text(status, "application/json; charset=utf-8", body);
+    }
+
+    private static Response text(int status, String contentType, String body) {
+        return new Response(status, contentType, body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Map<String, String> queryParams(String rawQuery) {
+        Map<String, String> params = new HashMap<>();
+        if (rawQuery == null) {
+            return params;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                params.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return params;
+    }
+
+    private static String fixture(String name) {
+        try (InputStream in = StubServers.class.getResourceAsStream(FIXTURES + name)) {
+            if (in == null) {
+                throw new IllegalStateException("픽스처를 찾을 수 없습니다: " + name);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
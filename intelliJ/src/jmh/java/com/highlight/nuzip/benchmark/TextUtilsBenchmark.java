@@ -0,0 +1,85 @@
+package com.highlight.nuzip.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.highlight.nuzip.dto.Item;
+import com.highlight.nuzip.dto.NaverNewsResponse;
+import com.highlight.nuzip.util.TextUtils;
+import org.apache.commons.text.StringEscapeUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+// 네이버 응답 항목 정제 비용 비교 (녹화된 응답 1건의 모든 항목 기준)
+// - 제목/요약: 기존 replaceAll("<[^>]+>", "") + unescapeHtml4 vs TextUtils.stripTagsAndDecode
+// - pubDate: 기존 호출마다 DateTimeFormatter 생성 vs 캐시된 포매터 vs TextUtils 고정 위치 파서
+// 할당량 비교: ./gradlew jmh -PjmhIncludes=TextUtils 에 -prof gc 를 추가하거나 jmh { profilers = ['gc'] } 설정
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TextUtilsBenchmark {
+
+    private static final DateTimeFormatter CACHED = DateTimeFormatter.ofPattern("EEE, dd MMM yyyy HH:mm:ss Z", Locale.ENGLISH);
+
+    private List<Item> items;
+
+    @Setup
+    public void setUp() throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/fixtures/naver-news-search.json")) {
+            items = new ObjectMapper().readValue(in, NaverNewsResponse.class).getItems();
+        }
+    }
+
+    @Benchmark
+    public void cleanLegacy(Blackhole bh) {
+        for (Item item : items) {
+            bh.consume(StringEscapeUtils.unescapeHtml4(item.getTitle().replaceAll("<[^>]+>", "")));
+            bh.consume(StringEscapeUtils.unescapeHtml4(item.getDescription().replaceAll("<[^>]+>", "")));
+        }
+    }
+
+    @Benchmark
+    public void cleanSinglePass(Blackhole bh) {
+        for (Item item : items) {
+            bh.consume(TextUtils.stripTagsAndDecode(item.getTitle()));
+            bh.consume(TextUtils.stripTagsAndDecode(item.getDescription()));
+        }
+    }
+
+    @Benchmark
+    public void pubDateFormatterPerCall(Blackhole bh) {
+        for (Item item : items) {
+            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("EEE, dd MMM yyyy HH:mm:ss Z").withLocale(Locale.ENGLISH);
+            bh.consume(ZonedDateTime.parse(item.getPubDate(), formatter).withZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime());
+        }
+    }
+
+    @Benchmark
+    public void pubDateCachedFormatter(Blackhole bh) {
+        for (Item item : items) {
+            bh.consume(ZonedDateTime.parse(item.getPubDate(), CACHED).withZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime());
+        }
+    }
+
+    @Benchmark
+    public void pubDateFastParser(Blackhole bh) {
+        for (Item item : items) {
+            OffsetDateTime parsed = TextUtils.parseNaverPubDate(item.getPubDate());
+            bh.consume(parsed.atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime());
+        }
+    }
+}
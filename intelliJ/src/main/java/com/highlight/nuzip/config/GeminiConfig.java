@@ -27,9 +27,31 @@ public class GeminiConfig {
     @Value("${gemini.timeout-seconds:20}")
     private int timeoutSeconds;
 
+    // 분당 요청 수(RPM) / 분당 토큰 수(TPM) 한도. 실제 한도보다 조금 낮게(headroom) 사용합니다.
+    @Value("${gemini.rate-limit.rpm:10}")
+    private int requestsPerMinute;
+
+    @Value("${gemini.rate-limit.tpm:250000}")
+    private int tokensPerMinute;
+
+    @Value("${gemini.rate-limit.headroom:0.9}")
+    private double rateLimitHeadroom;
+
+    // 429로 밀려난 분석 요청을 다시 대기열에 넣는 최대 횟수와 기본 대기 시간
+    @Value("${gemini.rate-limit.max-requeues:5}")
+    private int maxRequeues;
+
+    @Value("${gemini.rate-limit.base-backoff-seconds:5}")
+    private int baseBackoffSeconds;
+
     public String getApiKey() { return apiKey; }
     public String getModel() { return model; }
     public double getTemperature() { return temperature; }
     public int getMaxTokens() { return maxTokens; }
     public int getTimeoutSeconds() { return timeoutSeconds; }
+    public int getRequestsPerMinute() { return requestsPerMinute; }
+    public int getTokensPerMinute() { return tokensPerMinute; }
+    public double getRateLimitHeadroom() { return rateLimitHeadroom; }
+    public int getMaxRequeues() { return maxRequeues; }
+    public int getBaseBackoffSeconds() { return baseBackoffSeconds; }
 }
\ No newline at end of file
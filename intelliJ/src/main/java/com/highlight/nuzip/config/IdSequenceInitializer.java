@@ -0,0 +1,42 @@
+package com.highlight.nuzip.config;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+// news_article / notification은 IDENTITY(AUTO_INCREMENT)에서 시퀀스 기반 ID로 바뀌었습니다.
+// ddl-auto가 만든 시퀀스는 1부터 시작하므로, 기존 데이터가 있으면 시퀀스를 현재 최대 ID 이후로 올려 ID 충돌을 막습니다.
+// (MariaDB의 SETVAL은 현재 값보다 작은 값을 무시하므로 매 기동 시 실행해도 안전합니다)
+@Component
+public class IdSequenceInitializer implements ApplicationRunner {
+
+    // 테이블 → 시퀀스 (엔티티의 allocationSize와 같은 값만큼 여유를 둡니다)
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "news_article", "news_article_seq",
+            "notification", "notification_seq"
+    );
+    private static final int ALLOCATION_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public IdSequenceInitializer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        SEQUENCES.forEach((table, sequence) -> {
+            try {
+                Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+                if (maxId != null && maxId > 0) {
+                    jdbcTemplate.queryForObject("SELECT SETVAL(" + sequence + ", ?)", Object.class, maxId + ALLOCATION_SIZE);
+                }
+            } catch (Exception e) {
+                System.err.println("!!! 시퀀스 초기화 실패 (" + sequence + "): " + e.getMessage());
+            }
+        });
+    }
+}
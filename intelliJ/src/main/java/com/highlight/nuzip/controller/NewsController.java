@@ -1,6 +1,8 @@
 package com.highlight.nuzip.controller;
 
+import com.highlight.nuzip.dto.ArticleReaderResponse;
 import com.highlight.nuzip.dto.NewsArticleDto;
+import com.highlight.nuzip.model.AnalysisStatus;
 import com.highlight.nuzip.service.NewsService;
 import com.highlight.nuzip.service.NewsAnalysisService;
 import com.highlight.nuzip.dto.AnalysisResultDto; // ✅ 추가
@@ -31,16 +33,18 @@ public class NewsController {
     // (기존 getAllNews, getNewsByCategory, searchNewsByKeyword 메서드는 생략)
 
     // [GET /api/news] 전체 뉴스 기사 목록을 페이지네이션하여 반환합니다.
+    // status(PENDING/DONE/FAILED)를 주면 해당 분석 상태의 기사만 반환합니다. (없으면 분석 대기 중인 속보도 포함)
     @GetMapping
     public ResponseEntity<List<NewsArticleDto>> getAllNews(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) AnalysisStatus status) {
 
         // 최신순으로 정렬
         Pageable pageable = PageRequest.of(page, size, Sort.by("publishedAt").descending());
 
         // NewsService에서 전체 뉴스 조회
-        Page<com.highlight.nuzip.model.NewsArticle> articlePage = newsService.findAllNews(pageable);
+        Page<com.highlight.nuzip.model.NewsArticle> articlePage = newsService.findAllNews(status, pageable);
 
         // 엔티티 목록을 DTO 목록으로 변환
         List<NewsArticleDto> dtos = articlePage.getContent().stream()
@@ -55,7 +59,8 @@ public class NewsController {
     public ResponseEntity<List<NewsArticleDto>> getNewsByCategory(
             @PathVariable String categoryName,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) AnalysisStatus status) {
 
         // 카테고리 이름의 공백을 제거하여 서비스에 전달
         String trimmedCategoryName = categoryName.trim();
@@ -65,7 +70,7 @@ public class NewsController {
 
         // Service에서 카테고리별 뉴스 조회
         Page<com.highlight.nuzip.model.NewsArticle> articlePage =
-                newsService.findNewsByCategory(trimmedCategoryName, pageable);
+                newsService.findNewsByCategory(trimmedCategoryName, status, pageable);
 
         // 엔티티 목록을 DTO 목록으로 변환
         List<NewsArticleDto> dtos = articlePage.getContent().stream()
@@ -80,7 +85,8 @@ public class NewsController {
             // 필수 파라미터로 'q' (검색 쿼리)를 받습니다.
             @RequestParam(name = "q") String keyword,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) AnalysisStatus status) {
 
         if (keyword == null || keyword.trim().isEmpty()) {
             // 키워드가 없으면 400 Bad Request 반환 (또는 빈 목록 반환)
@@ -92,7 +98,7 @@ public class NewsController {
 
         // NewsService에서 키워드 검색 메서드 호출 (제목, 요약, 키워드 대상)
         Page<com.highlight.nuzip.model.NewsArticle> articlePage =
-                newsService.searchNewsByKeyword(keyword.trim(), pageable);
+                newsService.searchNewsByKeyword(keyword.trim(), status, pageable);
 
         // 엔티티 목록을 DTO 목록으로 변환
         List<NewsArticleDto> dtos = articlePage.getContent().stream()
@@ -102,6 +108,14 @@ public class NewsController {
         return ResponseEntity.ok(dtos);
     }
 
+    // [GET /api/news/{id}/reader] 읽기 모드: 크롤링으로 추출해 보관한 기사 본문을 반환합니다. 보관된 본문이 없으면 404
+    @GetMapping("/{id}/reader")
+    public ResponseEntity<ArticleReaderResponse> getReaderView(@PathVariable Long id) {
+        return newsService.findReaderView(id)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
     // -------------------------------------------------------------------
     // ✅ 수정된 부분: 반환 타입을 List<AnalysisResultDto>로 변경하고 오류 처리를 단순화
     // -------------------------------------------------------------------
@@ -0,0 +1,28 @@
+package com.highlight.nuzip.controller;
+
+import com.highlight.nuzip.dto.ReanalysisProgressResponse;
+import com.highlight.nuzip.service.ReanalysisBackfillService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+// 재분석 백필 운영용 API (인증 필요)
+@RestController
+@RequestMapping("/api/reanalysis")
+public class ReanalysisController {
+
+    private final ReanalysisBackfillService reanalysisBackfillService;
+
+    public ReanalysisController(ReanalysisBackfillService reanalysisBackfillService) {
+        this.reanalysisBackfillService = reanalysisBackfillService;
+    }
+
+    // [GET /api/reanalysis/progress] 가장 최근 백필의 진행률, 처리량, 집계. 아직 기록이 없으면 404
+    @GetMapping("/progress")
+    public ResponseEntity<ReanalysisProgressResponse> getProgress() {
+        return reanalysisBackfillService.progress()
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,15 @@
+package com.highlight.nuzip.dto;
+
+import java.time.LocalDateTime;
+
+// 읽기 모드 응답: 기사 기본 정보 + 보관된 추출 본문
+public record ArticleReaderResponse(
+        Long id,
+        String title,
+        String originalLink,
+        String imageUrl,
+        String category,
+        LocalDateTime publishedAt,
+        String content
+) {
+}
@@ -2,7 +2,7 @@ package com.highlight.nuzip.dto;
 
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.apache.commons.text.StringEscapeUtils;
+import com.highlight.nuzip.util.TextUtils;
 
 // 네이버 뉴스 검색 API의 각 기사 항목을 나타내는 DTO입니다.
 @Data
@@ -16,20 +16,11 @@ public class Item {
 
     // 뉴스 제목에서 HTML 태그와 HTML 엔터티를 제거하고 반환합니다.
     public String getCleanTitle() {
-        return sanitizeHtmlFragment(this.title);
+        return TextUtils.stripTagsAndDecode(this.title);
     }
 
     // 기사 내용 요약에서 HTML 태그와 HTML 엔터티를 제거하고 반환합니다.
     public String getCleanDescription() {
-        return sanitizeHtmlFragment(this.description);
-    }
-
-    // 문자열에서 HTML 태그를 제거하고 엔터티를 해제하는 내부 헬퍼 메서드
-    private String sanitizeHtmlFragment(String htmlText) {
-        if (htmlText == null || htmlText.isEmpty()) {
-            return "";
-        }
-        String withoutTags = htmlText.replaceAll("<[^>]+>", "");
-        return StringEscapeUtils.unescapeHtml4(withoutTags);
+        return TextUtils.stripTagsAndDecode(this.description);
     }
 }
@@ -1,5 +1,6 @@
 package com.highlight.nuzip.dto;
 
+import com.highlight.nuzip.model.AnalysisStatus;
 import com.highlight.nuzip.model.NewsArticle;
 import lombok.Data; // Lombok의 @Data 어노테이션 사용
 import lombok.NoArgsConstructor;
@@ -14,9 +15,12 @@ public class NewsArticleDto {
     private String title;
     private String originalLink;
     private String imageUrl;
+    private String description;
     private String summary;
     private String keywords;
     private String category;
+    // PENDING이면 summary/keywords/category가 아직 비어 있고 description만 있습니다.
+    private AnalysisStatus analysisStatus;
     private LocalDateTime publishedAt;
     private LocalDateTime collectedAt;
 
@@ -27,6 +31,8 @@ public class NewsArticleDto {
         dto.setTitle(article.getTitle());
         dto.setOriginalLink(article.getOriginalLink());
         dto.setImageUrl(article.getImageUrl());
+        dto.setDescription(article.getDescription());
+        dto.setAnalysisStatus(article.getAnalysisStatus());
         dto.setSummary(article.getSummary());
 
         // 엔티티의 category 필드 값을 DTO에 설정 (엔티티에 필드가 존재한다고 가정)
@@ -0,0 +1,26 @@
+package com.highlight.nuzip.dto;
+
+import com.highlight.nuzip.model.ReanalysisStatus;
+
+import java.time.LocalDateTime;
+
+// 재분석 백필 진행 상황
+public record ReanalysisProgressResponse(
+        String model,
+        String promptVersion,
+        ReanalysisStatus status,
+        long cursorId,
+        long upperBoundId,
+        long total,
+        long processed,
+        long updated,
+        long skipped,
+        long failed,
+        double percent,
+        double articlesPerMinute,
+        boolean geminiPaused,
+        LocalDateTime startedAt,
+        LocalDateTime updatedAt,
+        LocalDateTime completedAt
+) {
+}
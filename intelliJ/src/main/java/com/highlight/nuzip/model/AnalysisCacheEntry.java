@@ -0,0 +1,37 @@
+package com.highlight.nuzip.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// Gemini 분석 결과 캐시 (DB 계층). 키는 전처리된 본문 + 모델 + 프롬프트 버전의 SHA-256입니다.
+@Entity
+@Table(name = "analysis_cache")
+@Getter
+@Setter
+@NoArgsConstructor
+public class AnalysisCacheEntry {
+
+    @Id
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Column(columnDefinition = "TEXT")
+    private String summary;
+
+    @Column(columnDefinition = "TEXT")
+    private String keywords;
+
+    private String category;
+
+    private String model;
+
+    @Column(length = 20)
+    private String promptVersion;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
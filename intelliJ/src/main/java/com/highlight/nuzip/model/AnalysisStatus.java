@@ -0,0 +1,10 @@
+package com.highlight.nuzip.model;
+
+// 기사(NewsArticle)의 AI 분석(요약, 키워드, 카테고리) 상태
+// 기사는 네이버 검색 결과만으로 먼저 게시(PENDING)되고, 파이프라인이 분석을 마치면 DONE이 됩니다.
+public enum AnalysisStatus {
+    PENDING,    // 제목/설명만 있는 상태 (분석 대기 중)
+    LOCAL,      // Gemini를 쓸 수 없어 서버 내 간이 분석(LocalNewsAnalyzer) 결과를 반영함 (나중에 Gemini 분석으로 교체)
+    DONE,       // Gemini 분석 결과 반영 완료
+    FAILED      // 본문 부족, 재시도 한도 초과 등으로 분석하지 못함
+}
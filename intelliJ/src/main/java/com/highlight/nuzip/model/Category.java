@@ -6,6 +6,8 @@ import lombok.Setter;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 
+import java.time.LocalDateTime;
+
 // 뉴스 수집 및 분류의 기준이 되는 최상위 카테고리 엔티티입니다.
 @Entity
 @Table(name = "category") // 테이블 이름을 'category'로 명시
@@ -25,4 +27,24 @@ public class Category {
     // 이 카테고리가 뉴스 수집 작업에 사용될지 여부를 나타냅니다.
     @Column(name = "is_active_for_collection", nullable = false)
     private boolean isActiveForCollection = true;
+
+    // 증분 수집 기준점(high-water mark): 지난 수집에서 본 가장 최신 기사의 발행 시각과 원본 링크
+    @Column(name = "last_collected_pub_date")
+    private LocalDateTime lastCollectedPubDate;
+
+    @Column(name = "last_collected_link", length = 500)
+    private String lastCollectedLink;
+
+    // 적응형 수집 주기: 관측된 신규 기사 유입률(시간당, 지수 평활)과 그에 맞춘 수집 간격, 다음 수집 예정 시각
+    @Column(name = "new_articles_per_hour")
+    private Double newArticlesPerHour;
+
+    @Column(name = "poll_interval_seconds")
+    private Integer pollIntervalSeconds;
+
+    @Column(name = "last_polled_at")
+    private LocalDateTime lastPolledAt;
+
+    @Column(name = "next_poll_at")
+    private LocalDateTime nextPollAt;
 }
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.highlight.nuzip.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// 이름 단위 임대(lease). 한 시점에 한 노드만 가질 수 있고, 소유 노드가 lease_until 전에 갱신하지 않으면 다른 노드가 가져갈 수 있습니다.
+// - "leader": 클러스터 전체에서 한 번만 실행해야 하는 예약 작업(메일 발송, DB 정리 등)의 실행 노드
+// - "category:{id}": 해당 카테고리의 네이버 수집을 맡은 노드
+@Entity
+@Table(name = "cluster_lease", indexes = {
+        @Index(name = "idx_cluster_lease_owner", columnList = "owner")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class ClusterLease {
+
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    @Column(length = 100, nullable = false)
+    private String owner;
+
+    @Column(name = "lease_until", nullable = false)
+    private LocalDateTime leaseUntil;
+}
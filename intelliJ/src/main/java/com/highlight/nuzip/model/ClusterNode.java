@@ -0,0 +1,28 @@
+package com.highlight.nuzip.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// 수집에 참여 중인 서버(노드) 목록. 각 노드가 주기적으로 heartbeat_at을 갱신하며, 오래 갱신되지 않은 노드는 죽은 것으로 봅니다.
+@Entity
+@Table(name = "cluster_node")
+@Getter
+@Setter
+@NoArgsConstructor
+public class ClusterNode {
+
+    // IngestionTask.claimedBy와 같은 노드 이름 (pid@host)
+    @Id
+    @Column(name = "node_id", length = 100)
+    private String nodeId;
+
+    @Column(name = "heartbeat_at", nullable = false)
+    private LocalDateTime heartbeatAt;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+}
@@ -0,0 +1,11 @@
+package com.highlight.nuzip.model;
+
+// 수집 작업(IngestionTask)의 처리 단계
+public enum IngestionStatus {
+    FETCHED,    // 네이버 검색 결과로 수집됨 (본문 크롤링 전)
+    EXTRACTED,  // 본문 크롤링/추출 완료
+    ANALYZED,   // Gemini 분석 완료
+    PERSISTED,  // news_article 저장 완료 (알림 생성 전)
+    NOTIFIED,   // 구독자 알림 생성 완료
+    FAILED      // 재시도 한도 초과 또는 재시도 불가 오류
+}
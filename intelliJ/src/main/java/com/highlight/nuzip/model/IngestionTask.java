@@ -0,0 +1,99 @@
+package com.highlight.nuzip.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// 기사 1건의 수집 → 크롤링 → 분석 → 저장 진행 상태를 DB에 보관하는 작업 큐(outbox) 엔티티입니다.
+// 재시작이나 타임아웃이 있어도 마지막으로 완료한 단계부터 다시 처리할 수 있습니다.
+@Entity
+@Table(name = "ingestion_task", indexes = {
+        @Index(name = "idx_ingestion_task_status", columnList = "status, claimed_until")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class IngestionTask {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "original_link", unique = true, nullable = false, length = 500)
+    private String originalLink;
+
+    // 수집 대상 카테고리(Category.id)
+    private Long categoryId;
+
+    // 네이버 검색 결과 (태그 제거된 제목/요약, 원본 pubDate 문자열)
+    @Column(length = 500)
+    private String title;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    private String pubDate;
+
+    // 상태가 추가되어도 스키마 변경이 필요 없도록 DB enum 타입 대신 문자열 컬럼을 사용합니다.
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, columnDefinition = "VARCHAR(20)")
+    private IngestionStatus status;
+
+    // EXTRACTED 이후: 추출된 본문과 대표 이미지
+    @Column(columnDefinition = "MEDIUMTEXT")
+    private String content;
+
+    private String imageUrl;
+
+    // ANALYZED 이후: Gemini 분석 결과
+    @Column(columnDefinition = "TEXT")
+    private String summary;
+
+    @Column(columnDefinition = "TEXT")
+    private String keywords;
+
+    private String analyzedCategory;
+
+    // 분석 결과가 Gemini가 아닌 로컬 간이 분석(LocalNewsAnalyzer)인지 여부
+    @Column(name = "local_analysis", nullable = false, columnDefinition = "BOOLEAN DEFAULT FALSE")
+    private boolean localAnalysis;
+
+    // PERSISTED 이후: 저장된 news_article.id
+    private Long articleId;
+
+    private int attempts;
+
+    @Column(length = 500)
+    private String lastError;
+
+    // 작업을 가져간 워커와 임대 만료 시각. 만료되면 다른 워커가 다시 가져갈 수 있습니다.
+    @Column(name = "claimed_by", length = 100)
+    private String claimedBy;
+
+    @Column(name = "claimed_until")
+    private LocalDateTime claimedUntil;
+
+    // 기록할 때마다 1씩 늘어나는 버전. 임대가 만료된 뒤 다른 워커가 가져간(claim) 작업에 이전 워커가 뒤늦게 쓰는 것을 막습니다.
+    @Version
+    @Column(nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private long version;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+}
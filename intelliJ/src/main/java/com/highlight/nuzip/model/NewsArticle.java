@@ -18,8 +18,10 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class NewsArticle {
 
+    // IDENTITY는 JDBC 배치 INSERT를 막으므로 시퀀스에서 50개씩 미리 할당받아 사용합니다. (pooled optimizer)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "news_article_seq")
+    @SequenceGenerator(name = "news_article_seq", sequenceName = "news_article_seq", allocationSize = 50)
     private Long id;
 
     private String categoryId;
@@ -32,6 +34,10 @@ public class NewsArticle {
 
     private String imageUrl; // 이미지 URL
 
+    // 네이버 검색 결과의 설명 (분석 전에도 보여줄 수 있는 짧은 소개)
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
     // Summary는 매우 길 수 있으므로 TEXT 타입으로 지정
     @Column(columnDefinition = "TEXT")
     private String summary;
@@ -41,6 +47,12 @@ public class NewsArticle {
     private String keywords;
 
     private String category;
+
+    // 분석 상태. 기존 행은 분석이 끝난 기사이므로 컬럼 추가 시 DONE으로 채워집니다.
+    @Enumerated(EnumType.STRING)
+    @Column(name = "analysis_status", nullable = false, columnDefinition = "VARCHAR(20) DEFAULT 'DONE'")
+    private AnalysisStatus analysisStatus = AnalysisStatus.DONE;
+
     private LocalDateTime publishedAt;
     private LocalDateTime collectedAt;
 
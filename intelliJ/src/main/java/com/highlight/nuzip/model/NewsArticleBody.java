@@ -0,0 +1,37 @@
+package com.highlight.nuzip.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// 크롤링으로 추출한 기사 본문 (압축 보관). 프롬프트/모델 변경 시 다시 크롤링하지 않고 재분석하거나 읽기 모드로 보여줄 때 사용합니다.
+// news_article과 연관관계를 두지 않고 같은 id(article_id)로만 연결하므로, 목록 조회에는 절대 함께 로딩되지 않고
+// ArticleBodyStore로 필요한 기사만 따로 읽습니다. (news_article 행을 좁게 유지)
+@Entity
+@Table(name = "news_article_body")
+@Getter
+@Setter
+@NoArgsConstructor
+public class NewsArticleBody {
+
+    @Id
+    @Column(name = "article_id")
+    private Long articleId;
+
+    // 압축 방식 (현재 "deflate"). 다른 방식을 추가해도 기존 행을 읽을 수 있도록 행마다 기록합니다.
+    @Column(length = 10, nullable = false)
+    private String codec;
+
+    @Column(columnDefinition = "MEDIUMBLOB", nullable = false)
+    private byte[] content;
+
+    // 압축 전 UTF-8 바이트 수
+    @Column(name = "original_length", nullable = false)
+    private int originalLength;
+
+    @Column(name = "stored_at", nullable = false)
+    private LocalDateTime storedAt;
+}
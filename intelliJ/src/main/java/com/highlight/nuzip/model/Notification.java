@@ -4,6 +4,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import lombok.Data;
 
 import java.time.LocalDateTime;
@@ -11,7 +12,9 @@ import java.time.LocalDateTime;
 @Entity
 @Data
 public class Notification {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 구독자별 알림을 배치 INSERT할 수 있도록 시퀀스에서 50개씩 미리 할당받아 사용합니다.
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_seq")
+    @SequenceGenerator(name = "notification_seq", sequenceName = "notification_seq", allocationSize = 50)
     private Long id;
 
     private String userId;
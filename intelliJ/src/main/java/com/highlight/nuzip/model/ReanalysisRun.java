@@ -0,0 +1,59 @@
+package com.highlight.nuzip.model;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// 재분석 백필 1회(대상 모델 + 프롬프트 버전 조합당 1행)의 진행 기록(체크포인트)입니다.
+// 배치마다 커서와 집계를 갱신하므로 재시작하거나 리더 노드가 바뀌어도 커서 다음 기사부터 이어서 처리합니다.
+@Entity
+@Table(name = "reanalysis_run")
+@Getter
+@Setter
+@NoArgsConstructor
+public class ReanalysisRun {
+
+    // "{모델}@{프롬프트 버전}"
+    @Id
+    @Column(name = "target", length = 150)
+    private String target;
+
+    @Column(nullable = false, length = 100)
+    private String model;
+
+    @Column(name = "prompt_version", nullable = false, length = 20)
+    private String promptVersion;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ReanalysisStatus status;
+
+    // 마지막으로 처리를 마친 기사 id (이 id 이하는 처리 완료)
+    @Column(name = "cursor_id", nullable = false)
+    private long cursorId;
+
+    // 시작 시점의 최대 기사 id. 이후 기사는 이미 새 설정으로 분석되므로 대상이 아닙니다.
+    @Column(name = "upper_bound_id", nullable = false)
+    private long upperBoundId;
+
+    // 시작 시점의 대상 기사 수 (진행률 계산용)
+    @Column(nullable = false)
+    private long total;
+
+    private long processed;
+    private long updated;
+    private long skipped;
+    private long failed;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+}
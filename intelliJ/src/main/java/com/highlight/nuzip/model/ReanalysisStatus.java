@@ -0,0 +1,8 @@
+package com.highlight.nuzip.model;
+
+// 재분석 백필(ReanalysisRun)의 진행 상태
+public enum ReanalysisStatus {
+    RUNNING,    // 진행 중 (커서 이후 기사가 남아 있음)
+    COMPLETED,  // 시작 시점의 기사를 모두 처리함 (또는 처음 기동 시 현재 설정을 기준으로 기록만 함)
+    SUPERSEDED  // 끝나기 전에 모델/프롬프트가 다시 바뀌어 새 백필로 대체됨
+}
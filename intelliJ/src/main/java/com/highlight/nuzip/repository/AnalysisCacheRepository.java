@@ -0,0 +1,33 @@
+package com.highlight.nuzip.repository;
+
+import com.highlight.nuzip.model.AnalysisCacheEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface AnalysisCacheRepository extends JpaRepository<AnalysisCacheEntry, String> {
+
+    // 같은 키가 이미 있으면 무시합니다. (조회 후 저장하는 merge 왕복 없이 1회 INSERT)
+    @Modifying
+    @Transactional
+    @Query(value = """
+            INSERT IGNORE INTO analysis_cache (content_hash, summary, keywords, category, model, prompt_version, created_at)
+            VALUES (:hash, :summary, :keywords, :category, :model, :promptVersion, :createdAt)
+            """, nativeQuery = true)
+    int insertIgnore(@Param("hash") String hash,
+                     @Param("summary") String summary,
+                     @Param("keywords") String keywords,
+                     @Param("category") String category,
+                     @Param("model") String model,
+                     @Param("promptVersion") String promptVersion,
+                     @Param("createdAt") LocalDateTime createdAt);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM AnalysisCacheEntry e WHERE e.createdAt < :before")
+    int deleteByCreatedAtBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,50 @@
+package com.highlight.nuzip.repository;
+
+import com.highlight.nuzip.model.ClusterLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+// 임대 획득/갱신은 조건부 UPDATE 한 문장으로 처리해, 동시에 시도한 노드 중 하나만 성공합니다.
+// 시각은 모두 DB 서버 시계(NOW(6)) 기준입니다.
+public interface ClusterLeaseRepository extends JpaRepository<ClusterLease, String> {
+
+    // 내가 가진 임대를 연장하거나, 만료된 임대를 가져옵니다. 성공하면 1
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE cluster_lease SET owner = :owner, lease_until = NOW(6) + INTERVAL :leaseSeconds SECOND
+            WHERE name = :name AND (owner = :owner OR lease_until < NOW(6))
+            """, nativeQuery = true)
+    int takeOver(@Param("name") String name, @Param("owner") String owner, @Param("leaseSeconds") long leaseSeconds);
+
+    // 아직 아무도 만든 적 없는 임대를 만듭니다. 다른 노드가 먼저 만들었으면 0
+    @Modifying
+    @Transactional
+    @Query(value = """
+            INSERT IGNORE INTO cluster_lease (name, owner, lease_until)
+            VALUES (:name, :owner, NOW(6) + INTERVAL :leaseSeconds SECOND)
+            """, nativeQuery = true)
+    int insertIgnore(@Param("name") String name, @Param("owner") String owner, @Param("leaseSeconds") long leaseSeconds);
+
+    // 내가 가진 모든 임대를 한 번에 연장합니다. (heartbeat)
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE cluster_lease SET lease_until = NOW(6) + INTERVAL :leaseSeconds SECOND WHERE owner = :owner",
+            nativeQuery = true)
+    int renewAll(@Param("owner") String owner, @Param("leaseSeconds") long leaseSeconds);
+
+    // 임대를 바로 만료시켜 다른 노드가 기다리지 않고 가져갈 수 있게 합니다.
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE cluster_lease SET lease_until = NOW(6) - INTERVAL 1 SECOND WHERE name = :name AND owner = :owner",
+            nativeQuery = true)
+    int release(@Param("name") String name, @Param("owner") String owner);
+
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE cluster_lease SET lease_until = NOW(6) - INTERVAL 1 SECOND WHERE owner = :owner", nativeQuery = true)
+    int releaseAll(@Param("owner") String owner);
+}
@@ -0,0 +1,32 @@
+package com.highlight.nuzip.repository;
+
+import com.highlight.nuzip.model.ClusterNode;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+// 시각은 모두 DB 서버 시계(NOW(6))를 기준으로 하여 노드 간 시계 차이의 영향을 받지 않습니다.
+public interface ClusterNodeRepository extends JpaRepository<ClusterNode, String> {
+
+    @Modifying
+    @Transactional
+    @Query(value = """
+            INSERT INTO cluster_node (node_id, heartbeat_at, started_at) VALUES (:nodeId, NOW(6), NOW(6))
+            ON DUPLICATE KEY UPDATE heartbeat_at = NOW(6)
+            """, nativeQuery = true)
+    int heartbeat(@Param("nodeId") String nodeId);
+
+    // 최근 aliveSeconds초 안에 heartbeat를 보낸 노드 (이름순)
+    @Query(value = "SELECT node_id FROM cluster_node WHERE heartbeat_at >= NOW(6) - INTERVAL :aliveSeconds SECOND ORDER BY node_id",
+            nativeQuery = true)
+    List<String> findLiveNodeIds(@Param("aliveSeconds") long aliveSeconds);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM cluster_node WHERE heartbeat_at < NOW(6) - INTERVAL :staleSeconds SECOND", nativeQuery = true)
+    int deleteStale(@Param("staleSeconds") long staleSeconds);
+}
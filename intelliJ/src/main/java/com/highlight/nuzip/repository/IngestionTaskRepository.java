@@ -0,0 +1,43 @@
+package com.highlight.nuzip.repository;
+
+import com.highlight.nuzip.model.IngestionStatus;
+import com.highlight.nuzip.model.IngestionTask;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface IngestionTaskRepository extends JpaRepository<IngestionTask, Long> {
+
+    // 이미 큐에 들어간 링크 조회 (중복 적재 방지)
+    @Query("SELECT t.originalLink FROM IngestionTask t WHERE t.originalLink IN :links")
+    List<String> findExistingLinks(@Param("links") Collection<String> links);
+
+    // 보관 중인 작업에 남아 있는 추출 본문 (재분석 시 다시 크롤링하지 않도록)
+    @Query("SELECT t.content FROM IngestionTask t WHERE t.originalLink = :link")
+    Optional<String> findContentByOriginalLink(@Param("link") String link);
+
+    // 처리 가능한 작업을 잠그고 가져옵니다. 다른 워커가 잠근 행은 건너뛰므로(SKIP LOCKED) 여러 워커가 동시에 호출해도 안전합니다.
+    // (MariaDB 10.6 이상 필요)
+    @Query(value = """
+            SELECT * FROM ingestion_task
+            WHERE status IN (:statuses)
+              AND (claimed_until IS NULL OR claimed_until < :now)
+            ORDER BY id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<IngestionTask> lockClaimable(@Param("statuses") Collection<String> statuses,
+                                      @Param("now") LocalDateTime now,
+                                      @Param("limit") int limit);
+
+    // 완료(실패)된 지 오래된 작업 정리
+    @Modifying
+    @Query("DELETE FROM IngestionTask t WHERE t.status = :status AND t.updatedAt < :before")
+    int deleteByStatusAndUpdatedAtBefore(@Param("status") IngestionStatus status, @Param("before") LocalDateTime before);
+}
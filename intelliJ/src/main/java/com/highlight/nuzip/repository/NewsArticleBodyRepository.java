@@ -0,0 +1,8 @@
+package com.highlight.nuzip.repository;
+
+import com.highlight.nuzip.model.NewsArticleBody;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+// 본문 저장(upsert)은 여러 건을 JDBC 배치로 묶기 위해 ArticleBodyStore에서 JdbcTemplate으로 실행합니다.
+public interface NewsArticleBodyRepository extends JpaRepository<NewsArticleBody, Long> {
+}
@@ -1,10 +1,16 @@
 package com.highlight.nuzip.repository;
 
+import com.highlight.nuzip.model.AnalysisStatus;
 import com.highlight.nuzip.model.NewsArticle;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,9 +19,68 @@ public interface NewsArticleRepository extends JpaRepository<NewsArticle, Long>
     // 링크 중복 검사를 위한 메서드 (기존)
     Optional<NewsArticle> findByOriginalLink(String originalLink);
 
+    // 후보 링크 중 이미 저장된 링크만 한 번의 IN 쿼리로 조회 (엔티티 대신 링크 문자열만 반환)
+    @Query("SELECT a.originalLink FROM NewsArticle a WHERE a.originalLink IN :links")
+    List<String> findByOriginalLinkIn(@Param("links") Collection<String> links);
+
+    // 분석 결과를 반영할 기사들 (먼저 게시된 기사를 링크로 찾음)
+    @Query("SELECT a FROM NewsArticle a WHERE a.originalLink IN :links")
+    List<NewsArticle> findArticlesByOriginalLinkIn(@Param("links") Collection<String> links);
+
+    // 분석 상태 변경 (from 상태인 경우에만)
+    @Modifying
+    @Transactional
+    @Query("UPDATE NewsArticle a SET a.analysisStatus = :to WHERE a.originalLink = :link AND a.analysisStatus = :from")
+    int updateAnalysisStatus(@Param("link") String link, @Param("from") AnalysisStatus from, @Param("to") AnalysisStatus to);
+
+    // 로컬 분석 결과를 Gemini 분석으로 교체 (아직 LOCAL인 경우에만)
+    @Modifying
+    @Transactional
+    @Query("UPDATE NewsArticle a SET a.summary = :summary, a.keywords = :keywords, a.category = :category, "
+            + "a.analysisStatus = com.highlight.nuzip.model.AnalysisStatus.DONE "
+            + "WHERE a.id = :id AND a.analysisStatus = com.highlight.nuzip.model.AnalysisStatus.LOCAL")
+    int upgradeLocalAnalysis(@Param("id") Long id, @Param("summary") String summary,
+                             @Param("keywords") String keywords, @Param("category") String category);
+
+    // 재분석 결과 반영 (분석이 끝난 DONE 기사만. 그 사이 다른 상태로 바뀐 기사는 건드리지 않음)
+    @Modifying
+    @Transactional
+    @Query("UPDATE NewsArticle a SET a.summary = :summary, a.keywords = :keywords, a.category = :category "
+            + "WHERE a.id = :id AND a.analysisStatus = com.highlight.nuzip.model.AnalysisStatus.DONE")
+    int applyReanalysis(@Param("id") Long id, @Param("summary") String summary,
+                        @Param("keywords") String keywords, @Param("category") String category);
+
+    // 재분석 백필: 분석 상태별로 (after, upTo] 구간의 기사를 id 순으로 (keyset)
+    @Query("SELECT a FROM NewsArticle a WHERE a.analysisStatus = :status AND a.id > :after AND a.id <= :upTo ORDER BY a.id")
+    List<NewsArticle> findReanalysisBatch(@Param("status") AnalysisStatus status, @Param("after") long after,
+                                          @Param("upTo") long upTo, Pageable pageable);
+
+    long countByAnalysisStatusAndIdLessThanEqual(AnalysisStatus analysisStatus, Long id);
+
+    @Query("SELECT MAX(a.id) FROM NewsArticle a")
+    Optional<Long> findMaxId();
+
+    // 중복 필터(Bloom filter) 초기화용: after보다 큰 id의 원본 링크를 id 순으로 (keyset)
+    @Query("SELECT a.id AS id, a.originalLink AS originalLink FROM NewsArticle a WHERE a.id > :after ORDER BY a.id")
+    List<LinkRow> findLinksAfter(@Param("after") long after, Pageable pageable);
+
+    interface LinkRow {
+        Long getId();
+
+        String getOriginalLink();
+    }
+
     // 카테고리별로 뉴스 기사를 페이지네이션하여 조회하는 메서드
     Page<NewsArticle> findByCategory(String category, Pageable pageable);
 
+    // 분석 상태별 조회 (예: 분석이 끝난 기사만, 분석 대기 중인 속보만)
+    Page<NewsArticle> findByAnalysisStatus(AnalysisStatus analysisStatus, Pageable pageable);
+
+    Page<NewsArticle> findByCategoryAndAnalysisStatus(String category, AnalysisStatus analysisStatus, Pageable pageable);
+
+    // 분석 상태별로 id가 cursor보다 작은 기사를 최신순으로 (재분석 대상을 keyset으로 훑기)
+    List<NewsArticle> findByAnalysisStatusAndIdLessThanOrderByIdDesc(AnalysisStatus analysisStatus, Long cursor, Pageable pageable);
+
     // 중복 기사 체크
     boolean existsByOriginalLink(String originalLink);
 
@@ -28,4 +93,9 @@ public interface NewsArticleRepository extends JpaRepository<NewsArticle, Long>
             String keywordsKeyword,
             Pageable pageable
     );
+
+    // 키워드 검색 + 분석 상태 필터
+    @Query("SELECT a FROM NewsArticle a WHERE (a.title LIKE %:keyword% OR a.summary LIKE %:keyword% OR a.keywords LIKE %:keyword%) "
+            + "AND a.analysisStatus = :status")
+    Page<NewsArticle> searchByKeywordAndAnalysisStatus(@Param("keyword") String keyword, @Param("status") AnalysisStatus status, Pageable pageable);
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.highlight.nuzip.repository;
+
+import com.highlight.nuzip.model.ReanalysisRun;
+import com.highlight.nuzip.model.ReanalysisStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ReanalysisRunRepository extends JpaRepository<ReanalysisRun, String> {
+
+    List<ReanalysisRun> findByStatus(ReanalysisStatus status);
+
+    // 가장 최근에 시작한 백필 (진행 상황 조회용)
+    Optional<ReanalysisRun> findFirstByOrderByStartedAtDesc();
+}
@@ -2,6 +2,7 @@ package com.highlight.nuzip.repository;
 
 import com.highlight.nuzip.model.Subscription;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 
@@ -9,4 +10,13 @@ public interface SubscriptionRepository extends JpaRepository<Subscription,Long>
     boolean existsByUserIdAndCategoryId(String userId, Long categoryId);
     List<Subscription> findByCategoryId(Long categoryId);
     void deleteByUserId(String userId);
+
+    // 카테고리별 구독자 수 (수집 우선순위 계산용)
+    @Query("SELECT s.categoryId AS categoryId, COUNT(s) AS subscribers FROM Subscription s GROUP BY s.categoryId")
+    List<CategorySubscribers> countSubscribersByCategory();
+
+    interface CategorySubscribers {
+        Long getCategoryId();
+        long getSubscribers();
+    }
 }
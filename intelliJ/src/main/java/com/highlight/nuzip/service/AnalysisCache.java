@@ -0,0 +1,116 @@
+package com.highlight.nuzip.service;
+
+import com.highlight.nuzip.config.GeminiConfig;
+import com.highlight.nuzip.dto.NewsAnalysisResponse;
+import com.highlight.nuzip.model.AnalysisCacheEntry;
+import com.highlight.nuzip.repository.AnalysisCacheRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 본문 내용 기반(content-addressed) Gemini 분석 결과 캐시입니다.
+// 키: SHA-256(모델 + 프롬프트 버전 + 전처리된 본문). 같은 기사가 다른 링크로 들어오거나, 저장 실패 후 다시 수집되거나,
+// 수동으로 다시 분석하는 경우 Gemini를 호출하지 않고 결과를 돌려줍니다.
+// 1계층: 메모리 LRU (news.analysis-cache.max-entries), 2계층: analysis_cache 테이블
+// 프롬프트나 응답 형식을 바꾸면 GeminiService.PROMPT_VERSION을 올려 기존 결과가 재사용되지 않게 합니다.
+@Component
+public class AnalysisCache {
+
+    private final AnalysisCacheRepository analysisCacheRepository;
+    private final GeminiConfig config;
+    private final ClusterCoordinator clusterCoordinator;
+
+    @Value("${news.analysis-cache.retention-days:30}")
+    private long retentionDays;
+
+    private final Map<String, NewsAnalysisResponse> memory;
+
+    private final AtomicLong memoryHits = new AtomicLong();
+    private final AtomicLong dbHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public AnalysisCache(AnalysisCacheRepository analysisCacheRepository, GeminiConfig config, ClusterCoordinator clusterCoordinator,
+                         @Value("${news.analysis-cache.max-entries:10000}") int maxEntries) {
+        this.analysisCacheRepository = analysisCacheRepository;
+        this.config = config;
+        this.clusterCoordinator = clusterCoordinator;
+        // access-order LinkedHashMap: 가장 오래 사용되지 않은 항목부터 제거
+        this.memory = new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, NewsAnalysisResponse> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    // 전처리된 본문(ArticlePreprocessor.prepare 결과)으로 캐시 키를 만듭니다.
+    public String key(String preparedContent) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(config.getModel().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+            digest.update(GeminiService.PROMPT_VERSION.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+            return HexFormat.of().formatHex(digest.digest(preparedContent.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public Optional<NewsAnalysisResponse> get(String key) {
+        NewsAnalysisResponse cached;
+        synchronized (memory) {
+            cached = memory.get(key);
+        }
+        if (cached != null) {
+            memoryHits.incrementAndGet();
+            return Optional.of(cached);
+        }
+
+        Optional<NewsAnalysisResponse> stored = analysisCacheRepository.findById(key)
+                .map(entry -> new NewsAnalysisResponse(entry.getSummary(), entry.getKeywords(), entry.getCategory()));
+        if (stored.isPresent()) {
+            dbHits.incrementAndGet();
+            synchronized (memory) {
+                memory.put(key, stored.get());
+            }
+        } else {
+            misses.incrementAndGet();
+        }
+        return stored;
+    }
+
+    // 정상 분석 결과만 저장합니다. (오류 응답 "[...]"은 호출하는 쪽에서 걸러야 합니다)
+    public void put(String key, NewsAnalysisResponse analysis) {
+        synchronized (memory) {
+            memory.put(key, analysis);
+        }
+        try {
+            analysisCacheRepository.insertIgnore(key, analysis.summary(), analysis.keywords(), analysis.category(),
+                    config.getModel(), GeminiService.PROMPT_VERSION, LocalDateTime.now());
+        } catch (Exception e) {
+            System.err.println("분석 캐시 저장 실패: " + e.getMessage());
+        }
+    }
+
+    // 매일 새벽 4시 40분에 오래된 DB 캐시를 정리합니다. (리더 노드만)
+    @Scheduled(cron = "0 40 4 * * *", zone = "Asia/Seoul")
+    public void evictExpired() {
+        if (!clusterCoordinator.isLeader()) {
+            return;
+        }
+        int removed = analysisCacheRepository.deleteByCreatedAtBefore(LocalDateTime.now().minusDays(retentionDays));
+        System.out.println(">>> [AnalysisCache] 오래된 분석 캐시 정리: " + removed + "건 (메모리 적중 " + memoryHits.get()
+                + ", DB 적중 " + dbHits.get() + ", 미스 " + misses.get() + ")");
+    }
+}
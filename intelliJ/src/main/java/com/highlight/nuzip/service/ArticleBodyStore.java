@@ -0,0 +1,120 @@
+package com.highlight.nuzip.service;
+
+import com.highlight.nuzip.repository.IngestionTaskRepository;
+import com.highlight.nuzip.repository.NewsArticleBodyRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+// 추출한 기사 본문을 deflate로 압축해 news_article_body에 보관하고 읽어 옵니다.
+// 한국어 기사 본문은 보통 1/3 정도로 줄어듭니다. 압축은 호출하는 쪽에서 트랜잭션 밖에서 미리 해 둘 수 있도록 compress를 따로 둡니다.
+@Component
+public class ArticleBodyStore {
+
+    static final String DEFLATE = "deflate";
+
+    // 본문 저장 (이미 있으면 교체). 조회 후 저장하는 merge 왕복 없이 실행합니다.
+    private static final String UPSERT_SQL = """
+            INSERT INTO news_article_body (article_id, codec, content, original_length, stored_at)
+            VALUES (?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE codec = VALUES(codec), content = VALUES(content),
+                original_length = VALUES(original_length), stored_at = VALUES(stored_at)
+            """;
+
+    private final NewsArticleBodyRepository newsArticleBodyRepository;
+    private final IngestionTaskRepository ingestionTaskRepository;
+    private final GeminiService geminiService;
+    private final JdbcTemplate jdbcTemplate;
+
+    public ArticleBodyStore(NewsArticleBodyRepository newsArticleBodyRepository, IngestionTaskRepository ingestionTaskRepository,
+                            GeminiService geminiService, JdbcTemplate jdbcTemplate) {
+        this.newsArticleBodyRepository = newsArticleBodyRepository;
+        this.ingestionTaskRepository = ingestionTaskRepository;
+        this.geminiService = geminiService;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // 압축된 본문
+    public record CompressedBody(String codec, byte[] content, int originalLength) {}
+
+    public static CompressedBody compress(String body) {
+        byte[] raw = body.getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2 + 64);
+        // 직접 만든 Deflater는 스트림을 닫아도 해제되지 않으므로 end()로 네이티브 메모리를 바로 돌려줍니다.
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try (DeflaterOutputStream stream = new DeflaterOutputStream(out, deflater)) {
+            stream.write(raw);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            deflater.end();
+        }
+        return new CompressedBody(DEFLATE, out.toByteArray(), raw.length);
+    }
+
+    static String decompress(String codec, byte[] content) {
+        if (!DEFLATE.equals(codec)) {
+            throw new IllegalArgumentException("지원하지 않는 본문 압축 방식: " + codec);
+        }
+        try (InputStream in = new InflaterInputStream(new ByteArrayInputStream(content))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 미리 압축한 여러 기사의 본문(기사 id → 본문)을 JDBC 배치 한 번으로 저장합니다. (트랜잭션 안이면 그 트랜잭션에 참여)
+    // useBulkStmts 설정으로 기사마다 왕복하지 않고 bulk 요청으로 전송됩니다.
+    @Transactional
+    public void saveAll(Map<Long, CompressedBody> bodies) {
+        if (bodies.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> args = new ArrayList<>(bodies.size());
+        bodies.forEach((articleId, body) -> args.add(new Object[]{
+                articleId, body.codec(), body.content(), body.originalLength(), now}));
+        jdbcTemplate.batchUpdate(UPSERT_SQL, args);
+    }
+
+    public void save(Long articleId, String body) {
+        saveAll(Map.of(articleId, compress(body)));
+    }
+
+    public Optional<String> find(Long articleId) {
+        return newsArticleBodyRepository.findById(articleId)
+                .map(stored -> decompress(stored.getCodec(), stored.getContent()));
+    }
+
+    // 재분석용 본문: 보관된 본문 → 수집 작업(ingestion_task)의 추출 본문 순으로 찾고, 없으면 다시 추출(크롤링 캐시를 거침)해 보관합니다.
+    // 본문을 구할 수 없으면 비어 있습니다.
+    public Optional<String> findOrExtract(Long articleId, String originalLink) {
+        Optional<String> stored = find(articleId)
+                .or(() -> ingestionTaskRepository.findContentByOriginalLink(originalLink))
+                .filter(body -> !body.isBlank());
+        if (stored.isPresent()) {
+            return stored;
+        }
+        String content = geminiService.extractArticleContent(originalLink).content();
+        if (content.startsWith("본문이 너무 짧습니다") || content.startsWith("크롤링 실패")) {
+            return Optional.empty();
+        }
+        save(articleId, content);
+        return Optional.of(content);
+    }
+}
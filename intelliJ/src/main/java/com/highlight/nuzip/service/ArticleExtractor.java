@@ -0,0 +1,256 @@
+package com.highlight.nuzip.service;
+
+import com.highlight.nuzip.util.TextUtils;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.nodes.TextNode;
+import org.jsoup.select.Evaluator;
+import org.jsoup.select.NodeFilter;
+import org.jsoup.select.NodeTraversor;
+import org.jsoup.select.QueryParser;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 파싱된 기사 문서에서 본문 텍스트와 대표 이미지 URL을 추출합니다.
+// - 문서를 한 번 순회하면서 og:image 메타 태그, 각 본문 선택자의 첫 매칭 요소, 그 요소(와 body)의 본문 텍스트를 함께 모읍니다.
+//   본문 텍스트는 제외 요소를 건너뛰며 계산하고 DOM은 변경하지 않습니다.
+// - 도메인별로 성공한 선택자를 기억해 두고 다음 기사에서는 그 선택자만 모으는 순회를 먼저 합니다.
+//   학습된 선택자가 맞으면 순회 1번, 빗나가면(사이트 개편 등) 전체 선택자를 모으는 순회가 1번 더 필요합니다.
+@Component
+public class ArticleExtractor {
+
+    // 본문 후보 선택자 (우선순위 순)
+    private static final List<String> CONTENT_SELECTORS = List.of(
+            "#newsct_article",
+            "#articleBodyContents",
+            ".article_body",
+            ".article-view",
+            ".view_contents",
+            "article"
+    );
+
+    private static final List<Evaluator> CONTENT_EVALUATORS = CONTENT_SELECTORS.stream()
+            .map(QueryParser::parse)
+            .toList();
+
+    // 본문 선택자로 찾은 요소에서 텍스트 추출 시 건너뛸 요소
+    private static final Evaluator CONTENT_EXCLUDE =
+            QueryParser.parse(".article_btns, .byline, script, style, iframe, .sub_copy, .ad-unit, img");
+
+    // 선택자가 모두 실패해 body 전체를 사용할 때 건너뛸 요소
+    private static final Evaluator BODY_EXCLUDE = QueryParser.parse(
+            "header, footer, nav, aside, .sidebar, .ad, .ad-unit, .byline, #comment, .related-articles, "
+                    + ".article_btns, .sub_copy, script, style, iframe, img");
+
+    private static final Evaluator OG_IMAGE = QueryParser.parse("meta[property=og:image]");
+
+    // 도메인 → 마지막으로 성공한 선택자 인덱스
+    private final Map<String, Integer> learnedSelectors = new ConcurrentHashMap<>();
+
+    // 추출 결과. selector가 null이면 body 전체에서 추출한 경우입니다.
+    public record Extraction(String text, String imageUrl, String selector) {}
+
+    public Extraction extract(Document doc, String url) {
+        String host = hostOf(url);
+        Integer learned = host == null ? null : learnedSelectors.get(host);
+
+        // 1. 학습된 선택자가 있으면 그 선택자만 모으는 순회를 먼저 시도합니다.
+        if (learned != null) {
+            ScanResult scan = scan(doc, learned);
+            Extraction extraction = fromCandidate(scan, learned, url);
+            if (extraction != null) {
+                return extraction;
+            }
+            learnedSelectors.remove(host, learned);
+        }
+
+        // 2. 모든 선택자(와 body)를 한 번의 순회로 모으고, 우선순위대로 본문이 비어 있지 않은 첫 후보를 사용합니다.
+        ScanResult scan = scan(doc, -1);
+        for (int i = 0; i < CONTENT_SELECTORS.size(); i++) {
+            Extraction extraction = fromCandidate(scan, i, url);
+            if (extraction != null) {
+                if (host != null) {
+                    learnedSelectors.put(host, i);
+                }
+                return extraction;
+            }
+        }
+
+        // 3. 선택자가 모두 실패하면 불필요한 영역을 건너뛰고 모은 body 텍스트를 사용합니다.
+        if (scan.body == null) {
+            return new Extraction("", scan.ogImage, null);
+        }
+        return new Extraction(scan.body.text(), chooseImage(scan.ogImage, scan.body.firstImageSrc, url), null);
+    }
+
+    private Extraction fromCandidate(ScanResult scan, int index, String url) {
+        TextCollector candidate = scan.candidates[index];
+        if (candidate == null) {
+            return null;
+        }
+        String text = candidate.text();
+        if (text.isEmpty()) {
+            return null;
+        }
+        return new Extraction(text, chooseImage(scan.ogImage, candidate.firstImageSrc, url), CONTENT_SELECTORS.get(index));
+    }
+
+    // 문서를 한 번 순회하며 og:image, 선택자별 첫 매칭 요소의 본문 텍스트/첫 이미지를 모읍니다.
+    // onlyIndex >= 0이면 해당 선택자만 확인하고, 아니면 모든 선택자와 body(대체용)를 함께 모읍니다.
+    // 후보끼리 중첩될 수 있으므로(article 안의 .article_body 등) 제외 요소는 SKIP_ENTIRELY 대신 후보마다 따로 건너뜁니다.
+    private ScanResult scan(Document doc, int onlyIndex) {
+        ScanResult result = new ScanResult(CONTENT_SELECTORS.size());
+        Element body = onlyIndex >= 0 ? null : doc.body();
+        List<TextCollector> open = new ArrayList<>(CONTENT_SELECTORS.size() + 1);
+        NodeTraversor.filter(new NodeFilter() {
+            @Override
+            public FilterResult head(Node node, int depth) {
+                if (node instanceof TextNode textNode) {
+                    for (TextCollector collector : open) {
+                        collector.text(textNode);
+                    }
+                    return FilterResult.CONTINUE;
+                }
+                if (!(node instanceof Element element)) {
+                    return FilterResult.CONTINUE;
+                }
+                if (result.ogImage == null && "meta".equals(element.normalName()) && OG_IMAGE.matches(doc, element)) {
+                    String content = element.attr("content");
+                    if (!content.isEmpty()) {
+                        result.ogImage = content;
+                    }
+                }
+                for (TextCollector collector : open) {
+                    collector.enter(element);
+                }
+                for (int i = 0; i < CONTENT_EVALUATORS.size(); i++) {
+                    if ((onlyIndex < 0 || onlyIndex == i) && result.candidates[i] == null
+                            && CONTENT_EVALUATORS.get(i).matches(doc, element)) {
+                        result.candidates[i] = new TextCollector(element, CONTENT_EXCLUDE);
+                        open.add(result.candidates[i]);
+                    }
+                }
+                if (element == body) {
+                    result.body = new TextCollector(element, BODY_EXCLUDE);
+                    open.add(result.body);
+                }
+                return FilterResult.CONTINUE;
+            }
+
+            @Override
+            public FilterResult tail(Node node, int depth) {
+                if (node instanceof Element element && !open.isEmpty()) {
+                    open.removeIf(collector -> collector.exit(element));
+                }
+                return FilterResult.CONTINUE;
+            }
+        }, doc);
+        return result;
+    }
+
+    // og:image가 우선이며, 없으면 본문 첫 이미지(상대 경로는 기사 URL 기준으로 변환)를 사용합니다.
+    private static String chooseImage(String ogImage, String firstImageSrc, String url) {
+        if (ogImage != null && !ogImage.isEmpty()) {
+            return ogImage;
+        }
+        if (firstImageSrc == null || firstImageSrc.isEmpty()) {
+            return null;
+        }
+        if (firstImageSrc.startsWith("//") || firstImageSrc.startsWith("/")) {
+            try {
+                return new URI(url).resolve(firstImageSrc).toString();
+            } catch (Exception e) {
+                return firstImageSrc;
+            }
+        }
+        return firstImageSrc;
+    }
+
+    private static String hostOf(String url) {
+        try {
+            String host = URI.create(url).getHost();
+            return host == null ? null : host.toLowerCase(Locale.ROOT);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static final class ScanResult {
+        final TextCollector[] candidates;
+        TextCollector body;
+        String ogImage;
+
+        ScanResult(int size) {
+            this.candidates = new TextCollector[size];
+        }
+    }
+
+    // 후보 요소 하나의 텍스트를 Element.text()와 같은 규칙(공백 정규화, 블록 경계 공백)으로 모읍니다.
+    private static final class TextCollector {
+        final Element root;
+        final Evaluator exclude;
+        final StringBuilder sb = new StringBuilder(4096);
+        String firstImageSrc;
+        // 건너뛰는 중인 제외 요소 (그 요소가 끝날 때까지 텍스트를 모으지 않음)
+        Element skipping;
+
+        TextCollector(Element root, Evaluator exclude) {
+            this.root = root;
+            this.exclude = exclude;
+        }
+
+        void text(TextNode textNode) {
+            if (skipping == null) {
+                TextUtils.appendNormalizedWhitespace(sb, textNode.getWholeText(), endsWithSpace());
+            }
+        }
+
+        void enter(Element element) {
+            if (skipping != null) {
+                return;
+            }
+            if ("img".equals(element.normalName()) && firstImageSrc == null) {
+                firstImageSrc = element.attr("src");
+            }
+            if (exclude.matches(root, element)) {
+                skipping = element;
+                return;
+            }
+            if ((element.isBlock() || "br".equals(element.normalName())) && !endsWithSpace()) {
+                sb.append(' ');
+            }
+        }
+
+        // 후보 요소가 끝났으면 true
+        boolean exit(Element element) {
+            if (element == root) {
+                return true;
+            }
+            if (skipping != null) {
+                if (skipping == element) {
+                    skipping = null;
+                }
+                return false;
+            }
+            if (element.isBlock() && !endsWithSpace()) {
+                sb.append(' ');
+            }
+            return false;
+        }
+
+        boolean endsWithSpace() {
+            return sb.length() == 0 || sb.charAt(sb.length() - 1) == ' ';
+        }
+
+        String text() {
+            return sb.toString().trim();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.highlight.nuzip.service;
+
+import com.highlight.nuzip.dto.NewsAnalysisResponse;
+import com.highlight.nuzip.util.SimHash;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// 최근 분석한 기사 본문의 SimHash 지문과 분석 결과를 메모리에 보관합니다.
+// 통신사 기사가 여러 언론사 링크로 재배포된 경우 지문이 거의 같으므로, 기존 분석 결과를 재사용해 Gemini 호출을 줄입니다.
+// 64비트 지문을 16비트 4개 구간으로 나누어 색인하므로, 해밍 거리 3 이하인 지문은 최소 한 구간이 반드시 일치합니다.
+@Component
+public class ArticleFingerprintIndex {
+
+    private static final int BANDS = 4;
+    private static final int BAND_BITS = 64 / BANDS;
+
+    // 이 거리 이하이면 같은 기사로 간주 (최대 BANDS - 1)
+    @Value("${news.near-duplicate.max-distance:3}")
+    private int maxDistance;
+
+    @Value("${news.near-duplicate.max-entries:5000}")
+    private int maxEntries;
+
+    @Value("${news.near-duplicate.retention-hours:48}")
+    private long retentionHours;
+
+    private final Map<Integer, List<Fingerprint>> buckets = new HashMap<>();
+    private final Deque<Fingerprint> insertionOrder = new ArrayDeque<>();
+
+    private record Fingerprint(long value, NewsAnalysisResponse analysis, Instant createdAt) {}
+
+    public long fingerprint(String articleContent) {
+        return SimHash.fingerprint(articleContent);
+    }
+
+    public synchronized Optional<NewsAnalysisResponse> findNearDuplicate(long fingerprint) {
+        evictExpired();
+        int limit = Math.min(maxDistance, BANDS - 1);
+        for (int band = 0; band < BANDS; band++) {
+            List<Fingerprint> candidates = buckets.get(bandKey(fingerprint, band));
+            if (candidates == null) {
+                continue;
+            }
+            for (Fingerprint candidate : candidates) {
+                if (SimHash.hammingDistance(candidate.value(), fingerprint) <= limit) {
+                    return Optional.of(candidate.analysis());
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    public synchronized void register(long fingerprint, NewsAnalysisResponse analysis) {
+        Fingerprint entry = new Fingerprint(fingerprint, analysis, Instant.now());
+        for (int band = 0; band < BANDS; band++) {
+            buckets.computeIfAbsent(bandKey(fingerprint, band), key -> new ArrayList<>(2)).add(entry);
+        }
+        insertionOrder.addLast(entry);
+        while (insertionOrder.size() > maxEntries) {
+            remove(insertionOrder.pollFirst());
+        }
+    }
+
+    private void evictExpired() {
+        Instant threshold = Instant.now().minus(Duration.ofHours(retentionHours));
+        while (!insertionOrder.isEmpty() && insertionOrder.peekFirst().createdAt().isBefore(threshold)) {
+            remove(insertionOrder.pollFirst());
+        }
+    }
+
+    private void remove(Fingerprint entry) {
+        for (int band = 0; band < BANDS; band++) {
+            int key = bandKey(entry.value(), band);
+            List<Fingerprint> bucket = buckets.get(key);
+            if (bucket != null) {
+                bucket.remove(entry);
+                if (bucket.isEmpty()) {
+                    buckets.remove(key);
+                }
+            }
+        }
+    }
+
+    // 구간 번호(상위 비트) + 구간 값(16비트)을 하나의 키로 만듭니다.
+    private static int bandKey(long fingerprint, int band) {
+        int value = (int) ((fingerprint >>> (band * BAND_BITS)) & 0xFFFF);
+        return (band << BAND_BITS) | value;
+    }
+}
@@ -0,0 +1,111 @@
+package com.highlight.nuzip.service;
+
+import com.highlight.nuzip.dto.Item;
+import com.highlight.nuzip.repository.NewsArticleRepository;
+import com.highlight.nuzip.util.BloomFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 네이버 수집 결과에서 이미 저장된 기사(originalLink 기준)를 한 번에 걸러냅니다.
+// 1) 메모리 Bloom filter로 "확실히 새 기사"를 DB 조회 없이 통과시키고
+// 2) "있을 수 있음"으로 판정된 링크만 findByOriginalLinkIn 한 번으로 확인합니다.
+@Component
+public class ArticleLinkDeduplicator {
+
+    private final NewsArticleRepository newsArticleRepository;
+
+    @Value("${news.dedup.bloom.expected-insertions:500000}")
+    private long expectedInsertions;
+
+    @Value("${news.dedup.bloom.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    // 필터를 채울 때 한 번에 읽는 링크 수
+    @Value("${news.dedup.bloom.seed-page-size:5000}")
+    private int seedPageSize;
+
+    private volatile BloomFilter knownLinks;
+
+    public ArticleLinkDeduplicator(NewsArticleRepository newsArticleRepository) {
+        this.newsArticleRepository = newsArticleRepository;
+    }
+
+    // 애플리케이션 기동 후 news_article.original_link 전체로 필터를 채웁니다.
+    // 전체 링크를 한 번에 목록으로 올리지 않고 id 순(keyset)으로 seed-page-size개씩 읽으며 바로 필터에 넣습니다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        BloomFilter filter = new BloomFilter(expectedInsertions, falsePositiveRate);
+        long cursor = 0;
+        long count = 0;
+        while (true) {
+            List<NewsArticleRepository.LinkRow> page = newsArticleRepository.findLinksAfter(cursor, PageRequest.of(0, seedPageSize));
+            for (NewsArticleRepository.LinkRow row : page) {
+                filter.put(row.getOriginalLink());
+            }
+            count += page.size();
+            if (page.size() < seedPageSize) {
+                break;
+            }
+            cursor = page.get(page.size() - 1).getId();
+        }
+        this.knownLinks = filter;
+        System.out.println(">>> [Dedup] Bloom filter 초기화 완료. 저장된 링크 수: " + count);
+        if (count > expectedInsertions) {
+            System.err.println("!!! [Dedup] 저장된 링크 수가 news.dedup.bloom.expected-insertions를 넘어 오탐률이 높아집니다.");
+        }
+    }
+
+    // 새로 저장된 기사의 링크를 필터에 반영합니다.
+    public void markStored(String originalLink) {
+        BloomFilter filter = knownLinks;
+        if (filter != null && originalLink != null) {
+            filter.put(originalLink);
+        }
+    }
+
+    // 아직 저장되지 않은 기사만 반환합니다. (배치 내 중복 링크도 한 건만 남깁니다)
+    public List<Item> filterNew(List<Item> items) {
+        Map<String, Item> byLink = new LinkedHashMap<>();
+        for (Item item : items) {
+            if (item.getOriginallink() != null && !item.getOriginallink().isBlank()) {
+                byLink.putIfAbsent(item.getOriginallink(), item);
+            }
+        }
+        if (byLink.isEmpty()) {
+            return List.of();
+        }
+
+        BloomFilter filter = knownLinks;
+        List<String> possibleHits = new ArrayList<>();
+        for (String link : byLink.keySet()) {
+            // 필터가 아직 준비되지 않았다면 모든 링크를 DB로 확인합니다.
+            if (filter == null || filter.mightContain(link)) {
+                possibleHits.add(link);
+            }
+        }
+
+        Set<String> stored = possibleHits.isEmpty()
+                ? Set.of()
+                : new HashSet<>(newsArticleRepository.findByOriginalLinkIn(possibleHits));
+
+        List<Item> fresh = new ArrayList<>();
+        byLink.forEach((link, item) -> {
+            if (!stored.contains(link)) {
+                fresh.add(item);
+            }
+        });
+        System.out.println(">>> [Dedup] 수집 " + items.size() + "건 / DB 확인 " + possibleHits.size()
+                + "건 / 신규 " + fresh.size() + "건");
+        return fresh;
+    }
+}
@@ -0,0 +1,144 @@
+package com.highlight.nuzip.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+// Gemini 프롬프트에 넣기 전에 기사 본문을 다듬어 입력 토큰을 줄입니다.
+// 1. 공백 정규화 (NBSP, zero-width 문자, 연속 공백/줄바꿈 → 공백 1개)
+// 2. 언론사 상투 문구 제거 (송고 위치 표기, 기자 이름/이메일, 저작권/재배포 금지 문구, 구독·제보 안내 등)
+// 3. 토큰 예산(gemini.preprocess.max-input-tokens) 안에서 문장 단위로 자르기 (기사 앞부분 우선)
+// 같은 입력에는 항상 같은 결과를 내며, 이미 처리된 본문을 다시 넣어도 결과가 바뀌지 않습니다.
+@Component
+public class ArticlePreprocessor {
+
+    // GeminiRateLimiter.estimateTokens와 같은 기준 (한국어 기사 기준 약 2자 = 1토큰)
+    private static final int CHARS_PER_TOKEN = 2;
+
+    // 본문 맨 앞의 송고 위치 표기: [서울=뉴시스], (서울=연합뉴스), 【워싱턴=뉴스1】 (여러 개가 이어진 경우 모두)
+    // 괄호 안의 "=" 표기는 본문 중간에서는 (1달러=1,380원 기준)처럼 사실 정보인 경우가 많아 맨 앞에서만 지웁니다.
+    private static final Pattern LEADING_DATELINE = Pattern.compile(
+            "^(?:[\\[(【]\\s?[가-힣A-Za-z ]{1,12}\\s?=\\s?[가-힣A-Za-z0-9 ]{1,15}\\s?[\\])】]\\s?)+");
+
+    // 본문 어디에 있든 지우는 표기
+    private static final Pattern INLINE_BOILERPLATE = Pattern.compile(String.join("|",
+            // (사진=연합뉴스), [그래픽=뉴시스]
+            "[\\[(【](?:사진|그래픽|자료사진|자료|영상|출처)\\s?=[^\\])】]{1,30}[\\])】]",
+            // [이데일리 홍길동 기자], (워싱턴 특파원)
+            "[\\[(【][^\\])】=]{0,30}(?:기자|특파원)[\\])】]",
+            // 홍길동 기자 hong@yna.co.kr / (hong@example.com)
+            "(?:[가-힣]{2,4}\\s?(?:기자|특파원|객원기자|선임기자)\\s?)?\\(?[\\w.+-]+@[\\w-]+(?:\\.[\\w-]+)+\\)?"
+    ));
+
+    // 본문 맨 앞의 "홍길동 기자 =" (송고 위치 표기를 지운 뒤 확인)
+    private static final Pattern LEADING_BYLINE = Pattern.compile("^[가-힣]{2,4}\\s?(?:기자|특파원)\\s?=\\s?");
+
+    // 이 표현이 들어간 문장은 통째로 지웁니다. (기사 내용에도 나올 수 있는 단어는 상투 문구 형태일 때만)
+    private static final Pattern BOILERPLATE_SENTENCE = Pattern.compile(String.join("|",
+            "무단\\s?(?:전재|복제)", "재배포\\s?금지", "저작권자\\s?[ⓒ©(]", "(?i:copyright)\\s?[ⓒ©(]", "[ⓒ©]",
+            "AI\\s?학습\\s?(?:및\\s?활용\\s?)?금지", "기사\\s?제보", "카카오톡\\s?(?:@|제보|채널)", "구독\\s?하기",
+            "[▶☞]"
+    ));
+
+    private final int maxInputTokens;
+
+    public ArticlePreprocessor(@Value("${gemini.preprocess.max-input-tokens:1500}") int maxInputTokens) {
+        this.maxInputTokens = maxInputTokens;
+    }
+
+    public String prepare(String articleContent) {
+        if (articleContent == null || articleContent.isEmpty()) {
+            return "";
+        }
+        String normalized = LEADING_DATELINE.matcher(normalizeWhitespace(articleContent)).replaceFirst("");
+        String stripped = normalizeWhitespace(INLINE_BOILERPLATE.matcher(normalized).replaceAll(" "));
+        stripped = LEADING_BYLINE.matcher(stripped).replaceFirst("");
+
+        int maxChars = Math.max(1, maxInputTokens) * CHARS_PER_TOKEN;
+        StringBuilder sb = new StringBuilder(Math.min(stripped.length(), maxChars));
+        for (String sentence : splitSentences(stripped)) {
+            if (BOILERPLATE_SENTENCE.matcher(sentence).find()) {
+                continue;
+            }
+            int needed = sentence.length() + (sb.length() == 0 ? 0 : 1);
+            if (sb.length() + needed > maxChars) {
+                // 첫 문장부터 예산을 넘으면 단어 경계에서 자릅니다.
+                if (sb.length() == 0) {
+                    sb.append(cutAtWord(sentence, maxChars));
+                }
+                break;
+            }
+            if (sb.length() > 0) {
+                sb.append(' ');
+            }
+            sb.append(sentence);
+        }
+        return sb.toString();
+    }
+
+    // 모든 공백류 문자를 공백 1개로 합치고 앞뒤 공백을 제거합니다.
+    static String normalizeWhitespace(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\u200B' || c == '\u200C' || c == '\u200D' || c == '\uFEFF') {
+                continue;
+            }
+            if (Character.isWhitespace(c) || Character.isSpaceChar(c)) {
+                pendingSpace = sb.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                sb.append(' ');
+                pendingSpace = false;
+            }
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    // 마침표/물음표/느낌표(+닫는 따옴표·괄호) 뒤에 공백이 오는 위치에서 문장을 나눕니다. (3.5% 같은 소수점은 나누지 않음)
+    static List<String> splitSentences(String text) {
+        List<String> sentences = new ArrayList<>();
+        int start = 0;
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c != '.' && c != '?' && c != '!' && c != '。') {
+                continue;
+            }
+            int end = i + 1;
+            while (end < length && isClosing(text.charAt(end))) {
+                end++;
+            }
+            if (end == length || text.charAt(end) == ' ') {
+                String sentence = text.substring(start, end).trim();
+                if (!sentence.isEmpty()) {
+                    sentences.add(sentence);
+                }
+                start = end;
+                i = end - 1;
+            }
+        }
+        if (start < length) {
+            String rest = text.substring(start).trim();
+            if (!rest.isEmpty()) {
+                sentences.add(rest);
+            }
+        }
+        return sentences;
+    }
+
+    private static boolean isClosing(char c) {
+        return c == '"' || c == '\'' || c == '”' || c == '’' || c == ')' || c == ']' || c == '」' || c == '』';
+    }
+
+    private static String cutAtWord(String sentence, int maxChars) {
+        int cut = sentence.lastIndexOf(' ', maxChars);
+        return sentence.substring(0, cut > maxChars / 2 ? cut : maxChars);
+    }
+}
@@ -0,0 +1,119 @@
+package com.highlight.nuzip.service;
+
+import com.highlight.nuzip.model.Category;
+import com.highlight.nuzip.repository.SubscriptionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 카테고리별 적응형 수집 주기를 관리합니다.
+// - 수집할 때마다 지난 수집 이후 새로 나온 기사 수로 시간당 유입률을 관측하고 지수 평활(EWMA)로 누적합니다.
+// - 다음 수집 간격은 "한 번 수집에 새 기사 target-articles-per-poll건 정도"가 되도록 유입률에서 계산하고, 설정된 최소/최대 간격 안으로 제한합니다.
+//   (정치/경제처럼 빠른 카테고리는 자주, 느린 카테고리는 드물게 → 빈 수집으로 낭비되는 네이버 호출 감소)
+// - 수집 시점이 된 카테고리는 유입률과 구독자 수가 큰 순서로 처리합니다.
+// 상태는 category 테이블에 저장하므로 재시작하거나 담당 노드가 바뀌어도 이어집니다.
+@Service
+public class CategoryPollScheduler {
+
+    private final SubscriptionRepository subscriptionRepository;
+
+    @Value("${news.collect.min-interval-seconds:300}")
+    private int minIntervalSeconds;
+
+    @Value("${news.collect.max-interval-seconds:3600}")
+    private int maxIntervalSeconds;
+
+    // 관측값이 없는 카테고리의 첫 간격
+    @Value("${news.collect.initial-interval-seconds:1800}")
+    private int initialIntervalSeconds;
+
+    // 한 번 수집에서 기대하는 신규 기사 수
+    @Value("${news.collect.target-articles-per-poll:10}")
+    private double targetArticlesPerPoll;
+
+    // 유입률 평활 계수 (클수록 최근 관측을 더 반영)
+    @Value("${news.collect.rate-smoothing:0.3}")
+    private double rateSmoothing;
+
+    public CategoryPollScheduler(SubscriptionRepository subscriptionRepository) {
+        this.subscriptionRepository = subscriptionRepository;
+    }
+
+    // 수집 시점이 된 카테고리만 골라 우선순위(유입률, 구독자 수) 순으로 정렬합니다.
+    public List<Category> dueInPriorityOrder(List<Category> categories, LocalDateTime now) {
+        List<Category> due = categories.stream()
+                .filter(category -> category.getNextPollAt() == null || !category.getNextPollAt().isAfter(now))
+                .toList();
+        if (due.size() < 2) {
+            return due;
+        }
+        Map<Long, Long> subscribers = new HashMap<>();
+        for (var row : subscriptionRepository.countSubscribersByCategory()) {
+            subscribers.put(row.getCategoryId(), row.getSubscribers());
+        }
+        return due.stream()
+                .sorted(Comparator.comparingDouble((Category category) -> priority(category, subscribers.getOrDefault(category.getId(), 0L))).reversed())
+                .toList();
+    }
+
+    // 수집 결과를 반영해 유입률과 다음 수집 시각을 갱신합니다. saturated: 네이버 start 한도까지 읽고도 기준점에 닿지 못한 경우
+    public void recordPoll(Category category, int newArticles, boolean saturated, LocalDateTime now) {
+        int previousInterval = category.getPollIntervalSeconds() == null ? clampInterval(initialIntervalSeconds) : category.getPollIntervalSeconds();
+        int interval = previousInterval;
+
+        // 첫 수집(기준점 없음)은 첫 페이지만 읽으므로 유입률로 쓰지 않습니다.
+        if (category.getLastPolledAt() != null) {
+            double hours = Duration.between(category.getLastPolledAt(), now).toMillis() / 3_600_000.0;
+            if (hours > 0) {
+                double sample = newArticles / hours;
+                Double rate = category.getNewArticlesPerHour();
+                double smoothed = rate == null ? sample : rateSmoothing * sample + (1 - rateSmoothing) * rate;
+                category.setNewArticlesPerHour(smoothed);
+                interval = intervalFor(smoothed, previousInterval);
+            }
+        }
+        if (saturated) {
+            // 놓친 기사가 있을 수 있으므로 가장 짧은 간격으로 바로 따라잡습니다.
+            interval = clampInterval(minIntervalSeconds);
+        }
+
+        category.setPollIntervalSeconds(interval);
+        category.setLastPolledAt(now);
+        category.setNextPollAt(now.plusSeconds(interval));
+        if (interval != previousInterval) {
+            System.out.println(">>> [수집 주기] 카테고리 " + category.getName() + ": 시간당 약 "
+                    + String.format("%.1f", category.getNewArticlesPerHour() == null ? 0.0 : category.getNewArticlesPerHour())
+                    + "건 → 수집 간격 " + previousInterval + "초 → " + interval + "초");
+        }
+    }
+
+    // 네이버 호출이 실패한 카테고리는 관측값을 건드리지 않고 최소 간격 뒤에 다시 시도합니다.
+    public void recordFailure(Category category, LocalDateTime now) {
+        category.setNextPollAt(now.plusSeconds(clampInterval(minIntervalSeconds)));
+    }
+
+    // 유입률에 맞춘 간격. 관측이 한두 번 비었다고 갑자기 최대 간격으로 뛰지 않도록 한 번에 최대 2배까지만 늘립니다.
+    private int intervalFor(double articlesPerHour, int previousInterval) {
+        long seconds = articlesPerHour <= 0
+                ? Long.MAX_VALUE
+                : (long) (targetArticlesPerPoll / articlesPerHour * 3600);
+        seconds = Math.min(seconds, (long) previousInterval * 2);
+        return clampInterval(seconds);
+    }
+
+    private int clampInterval(long seconds) {
+        return (int) Math.max(minIntervalSeconds, Math.min(maxIntervalSeconds, seconds));
+    }
+
+    // 유입률이 높고 구독자가 많을수록 먼저 수집합니다. 구독자 수는 로그로 반영해 유입률을 압도하지 않게 합니다.
+    static double priority(Category category, long subscribers) {
+        double rate = category.getNewArticlesPerHour() == null ? 0 : category.getNewArticlesPerHour();
+        return (1 + rate) * (1 + Math.log1p(subscribers));
+    }
+}
@@ -0,0 +1,166 @@
+package com.highlight.nuzip.service;
+
+import com.highlight.nuzip.model.Category;
+import com.highlight.nuzip.repository.ClusterLeaseRepository;
+import com.highlight.nuzip.repository.ClusterNodeRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// 여러 서버(노드)가 같은 DB로 수집할 때 일을 나눠 맡도록 조정합니다. (DB 임대 기반)
+// - 노드는 heartbeat마다 cluster_node에 생존을 기록하고, 가진 임대(cluster_lease)를 모두 연장합니다.
+// - 카테고리는 살아 있는 노드들에 rendezvous hashing으로 나눠지고, 맡은 노드는 "category:{id}" 임대를 잡은 뒤에만 수집합니다.
+//   노드가 늘거나 줄면 담당이 바뀌며, 죽은 노드의 임대는 갱신이 끊겨 만료된 뒤 새 담당 노드가 가져갑니다.
+// - "leader" 임대를 가진 노드 하나만 클러스터 전체에서 한 번만 돌아야 하는 예약 작업(메일 발송, DB 정리)을 실행합니다.
+// 기사 단위 처리(ingestion_task)는 이미 SKIP LOCKED + 작업 임대로 노드 간에 나눠지므로 여기서는 다루지 않습니다.
+@Service
+public class ClusterCoordinator {
+
+    private static final String LEADER_LEASE = "leader";
+    private static final String CATEGORY_LEASE_PREFIX = "category:";
+
+    private final ClusterNodeRepository clusterNodeRepository;
+    private final ClusterLeaseRepository clusterLeaseRepository;
+
+    // 이 서버(노드)를 구분하는 이름 (pid@host). 수집 작업 임대(IngestionTask.claimedBy)에도 같은 이름을 씁니다.
+    private final String nodeId = ManagementFactory.getRuntimeMXBean().getName();
+
+    // 임대 유효 시간. heartbeat 간격보다 충분히 길어야 하며, 노드가 죽은 뒤 담당이 넘어가기까지 걸리는 최대 시간이기도 합니다.
+    @Value("${news.cluster.lease-seconds:60}")
+    private long leaseSeconds;
+
+    // 이 시간 넘게 heartbeat가 없는 노드 기록은 리더가 지웁니다.
+    @Value("${news.cluster.stale-node-hours:24}")
+    private long staleNodeHours;
+
+    private volatile List<String> liveNodes = List.of();
+    // 리더 임대가 (이 노드 시계 기준으로) 확실히 유효한 시각. DB 시계 기준 만료보다 항상 먼저 끝나도록 임대 요청 전에 잽니다.
+    private volatile long leaderValidUntilNanos;
+    private final Set<Long> heldCategories = ConcurrentHashMap.newKeySet();
+
+    public ClusterCoordinator(ClusterNodeRepository clusterNodeRepository, ClusterLeaseRepository clusterLeaseRepository) {
+        this.clusterNodeRepository = clusterNodeRepository;
+        this.clusterLeaseRepository = clusterLeaseRepository;
+    }
+
+    // 생존 기록 + 임대 연장 + 리더 임대 시도 + 살아 있는 노드 목록 갱신
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${news.cluster.heartbeat-seconds:15}", fixedDelayString = "${news.cluster.heartbeat-seconds:15}", timeUnit = TimeUnit.SECONDS)
+    public synchronized void heartbeat() {
+        try {
+            long requestedAt = System.nanoTime();
+            clusterNodeRepository.heartbeat(nodeId);
+            clusterLeaseRepository.renewAll(nodeId, leaseSeconds);
+
+            boolean wasLeader = isLeader();
+            if (tryAcquire(LEADER_LEASE)) {
+                leaderValidUntilNanos = requestedAt + TimeUnit.SECONDS.toNanos(leaseSeconds);
+                if (!wasLeader) {
+                    System.out.println(">>> [Cluster] 이 노드가 리더가 되었습니다. (노드: " + nodeId + ")");
+                }
+            } else {
+                leaderValidUntilNanos = 0;
+            }
+
+            List<String> nodes = clusterNodeRepository.findLiveNodeIds(leaseSeconds);
+            if (!nodes.equals(liveNodes)) {
+                System.out.println(">>> [Cluster] 살아 있는 노드 " + nodes.size() + "개: " + nodes);
+            }
+            liveNodes = nodes;
+
+            if (isLeader()) {
+                clusterNodeRepository.deleteStale(TimeUnit.HOURS.toSeconds(staleNodeHours));
+            }
+        } catch (Exception e) {
+            // DB에 닿지 못하면 임대를 연장할 수 없으므로 리더 역할을 바로 내려놓습니다. (카테고리 임대는 만료되어 다른 노드로 넘어감)
+            leaderValidUntilNanos = 0;
+            System.err.println("!!! [Cluster] heartbeat 실패: " + e.getMessage());
+        }
+    }
+
+    // 활성 카테고리 중 이 노드가 맡을 카테고리만 골라 임대를 잡습니다. 더 이상 내 담당이 아닌 카테고리의 임대는 바로 놓아줍니다.
+    public List<Category> claimShard(List<Category> categories) {
+        if (!liveNodes.contains(nodeId)) {
+            heartbeat();
+        }
+        List<String> nodes = liveNodes.isEmpty() ? List.of(nodeId) : liveNodes;
+
+        List<Category> mine = new ArrayList<>();
+        for (Category category : categories) {
+            String lease = CATEGORY_LEASE_PREFIX + category.getId();
+            if (nodeId.equals(shardOwner(category.getId(), nodes))) {
+                if (tryAcquire(lease)) {
+                    heldCategories.add(category.getId());
+                    mine.add(category);
+                } else {
+                    // 이전 담당 노드의 임대가 아직 남아 있음 → 만료되면 다음 수집에서 가져옴
+                    System.out.println(">>> [Cluster] 카테고리 " + category.getName() + "는 다른 노드가 아직 수집 중이라 이번에는 건너뜁니다.");
+                }
+            } else if (heldCategories.remove(category.getId())) {
+                clusterLeaseRepository.release(lease, nodeId);
+            }
+        }
+        return mine;
+    }
+
+    // 클러스터에서 한 번만 실행해야 하는 작업을 이 노드가 실행해도 되는지
+    public boolean isLeader() {
+        return System.nanoTime() - leaderValidUntilNanos < 0;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public List<String> getLiveNodes() {
+        return liveNodes;
+    }
+
+    // 정상 종료 시 임대를 바로 놓아 다른 노드가 만료를 기다리지 않고 이어받게 합니다.
+    @PreDestroy
+    public void shutdown() {
+        try {
+            leaderValidUntilNanos = 0;
+            clusterLeaseRepository.releaseAll(nodeId);
+            clusterNodeRepository.deleteById(nodeId);
+        } catch (Exception e) {
+            System.err.println("!!! [Cluster] 임대 반납 실패 (만료 후 다른 노드가 이어받습니다): " + e.getMessage());
+        }
+    }
+
+    private boolean tryAcquire(String lease) {
+        return clusterLeaseRepository.takeOver(lease, nodeId, leaseSeconds) > 0
+                || clusterLeaseRepository.insertIgnore(lease, nodeId, leaseSeconds) > 0;
+    }
+
+    // rendezvous (highest random weight) hashing: 노드가 하나 빠지거나 늘어도 그 노드 몫의 카테고리만 옮겨갑니다.
+    static String shardOwner(Long categoryId, List<String> nodes) {
+        String owner = null;
+        long best = Long.MIN_VALUE;
+        for (String node : nodes) {
+            long weight = mix(node.hashCode() * 0x9E3779B97F4A7C15L + categoryId);
+            if (owner == null || weight > best) {
+                best = weight;
+                owner = node;
+            }
+        }
+        return owner;
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,199 @@
+package com.highlight.nuzip.service;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+// 기사 페이지 HTML을 URL별로 로컬 디스크에 gzip 압축해 보관하는 크롤링 캐시입니다.
+// ETag / Last-Modified를 함께 저장하여 조건부 요청(If-None-Match / If-Modified-Since)에 사용합니다.
+@Component
+public class CrawlCache {
+
+    private static final String META_SUFFIX = ".properties";
+    private static final String BODY_SUFFIX = ".html.gz";
+
+    @Value("${crawler.cache.dir:${java.io.tmpdir}/nuzip-crawl-cache}")
+    private String cacheDir;
+
+    // 이 시간 이내의 캐시는 재검증 없이 바로 사용합니다.
+    @Value("${crawler.cache.ttl-minutes:360}")
+    private long ttlMinutes;
+
+    // 이 기간보다 오래 갱신되지 않은 캐시는 정리 작업에서 삭제합니다.
+    @Value("${crawler.cache.max-age-days:14}")
+    private long maxAgeDays;
+
+    private Path root;
+
+    // 캐시된 페이지 (본문 바이트는 압축 해제된 원본)
+    public record Entry(String url, byte[] body, String charset, String etag, String lastModified, Instant fetchedAt) {}
+
+    @PostConstruct
+    public void init() throws IOException {
+        this.root = Path.of(cacheDir);
+        Files.createDirectories(root);
+    }
+
+    public Optional<Entry> get(String url) {
+        Path meta = metaPath(url);
+        Path body = bodyPath(url);
+        if (!Files.exists(meta) || !Files.exists(body)) {
+            return Optional.empty();
+        }
+        try {
+            Properties props = new Properties();
+            try (InputStream in = Files.newInputStream(meta)) {
+                props.load(in);
+            }
+            // 해시 충돌 방지: 저장된 URL이 다르면 캐시 미스로 처리
+            if (!url.equals(props.getProperty("url"))) {
+                return Optional.empty();
+            }
+            byte[] bytes;
+            try (InputStream in = new GZIPInputStream(Files.newInputStream(body))) {
+                bytes = in.readAllBytes();
+            }
+            return Optional.of(new Entry(
+                    url,
+                    bytes,
+                    props.getProperty("charset"),
+                    props.getProperty("etag"),
+                    props.getProperty("lastModified"),
+                    Instant.ofEpochMilli(Long.parseLong(props.getProperty("fetchedAt", "0")))));
+        } catch (Exception e) {
+            System.err.println("크롤링 캐시 읽기 실패 (" + url + "): " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    // TTL 이내에 받아온(또는 재검증된) 캐시인지 확인합니다.
+    public boolean isFresh(Entry entry) {
+        return entry.fetchedAt().plus(Duration.ofMinutes(ttlMinutes)).isAfter(Instant.now());
+    }
+
+    public void put(String url, byte[] body, String charset, String etag, String lastModified) {
+        try {
+            Path bodyTmp = Files.createTempFile(root, "body", ".tmp");
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(bodyTmp))) {
+                out.write(body);
+            }
+            Files.move(bodyTmp, bodyPath(url), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            writeMeta(url, charset, etag, lastModified, Instant.now());
+        } catch (IOException e) {
+            System.err.println("크롤링 캐시 저장 실패 (" + url + "): " + e.getMessage());
+        }
+    }
+
+    // 304 Not Modified로 재검증된 캐시의 수집 시각만 갱신합니다.
+    public Entry touch(Entry entry) {
+        try {
+            writeMeta(entry.url(), entry.charset(), entry.etag(), entry.lastModified(), Instant.now());
+        } catch (IOException e) {
+            System.err.println("크롤링 캐시 갱신 실패 (" + entry.url() + "): " + e.getMessage());
+        }
+        return new Entry(entry.url(), entry.body(), entry.charset(), entry.etag(), entry.lastModified(), Instant.now());
+    }
+
+    // 매일 새벽 4시에 오래된 캐시를 정리합니다.
+    // 만료 여부는 메타 파일의 fetchedAt(304 재검증 시 touch로 갱신)으로 판단하고, 본문과 메타를 함께 지웁니다.
+    // (본문 파일은 재검증 때 다시 쓰지 않으므로 파일 수정 시각으로 판단하면 재검증된 캐시의 본문만 지워짐)
+    // 메타 없이 남은 본문, 저장 중 남은 임시 파일은 파일 수정 시각이 오래된 것만 지웁니다. (저장 중인 파일과 겹치지 않도록)
+    @Scheduled(cron = "0 0 4 * * *", zone = "Asia/Seoul")
+    public void evictExpired() {
+        Instant threshold = Instant.now().minus(Duration.ofDays(maxAgeDays));
+        int removed = 0;
+        int orphans = 0;
+        try (Stream<Path> files = Files.list(root)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String name = file.getFileName().toString();
+                try {
+                    if (name.endsWith(META_SUFFIX)) {
+                        if (fetchedAt(file).isBefore(threshold)) {
+                            String key = name.substring(0, name.length() - META_SUFFIX.length());
+                            Files.deleteIfExists(root.resolve(key + BODY_SUFFIX));
+                            Files.deleteIfExists(file);
+                            removed++;
+                        }
+                    } else if (Files.getLastModifiedTime(file).toInstant().isBefore(threshold) && !hasMeta(name)) {
+                        Files.deleteIfExists(file);
+                        orphans++;
+                    }
+                } catch (NoSuchFileException e) {
+                    // 목록을 읽은 뒤 지워진 파일 (메타와 함께 지운 본문 등)
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("크롤링 캐시 정리 실패: " + e.getMessage());
+        }
+        System.out.println(">>> [CrawlCache] 오래된 캐시 정리: " + removed + "건, 남은 파일 " + orphans + "개");
+    }
+
+    // 메타 파일의 fetchedAt. 읽을 수 없으면 파일 수정 시각을 씁니다.
+    private static Instant fetchedAt(Path meta) throws IOException {
+        try (InputStream in = Files.newInputStream(meta)) {
+            Properties props = new Properties();
+            props.load(in);
+            return Instant.ofEpochMilli(Long.parseLong(props.getProperty("fetchedAt")));
+        } catch (IOException | RuntimeException e) {
+            return Files.getLastModifiedTime(meta).toInstant();
+        }
+    }
+
+    // 본문 파일이면 짝이 되는 메타 파일이 있는지 (메타가 있는 본문은 메타 기준으로 함께 정리합니다)
+    private boolean hasMeta(String name) {
+        return name.endsWith(BODY_SUFFIX)
+                && Files.exists(root.resolve(name.substring(0, name.length() - BODY_SUFFIX.length()) + META_SUFFIX));
+    }
+
+    private void writeMeta(String url, String charset, String etag, String lastModified, Instant fetchedAt) throws IOException {
+        Properties props = new Properties();
+        props.setProperty("url", url);
+        props.setProperty("fetchedAt", String.valueOf(fetchedAt.toEpochMilli()));
+        if (charset != null) props.setProperty("charset", charset);
+        if (etag != null) props.setProperty("etag", etag);
+        if (lastModified != null) props.setProperty("lastModified", lastModified);
+
+        Path metaTmp = Files.createTempFile(root, "meta", ".tmp");
+        try (OutputStream out = Files.newOutputStream(metaTmp)) {
+            props.store(out, null);
+        }
+        Files.move(metaTmp, metaPath(url), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private Path metaPath(String url) {
+        return root.resolve(key(url) + META_SUFFIX);
+    }
+
+    private Path bodyPath(String url) {
+        return root.resolve(key(url) + BODY_SUFFIX);
+    }
+
+    private static String key(String url) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(url.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.highlight.nuzip.service;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+// 기사 페이지 크롤링 전용 HTTP 클라이언트입니다.
+// - 하나의 공유 HttpClient(HTTP/2 우선, keep-alive 커넥션 재사용)
+// - 언론사(호스트)별 동시 요청 수 제한과 요청 간 최소 간격(politeness delay)
+// - 응답 크기 상한을 둔 스트리밍 다운로드
+// - CrawlCache를 이용한 조건부 요청
+@Component
+public class CrawlerClient {
+
+    private static final String USER_AGENT = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 "
+            + "(KHTML, like Gecko) Chrome/118.0.0.0 Safari/537.36";
+
+    private final CrawlCache crawlCache;
+
+    @Value("${crawler.connect-timeout-seconds:5}")
+    private int connectTimeoutSeconds;
+
+    @Value("${crawler.request-timeout-seconds:10}")
+    private int requestTimeoutSeconds;
+
+    // 같은 호스트에 동시에 보낼 수 있는 최대 요청 수
+    @Value("${crawler.per-host-concurrency:2}")
+    private int perHostConcurrency;
+
+    // 같은 호스트에 대한 요청 시작 간 최소 간격 (밀리초)
+    @Value("${crawler.politeness-delay-millis:500}")
+    private long politenessDelayMillis;
+
+    // 다운로드할 최대 응답 크기 (바이트). 초과하면 크롤링 실패로 처리합니다.
+    @Value("${crawler.max-body-bytes:3145728}")
+    private int maxBodyBytes;
+
+    private HttpClient httpClient;
+    private final Map<String, HostGate> hostGates = new ConcurrentHashMap<>();
+
+    // 크롤링 결과 (본문은 압축 해제된 원본 바이트, charset은 응답 헤더 기준이며 없으면 null)
+    public record CrawledPage(String url, byte[] body, String charset) {}
+
+    public CrawlerClient(CrawlCache crawlCache) {
+        this.crawlCache = crawlCache;
+    }
+
+    @PostConstruct
+    public void init() {
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(Duration.ofSeconds(connectTimeoutSeconds))
+                .build();
+    }
+
+    public CrawledPage fetch(String url) throws IOException, InterruptedException {
+        CrawlCache.Entry cached = crawlCache.get(url).orElse(null);
+        if (cached != null && crawlCache.isFresh(cached)) {
+            System.out.println(">>> [CrawlCache] 캐시 사용: " + url);
+            return new CrawledPage(url, cached.body(), cached.charset());
+        }
+
+        URI uri = URI.create(url);
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
+                .timeout(Duration.ofSeconds(requestTimeoutSeconds))
+                .header("User-Agent", USER_AGENT)
+                .header("Accept", "text/html,application/xhtml+xml")
+                .header("Accept-Encoding", "gzip")
+                .GET();
+        if (cached != null && cached.etag() != null) {
+            builder.header("If-None-Match", cached.etag());
+        }
+        if (cached != null && cached.lastModified() != null) {
+            builder.header("If-Modified-Since", cached.lastModified());
+        }
+
+        HostGate gate = hostGates.computeIfAbsent(
+                uri.getHost() == null ? "" : uri.getHost().toLowerCase(Locale.ROOT),
+                host -> new HostGate(perHostConcurrency));
+        gate.enter(politenessDelayMillis);
+        try {
+            HttpResponse<InputStream> response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofInputStream());
+            try (InputStream raw = response.body()) {
+                if (response.statusCode() == 304 && cached != null) {
+                    System.out.println(">>> [CrawlCache] 304 Not Modified, 캐시 재사용: " + url);
+                    CrawlCache.Entry revalidated = crawlCache.touch(cached);
+                    return new CrawledPage(url, revalidated.body(), revalidated.charset());
+                }
+                if (response.statusCode() >= 400) {
+                    throw new IOException("HTTP error fetching URL. Status=" + response.statusCode() + ", URL=" + url);
+                }
+
+                boolean gzip = response.headers().firstValue("Content-Encoding")
+                        .map(encoding -> encoding.toLowerCase(Locale.ROOT).contains("gzip"))
+                        .orElse(false);
+                byte[] body = readLimited(gzip ? new GZIPInputStream(raw) : raw, url);
+                String charset = parseCharset(response.headers().firstValue("Content-Type").orElse(null));
+
+                crawlCache.put(url, body, charset,
+                        response.headers().firstValue("ETag").orElse(null),
+                        response.headers().firstValue("Last-Modified").orElse(null));
+                return new CrawledPage(url, body, charset);
+            }
+        } finally {
+            gate.exit();
+        }
+    }
+
+    // 응답 본문을 스트리밍으로 읽되 crawler.max-body-bytes를 넘으면 중단합니다.
+    private byte[] readLimited(InputStream in, String url) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64 * 1024);
+        byte[] buffer = new byte[16 * 1024];
+        int total = 0;
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            total += read;
+            if (total > maxBodyBytes) {
+                throw new IOException("응답 크기 상한(" + maxBodyBytes + " bytes) 초과: " + url);
+            }
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+
+    private static String parseCharset(String contentType) {
+        if (contentType == null) {
+            return null;
+        }
+        for (String part : contentType.split(";")) {
+            String trimmed = part.trim();
+            if (trimmed.regionMatches(true, 0, "charset=", 0, 8)) {
+                return trimmed.substring(8).replace("\"", "").trim();
+            }
+        }
+        return null;
+    }
+
+    // 호스트별 동시 요청 수 제한과 요청 간 최소 간격을 관리합니다.
+    private static final class HostGate {
+        private final Semaphore permits;
+        private long nextStartNanos = System.nanoTime();
+
+        HostGate(int concurrency) {
+            this.permits = new Semaphore(Math.max(1, concurrency), true);
+        }
+
+        void enter(long delayMillis) throws InterruptedException {
+            permits.acquire();
+            long waitNanos;
+            synchronized (this) {
+                long now = System.nanoTime();
+                long start = Math.max(now, nextStartNanos);
+                nextStartNanos = start + TimeUnit.MILLISECONDS.toNanos(delayMillis);
+                waitNanos = start - now;
+            }
+            if (waitNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(waitNanos);
+                } catch (InterruptedException e) {
+                    permits.release();
+                    throw e;
+                }
+            }
+        }
+
+        void exit() {
+            permits.release();
+        }
+    }
+}
@@ -29,6 +29,7 @@ public class DailyBroadcastEmailScheduler {
     private final UserRepository userRepository;
     private final NewsArticleRepository newsArticleRepository;
     private final GmailOAuthMailSender mailSender;
+    private final ClusterCoordinator clusterCoordinator;
 
     @Value("${daily.mail.subject:[NUZIP] Daily Notice}")
     private String subject;
@@ -38,6 +39,11 @@ public class DailyBroadcastEmailScheduler {
 
     @Scheduled(cron = "0 0 9 * * *", zone = "Asia/Seoul")
     public void sendDailyBroadcast() {
+        // 서버를 여러 대 띄워도 메일은 리더 노드에서 한 번만 발송합니다.
+        if (!clusterCoordinator.isLeader()) {
+            log.info("리더 노드가 아니므로 09:00 메일 발송을 건너뜁니다. (노드: {})", clusterCoordinator.getNodeId());
+            return;
+        }
         log.info("09:00 메일을 발송합니다.");
 
         List<User> users = userRepository.findAll();
@@ -0,0 +1,31 @@
+package com.highlight.nuzip.service;
+
+import com.highlight.nuzip.dto.NewsAnalysisResponse;
+
+import java.util.List;
+
+// Gemini 분석이 결과를 내지 못했을 때(API 오류 응답, 응답 형식 오류, 요청 실패, API 키 누락) 발생합니다.
+// 오류를 요약 문구로 돌려주지 않고 예외로 알리므로, 호출하는 쪽은 요약 내용을 들여다보지 않고 재시도 여부를 정합니다.
+// 할당량 초과(429)는 GeminiQuotaExceededException으로 따로 전달됩니다.
+public class GeminiAnalysisException extends RuntimeException {
+
+    // 배치 중 일부만 실패한 경우 입력 순서대로의 결과 (실패한 항목은 null). 전체가 실패했으면 null
+    private final List<NewsAnalysisResponse> partialResults;
+
+    public GeminiAnalysisException(String message) {
+        this(message, null, null);
+    }
+
+    public GeminiAnalysisException(String message, Throwable cause) {
+        this(message, cause, null);
+    }
+
+    public GeminiAnalysisException(String message, Throwable cause, List<NewsAnalysisResponse> partialResults) {
+        super(message, cause);
+        this.partialResults = partialResults;
+    }
+
+    public List<NewsAnalysisResponse> getPartialResults() {
+        return partialResults;
+    }
+}
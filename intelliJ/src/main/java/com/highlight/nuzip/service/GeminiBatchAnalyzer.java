@@ -0,0 +1,241 @@
+package com.highlight.nuzip.service;
+
+import com.highlight.nuzip.config.GeminiConfig;
+import com.highlight.nuzip.dto.NewsAnalysisResponse;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// 여러 스레드에서 들어오는 기사 분석 요청을 모아 GeminiService.analyzeNewsArticles 한 번으로 처리합니다.
+// gemini.batch.size개가 모이거나 gemini.batch.linger-millis가 지나면 배치를 전송합니다.
+// 429로 밀려난 배치는 버리지 않고 백오프 후 다시 대기열에 넣습니다. (최대 gemini.rate-limit.max-requeues회)
+@Component
+public class GeminiBatchAnalyzer {
+
+    private final GeminiService geminiService;
+    private final GeminiConfig config;
+
+    // 429 백오프 상한
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(5);
+
+    // 한 요청에 묶을 최대 기사 수 (1이면 배치 없이 개별 호출)
+    @Value("${gemini.batch.size:5}")
+    private int batchSize;
+
+    // 첫 요청 이후 추가 요청을 기다리는 최대 시간 (밀리초)
+    @Value("${gemini.batch.linger-millis:2000}")
+    private long lingerMillis;
+
+    // 동시에 전송 중일 수 있는 배치 요청 수
+    @Value("${gemini.batch.max-in-flight:2}")
+    private int maxInFlight;
+
+    // 호출한 스레드가 분석 결과를 기다리는 최대 시간 (초)
+    @Value("${gemini.batch.wait-seconds:600}")
+    private long waitSeconds;
+
+    private final BlockingQueue<PendingAnalysis> pending = new LinkedBlockingQueue<>();
+    private ExecutorService dispatcher;
+    private ExecutorService senders;
+    private Semaphore inFlight;
+    private ScheduledExecutorService requeueScheduler;
+    private volatile boolean running = true;
+
+    public GeminiBatchAnalyzer(GeminiService geminiService, GeminiConfig config) {
+        this.geminiService = geminiService;
+        this.config = config;
+    }
+
+    @PostConstruct
+    public void start() {
+        this.inFlight = new Semaphore(Math.max(1, maxInFlight));
+        this.senders = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "gemini-batch-sender");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.dispatcher = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "gemini-batch-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.requeueScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "gemini-batch-requeue");
+            thread.setDaemon(true);
+            return thread;
+        });
+        dispatcher.submit(this::dispatchLoop);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        dispatcher.shutdownNow();
+        senders.shutdown();
+        requeueScheduler.shutdownNow();
+    }
+
+    // 기사 본문 1건의 분석을 요청하고 결과를 기다립니다. (기존 analyzeNewsArticle과 동일한 예외 의미를 유지)
+    // 본문은 ArticlePreprocessor.prepare를 거친 텍스트를 그대로 넘깁니다. (여기서는 다시 전처리하지 않음)
+    // 시간 초과나 인터럽트로 기다림을 포기하면 요청을 취소해, 아직 전송 전이면 Gemini에 보내지 않게 합니다. (결과를 읽을 쪽이 없으므로)
+    public NewsAnalysisResponse analyze(String articleContent) {
+        CompletableFuture<NewsAnalysisResponse> future = submit(articleContent);
+        try {
+            return future.get(waitSeconds, TimeUnit.SECONDS);
+        } catch (ExecutionException | CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException(e.getCause());
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            throw new RuntimeException("Gemini 배치 분석 대기 시간 초과 (" + waitSeconds + "초)", e);
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Gemini 배치 분석 대기 중 인터럽트", e);
+        }
+    }
+
+    // 결과를 더 기다리지 않게 되면 반환된 future를 취소하세요. 취소된 요청은 배치에 넣지 않습니다.
+    public CompletableFuture<NewsAnalysisResponse> submit(String articleContent) {
+        PendingAnalysis request = new PendingAnalysis(articleContent, new CompletableFuture<>(), 0);
+        pending.add(request);
+        return request.future();
+    }
+
+    private void dispatchLoop() {
+        while (running) {
+            try {
+                PendingAnalysis first = pending.take();
+                if (first.future().isDone()) {
+                    continue; // 기다리던 쪽이 포기(취소)한 요청
+                }
+                List<PendingAnalysis> batch = new ArrayList<>(batchSize);
+                batch.add(first);
+
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+                while (batch.size() < batchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    PendingAnalysis next = pending.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    if (!next.future().isDone()) {
+                        batch.add(next);
+                    }
+                }
+                senders.submit(() -> send(batch));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                System.err.println("!!! [GeminiBatch] 배치 구성 중 오류: " + e.getMessage());
+            }
+        }
+    }
+
+    // 전송 스레드는 동시 전송 한도를 확보할 때까지만 대기하고, 레이트 리미터 허용량 확보와 응답 처리는 GeminiClient에서 비동기로 진행합니다.
+    // 누락 항목의 개별 재시도도 같은 호출 안에서 이뤄지므로 동시 전송 한도(inFlight)를 함께 씁니다.
+    private void send(List<PendingAnalysis> queued) {
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            queued.forEach(request -> request.future().completeExceptionally(e));
+            return;
+        }
+        // 동시 전송 한도를 기다리는 동안 취소된 요청은 보내지 않습니다.
+        List<PendingAnalysis> batch = queued.stream().filter(request -> !request.future().isDone()).toList();
+        if (batch.isEmpty()) {
+            inFlight.release();
+            return;
+        }
+
+        CompletableFuture<List<NewsAnalysisResponse>> call;
+        try {
+            call = geminiService.analyzeNewsArticlesAsync(batch.stream().map(PendingAnalysis::content).toList());
+        } catch (Exception e) {
+            inFlight.release();
+            fail(batch, e);
+            return;
+        }
+        call.whenComplete((results, error) -> {
+            inFlight.release();
+            if (error != null) {
+                fail(batch, GeminiService.unwrap(error));
+                return;
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).future().complete(results.get(i));
+            }
+        });
+    }
+
+    // 배치 중 이미 분석된 요청은 그 결과로 완료하고, 결과를 얻지 못한 요청만 할당량 초과면 다시 대기열에 넣고 그 밖의 오류면 실패시킵니다.
+    private void fail(List<PendingAnalysis> batch, Throwable error) {
+        if (error instanceof GeminiQuotaExceededException quotaExceeded) {
+            List<NewsAnalysisResponse> partial = quotaExceeded.getPartialResults();
+            for (int i = 0; i < batch.size(); i++) {
+                if (partial != null && partial.get(i) != null) {
+                    batch.get(i).future().complete(partial.get(i));
+                } else {
+                    requeue(batch.get(i), quotaExceeded);
+                }
+            }
+        } else if (error instanceof GeminiAnalysisException analysisFailed && analysisFailed.getPartialResults() != null) {
+            List<NewsAnalysisResponse> partial = analysisFailed.getPartialResults();
+            for (int i = 0; i < batch.size(); i++) {
+                if (partial.get(i) != null) {
+                    batch.get(i).future().complete(partial.get(i));
+                } else {
+                    batch.get(i).future().completeExceptionally(error);
+                }
+            }
+        } else {
+            batch.forEach(request -> request.future().completeExceptionally(error));
+        }
+    }
+
+    // 할당량 초과로 실패한 요청을 백오프 후 다시 대기열에 넣습니다.
+    private void requeue(PendingAnalysis request, GeminiQuotaExceededException cause) {
+        if (request.future().isDone()) {
+            return; // 그사이 취소됨
+        }
+        if (request.attempt() >= config.getMaxRequeues()) {
+            request.future().completeExceptionally(cause);
+            return;
+        }
+        Duration backoff = Duration.ofSeconds((long) config.getBaseBackoffSeconds() << request.attempt());
+        if (cause.getRetryAfter() != null && cause.getRetryAfter().compareTo(backoff) > 0) {
+            backoff = cause.getRetryAfter();
+        }
+        if (backoff.compareTo(MAX_BACKOFF) > 0) {
+            backoff = MAX_BACKOFF;
+        }
+        PendingAnalysis retry = new PendingAnalysis(request.content(), request.future(), request.attempt() + 1);
+        System.out.println(">>> [GeminiBatch] 할당량 초과로 " + backoff.toSeconds() + "초 후 재시도 (시도 " + retry.attempt() + "회차)");
+        requeueScheduler.schedule(() -> pending.add(retry), backoff.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private record PendingAnalysis(String content, CompletableFuture<NewsAnalysisResponse> future, int attempt) {}
+}
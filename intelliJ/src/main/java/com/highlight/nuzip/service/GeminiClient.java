@@ -0,0 +1,244 @@
+package com.highlight.nuzip.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.highlight.nuzip.config.GeminiConfig;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Gemini generateContent API 비동기 클라이언트입니다.
+// - 공유 HttpClient(HTTP/2, 커넥션 재사용)와 응답 처리 전용 소규모 스레드 풀을 사용하며, 응답을 기다리는 동안 호출 스레드를 막지 않습니다.
+// - 요청 본문은 Jackson 스트리밍 생성기로 바로 바이트에 쓰므로 프롬프트의 따옴표/줄바꿈 등이 올바르게 이스케이프됩니다.
+// - 응답은 스트리밍 파서로 candidates[0].content.parts[0].text까지만 따라가 모델 출력(JSON 문자열)을 꺼낸 뒤 바로 결과 타입으로 변환합니다.
+// - 요청 전 GeminiRateLimiter로 RPM/TPM 허용량을 (비동기로) 확보하고, 429이면 리미터를 멈추고 GeminiQuotaExceededException으로 실패시킵니다.
+@Component
+public class GeminiClient {
+
+    private static final String BASE_URL = "https://generativelanguage.googleapis.com/v1beta/models/";
+
+    // 429 응답 본문의 RetryInfo.retryDelay (예: "37s") 추출용
+    private static final Pattern RETRY_DELAY_PATTERN = Pattern.compile("\"retryDelay\"\\s*:\\s*\"(\\d+(?:\\.\\d+)?)s\"");
+
+    private final GeminiConfig config;
+    private final ObjectMapper objectMapper;
+    private final GeminiRateLimiter rateLimiter;
+    private final JsonFactory jsonFactory;
+
+    // 응답 수신/파싱 콜백을 실행할 스레드 수
+    @Value("${gemini.client.threads:4}")
+    private int threads;
+
+    // generateContent URL 앞부분 (테스트/벤치마크용 스텁 서버로 바꿀 수 있음)
+    @Value("${gemini.base-url:" + BASE_URL + "}")
+    private String baseUrl;
+
+    private ExecutorService executor;
+    private HttpClient httpClient;
+
+    // 호출 결과. value가 null이면 error에 원인(HTTP 오류 본문 또는 파싱 실패 사유)이 들어 있습니다.
+    public record Result<T>(int status, T value, String error) {}
+
+    public GeminiClient(GeminiConfig config, ObjectMapper objectMapper, GeminiRateLimiter rateLimiter) {
+        this.config = config;
+        this.objectMapper = objectMapper;
+        this.rateLimiter = rateLimiter;
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+            Thread thread = new Thread(runnable, "gemini-http-" + seq.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofSeconds(config.getTimeoutSeconds()))
+                .executor(executor)
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // JSON 응답 모드(responseSchema)로 요청하고, 모델 출력 JSON을 resultType으로 변환합니다.
+    // 허용량 확보(rateLimiter.acquireAsync)부터 응답 처리까지 모두 비동기로 진행되며 호출 스레드를 막지 않습니다.
+    // (배치 응답 콜백에서 누락 항목을 재시도할 때도 gemini-http 스레드가 허용량을 기다리며 잠들지 않음)
+    public <T> CompletableFuture<Result<T>> sendAsync(String prompt, String responseSchema, int maxOutputTokens, Class<T> resultType) {
+        byte[] body;
+        try {
+            body = writeRequest(prompt, responseSchema, maxOutputTokens);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return rateLimiter.acquireAsync(GeminiRateLimiter.estimateTokens(prompt, maxOutputTokens))
+                .thenCompose(acquired -> httpClient.sendAsync(buildRequest(body), HttpResponse.BodyHandlers.ofByteArray()))
+                .thenApply(response -> {
+                    int status = response.statusCode();
+                    if (status == 429) {
+                        String errorBody = new String(response.body(), StandardCharsets.UTF_8);
+                        System.err.println("API Error (429 Quota Exceeded): " + errorBody);
+                        Duration retryAfter = parseRetryAfter(response.headers().firstValue("Retry-After").orElse(null), errorBody);
+                        rateLimiter.pauseFor(retryAfter != null ? retryAfter : Duration.ofSeconds(config.getBaseBackoffSeconds()));
+                        throw new GeminiQuotaExceededException("Gemini API 할당량 초과 (429) 오류 발생. 상세: " + errorBody, retryAfter);
+                    }
+                    if (status != 200) {
+                        return new Result<>(status, null, new String(response.body(), StandardCharsets.UTF_8));
+                    }
+                    return readResult(response.body(), resultType);
+                });
+    }
+
+    // 응답이 필요 없는 일반 텍스트 요청 (피드백 전송 등). 레이트 리미터를 거치지 않습니다.
+    public CompletableFuture<Integer> sendTextAsync(String prompt, int maxOutputTokens) {
+        try {
+            byte[] body = writeRequest(prompt, null, maxOutputTokens);
+            return httpClient.sendAsync(buildRequest(body), HttpResponse.BodyHandlers.discarding())
+                    .thenApply(HttpResponse::statusCode);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    // {"contents":[{"role":"user","parts":[{"text":...}]}],"generationConfig":{...}}
+    byte[] writeRequest(String prompt, String responseSchema, int maxOutputTokens) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(prompt.length() * 3 + 512);
+        try (JsonGenerator gen = jsonFactory.createGenerator(out)) {
+            gen.writeStartObject();
+            gen.writeArrayFieldStart("contents");
+            gen.writeStartObject();
+            gen.writeStringField("role", "user");
+            gen.writeArrayFieldStart("parts");
+            gen.writeStartObject();
+            gen.writeStringField("text", prompt);
+            gen.writeEndObject();
+            gen.writeEndArray();
+            gen.writeEndObject();
+            gen.writeEndArray();
+
+            gen.writeObjectFieldStart("generationConfig");
+            gen.writeNumberField("temperature", config.getTemperature());
+            gen.writeNumberField("maxOutputTokens", maxOutputTokens);
+            if (responseSchema != null) {
+                gen.writeStringField("responseMimeType", "application/json");
+                gen.writeFieldName("responseSchema");
+                gen.writeRawValue(responseSchema); // 코드에 정의된 스키마 상수 (JSON 그대로 사용)
+            }
+            gen.writeEndObject();
+            gen.writeEndObject();
+        }
+        return out.toByteArray();
+    }
+
+    // 응답 본문을 트리로 만들지 않고 모델 출력 텍스트까지만 스트리밍으로 읽은 뒤 결과 타입으로 변환합니다.
+    <T> Result<T> readResult(byte[] responseBody, Class<T> resultType) {
+        String text;
+        try (JsonParser parser = jsonFactory.createParser(responseBody)) {
+            text = findCandidateText(parser);
+        } catch (IOException e) {
+            return new Result<>(200, null, "응답 JSON 처리 오류: " + e.getMessage());
+        }
+        if (text == null) {
+            return new Result<>(200, null, "응답에서 텍스트 노드를 찾을 수 없습니다: " + new String(responseBody, StandardCharsets.UTF_8));
+        }
+        try {
+            return new Result<>(200, objectMapper.readValue(text, resultType), null);
+        } catch (IOException e) {
+            return new Result<>(200, null, "Gemini가 반환한 내용이 유효한 JSON이 아닙니다: " + text);
+        }
+    }
+
+    // candidates[0].content.parts[0].text 값을 찾습니다. 없으면 null.
+    private static String findCandidateText(JsonParser p) throws IOException {
+        if (p.nextToken() != JsonToken.START_OBJECT
+                || !moveToField(p, "candidates") || p.currentToken() != JsonToken.START_ARRAY
+                || p.nextToken() != JsonToken.START_OBJECT
+                || !moveToField(p, "content") || p.currentToken() != JsonToken.START_OBJECT
+                || !moveToField(p, "parts") || p.currentToken() != JsonToken.START_ARRAY
+                || p.nextToken() != JsonToken.START_OBJECT
+                || !moveToField(p, "text") || p.currentToken() != JsonToken.VALUE_STRING) {
+            return null;
+        }
+        return p.getText();
+    }
+
+    // 현재 객체 안에서 field를 찾을 때까지 다른 필드 값을 건너뜁니다. 찾으면 값 토큰에 위치합니다.
+    private static boolean moveToField(JsonParser p, String field) throws IOException {
+        while (p.nextToken() == JsonToken.FIELD_NAME) {
+            String name = p.currentName();
+            p.nextToken();
+            if (field.equals(name)) {
+                return true;
+            }
+            p.skipChildren();
+        }
+        return false;
+    }
+
+    private HttpRequest buildRequest(byte[] body) {
+        return HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + config.getModel() + ":generateContent"))
+                .header("Content-Type", "application/json; charset=utf-8")
+                .header("x-goog-api-key", config.getApiKey())
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .timeout(Duration.ofSeconds(config.getTimeoutSeconds()))
+                .build();
+    }
+
+    // 재시도 대기 시간을 Retry-After 헤더(초) → Retry-After 헤더(HTTP 날짜, RFC 1123) → 응답 본문의 RetryInfo.retryDelay 순으로 읽습니다.
+    // 한 형식을 읽지 못해도 다음 형식을 시도하며, 모두 없거나 읽지 못하면 null입니다. 이미 지난 날짜는 0초입니다.
+    static Duration parseRetryAfter(String header, String body) {
+        if (header != null && !header.isBlank()) {
+            String value = header.trim();
+            try {
+                return Duration.ofSeconds(Long.parseLong(value));
+            } catch (NumberFormatException e) {
+                // HTTP 날짜 형식일 수 있음
+            }
+            try {
+                Duration untilDate = Duration.between(Instant.now(), ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME));
+                return untilDate.isNegative() ? Duration.ZERO : untilDate;
+            } catch (DateTimeParseException e) {
+                System.err.println("Retry-After 헤더 파싱 실패: " + value);
+            }
+        }
+        Matcher matcher = RETRY_DELAY_PATTERN.matcher(body == null ? "" : body);
+        if (matcher.find()) {
+            try {
+                return Duration.ofMillis((long) (Double.parseDouble(matcher.group(1)) * 1000));
+            } catch (NumberFormatException e) {
+                System.err.println("retryDelay 파싱 실패: " + matcher.group(1));
+            }
+        }
+        return null;
+    }
+}
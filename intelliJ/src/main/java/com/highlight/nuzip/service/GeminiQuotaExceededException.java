@@ -0,0 +1,33 @@
+package com.highlight.nuzip.service;
+
+import com.highlight.nuzip.dto.NewsAnalysisResponse;
+
+import java.time.Duration;
+import java.util.List;
+
+// Gemini API가 429(할당량 초과)를 반환했을 때 발생합니다. 서버가 알려준 재시도 대기 시간을 함께 전달합니다.
+public class GeminiQuotaExceededException extends RuntimeException {
+
+    private final Duration retryAfter;
+    // 배치 중 일부만 할당량 초과로 실패한 경우 입력 순서대로의 결과 (실패한 항목은 null). 전체가 실패했으면 null
+    private final List<NewsAnalysisResponse> partialResults;
+
+    public GeminiQuotaExceededException(String message, Duration retryAfter) {
+        this(message, retryAfter, null);
+    }
+
+    public GeminiQuotaExceededException(String message, Duration retryAfter, List<NewsAnalysisResponse> partialResults) {
+        super(message);
+        this.retryAfter = retryAfter;
+        this.partialResults = partialResults;
+    }
+
+    // 서버가 재시도 시간을 알려주지 않았다면 null
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    public List<NewsAnalysisResponse> getPartialResults() {
+        return partialResults;
+    }
+}
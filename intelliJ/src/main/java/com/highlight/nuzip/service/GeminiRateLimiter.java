@@ -0,0 +1,147 @@
+package com.highlight.nuzip.service;
+
+import com.highlight.nuzip.config.GeminiConfig;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Gemini 호출 전에 RPM/TPM 토큰 버킷에서 허용량을 확보하여 429가 나기 전에 속도를 조절합니다.
+// 429가 발생하면 서버가 알려준 Retry-After 동안 모든 호출을 멈춥니다.
+@Component
+public class GeminiRateLimiter {
+
+    private final double requestCapacity;
+    private final double tokenCapacity;
+    private final double requestsPerNano;
+    private final double tokensPerNano;
+
+    private double availableRequests;
+    private double availableTokens;
+    private long lastRefillNanos;
+    private long pausedUntilNanos;
+
+    // 허용량이 생길 때까지 기다린 요청을 다시 시도하는 스레드
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "gemini-rate-limiter");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Autowired
+    public GeminiRateLimiter(GeminiConfig config) {
+        this(config.getRequestsPerMinute() * headroom(config), config.getTokensPerMinute() * headroom(config));
+    }
+
+    // 분당 요청 수/토큰 수를 직접 지정한 리미터 (재분석 백필처럼 공용 한도의 일부만 쓰는 작업용)
+    GeminiRateLimiter(double requestsPerMinute, double tokensPerMinute) {
+        this.requestCapacity = Math.max(1, requestsPerMinute);
+        this.tokenCapacity = Math.max(1, tokensPerMinute);
+        this.requestsPerNano = requestCapacity / TimeUnit.MINUTES.toNanos(1);
+        this.tokensPerNano = tokenCapacity / TimeUnit.MINUTES.toNanos(1);
+        // 기동 직후 한꺼번에 몰리지 않도록 버킷을 1요청분만 채운 상태로 시작합니다.
+        this.availableRequests = 1;
+        this.availableTokens = tokenCapacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    // 공용 한도(headroom 적용 후)의 share 비율만큼만 허용하는 별도 리미터
+    public static GeminiRateLimiter share(GeminiConfig config, double share) {
+        double fraction = Math.min(Math.max(share, 0.01), 1.0);
+        return new GeminiRateLimiter(config.getRequestsPerMinute() * headroom(config) * fraction,
+                config.getTokensPerMinute() * headroom(config) * fraction);
+    }
+
+    private static double headroom(GeminiConfig config) {
+        return Math.min(Math.max(config.getRateLimitHeadroom(), 0.1), 1.0);
+    }
+
+    // 요청 1건과 예상 토큰 수만큼의 허용량을 확보하면 완료되는 future를 반환합니다.
+    // 기다리는 동안 호출 스레드를 막지 않고 전용 스케줄러에서 다시 시도하므로, HTTP 응답 콜백 스레드에서 불러도 다른 응답 처리가 밀리지 않습니다.
+    public CompletableFuture<Void> acquireAsync(int estimatedTokens) {
+        double tokens = Math.min(Math.max(estimatedTokens, 1), tokenCapacity);
+        CompletableFuture<Void> acquired = new CompletableFuture<>();
+        attempt(tokens, acquired);
+        return acquired;
+    }
+
+    private void attempt(double tokens, CompletableFuture<Void> acquired) {
+        long waitNanos = tryAcquire(tokens);
+        if (waitNanos == 0) {
+            acquired.complete(null);
+            return;
+        }
+        try {
+            scheduler.schedule(() -> attempt(tokens, acquired),
+                    Math.max(waitNanos, TimeUnit.MILLISECONDS.toNanos(10)), TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            acquired.completeExceptionally(e); // 종료 중
+        }
+    }
+
+    // 허용량을 확보하면 0, 아니면 다시 시도하기까지 기다릴 시간(나노초)
+    private synchronized long tryAcquire(double tokens) {
+        long now = System.nanoTime();
+        refill(now);
+        if (pausedUntilNanos - now > 0) {
+            return pausedUntilNanos - now;
+        }
+        if (availableRequests >= 1 && availableTokens >= tokens) {
+            availableRequests -= 1;
+            availableTokens -= tokens;
+            return 0;
+        }
+        long requestWait = availableRequests >= 1 ? 0 : (long) ((1 - availableRequests) / requestsPerNano);
+        long tokenWait = availableTokens >= tokens ? 0 : (long) ((tokens - availableTokens) / tokensPerNano);
+        return Math.max(1, Math.max(requestWait, tokenWait));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    // 429 응답을 받았을 때 호출합니다. 대기 시간 동안 모든 호출을 멈추고 버킷을 비웁니다.
+    public synchronized void pauseFor(Duration retryAfter) {
+        long until = System.nanoTime() + retryAfter.toNanos();
+        if (until - pausedUntilNanos > 0) {
+            pausedUntilNanos = until;
+        }
+        availableRequests = 0;
+    }
+
+    public synchronized boolean isPaused() {
+        return pausedUntilNanos - System.nanoTime() > 0;
+    }
+
+    // 지금 쓸 수 있는 요청 허용량이 버킷 용량의 몇 할인지 (일시 중지 중이면 0). 남는 용량에서만 도는 작업이 확인합니다.
+    public synchronized double spareRequestFraction() {
+        long now = System.nanoTime();
+        if (pausedUntilNanos - now > 0) {
+            return 0;
+        }
+        refill(now);
+        return availableRequests / requestCapacity;
+    }
+
+    // 프롬프트 문자열의 입력 토큰 수를 대략 추정합니다. (한글 위주 본문 기준 약 2자당 1토큰 + 출력 여유)
+    public static int estimateTokens(String prompt, int maxOutputTokens) {
+        return (prompt == null ? 0 : prompt.length() / 2) + maxOutputTokens;
+    }
+
+    private void refill(long now) {
+        long elapsed = now - lastRefillNanos;
+        if (elapsed <= 0) {
+            return;
+        }
+        availableRequests = Math.min(requestCapacity, availableRequests + elapsed * requestsPerNano);
+        availableTokens = Math.min(tokenCapacity, availableTokens + elapsed * tokensPerNano);
+        lastRefillNanos = now;
+    }
+}
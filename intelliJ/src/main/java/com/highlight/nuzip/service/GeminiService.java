@@ -1,34 +1,38 @@
 package com.highlight.nuzip.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.highlight.nuzip.config.GeminiConfig;
 import com.highlight.nuzip.dto.NewsAnalysisResponse;
 import org.springframework.stereotype.Service;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
-import org.jsoup.nodes.Element;
-import org.jsoup.select.Elements;
 
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
-import java.time.Duration;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Service
 public class GeminiService {
 
     private final GeminiConfig config;
-    private final HttpClient httpClient;
-    private final ObjectMapper objectMapper;
+    private final GeminiClient geminiClient;
+    private final CrawlerClient crawlerClient;
+    private final ArticleExtractor articleExtractor;
 
-    public GeminiService(GeminiConfig config, ObjectMapper objectMapper) {
+    // 프롬프트/응답 스키마 버전. 바꾸면 AnalysisCache의 기존 결과가 더 이상 재사용되지 않습니다.
+    public static final String PROMPT_VERSION = "v1";
+
+    public GeminiService(GeminiConfig config, GeminiClient geminiClient, CrawlerClient crawlerClient, ArticleExtractor articleExtractor) {
         this.config = config;
-        this.objectMapper = objectMapper;
-        this.httpClient = HttpClient.newBuilder()
-                .connectTimeout(Duration.ofSeconds(config.getTimeoutSeconds()))
-                .build();
+        this.geminiClient = geminiClient;
+        this.crawlerClient = crawlerClient;
+        this.articleExtractor = articleExtractor;
     }
 
     // --- 새로운 내부 클래스/레코드: 텍스트와 이미지 URL을 함께 반환하기 위함 ---
@@ -41,79 +45,22 @@ public class GeminiService {
         String extractedImageUrl = null;
 
         try {
-            Document doc = Jsoup.connect(url)
-                    .userAgent("Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 "
-                            + "(KHTML, like Gecko) Chrome/118.0.0.0 Safari/537.36")
-                    .timeout(10000)
-                    .get();
-
-            String[] commonSelectors = {
-                    "#newsct_article",
-                    "#articleBodyContents",
-                    ".article_body",
-                    ".article-view",
-                    ".view_contents",
-                    "article"
-            };
-
-            Element contentElement = null;
-            String usedSelector = "";
-            for (String selector : commonSelectors) {
-                contentElement = doc.select(selector).first();
-                if (contentElement != null && !contentElement.text().trim().isEmpty()) {
-                    usedSelector = selector;
-                    break;
-                }
-            }
+            Document doc = fetchDocument(url);
 
-            // 본문 요소가 주요 선택자에서 발견되지 않았다면, 일반적인 방법으로 본문을 찾고 불필요한 요소를 제거합니다.
-            if (contentElement == null || usedSelector.isEmpty() || contentElement.text().trim().isEmpty()) {
-                contentElement = doc.body();
-                contentElement.select("header, footer, nav, aside, .sidebar, .ad, .ad-unit, .byline, #comment, .related-articles, .article_btns, .sub_copy, script, style, iframe").remove();
+            // 본문/이미지 추출은 ArticleExtractor가 한 번의 DOM 순회로 처리합니다. (도메인별 학습 선택자 우선)
+            ArticleExtractor.Extraction extraction = articleExtractor.extract(doc, url);
+            extractedText = extraction.text();
+            extractedImageUrl = extraction.imageUrl();
 
-                if (contentElement != null) {
-                    System.out.println(">>> [GeminiService] 크롤링 성공 (일반 바디)");
-                } else {
-                    return new ArticleExtractionResult("본문을 찾을 수 없습니다. (시도된 선택자들 모두 실패)", null);
-                }
+            if (extraction.selector() != null) {
+                System.out.println(">>> [GeminiService] 크롤링 성공 (선택자: " + extraction.selector() + ")");
             } else {
-                System.out.println(">>> [GeminiService] 크롤링 성공 (선택자: " + usedSelector + ")");
-            }
-
-            // 1. Open Graph 메타 태그에서 이미지 URL 시도
-            Element ogImage = doc.select("meta[property=og:image]").first();
-            if (ogImage != null) {
-                extractedImageUrl = ogImage.attr("content");
-                System.out.println(">>> [Image] Open Graph 메타 태그에서 이미지 추출: " + extractedImageUrl);
+                System.out.println(">>> [GeminiService] 크롤링 성공 (일반 바디)");
             }
-
-            // 2. 만약 og:image가 없으면, 본문 요소 내 첫 번째 이미지 태그를 시도
-            if (extractedImageUrl == null || extractedImageUrl.isEmpty()) {
-                Elements images = contentElement.select("img");
-                if (!images.isEmpty()) {
-                    // 첫 번째 이미지 태그의 src 속성 가져오기
-                    String firstImageUrl = images.first().attr("src");
-                    // 상대 경로일 경우 절대 경로로 변환 시도 (완벽하진 않음)
-                    if (firstImageUrl != null && (firstImageUrl.startsWith("//") || firstImageUrl.startsWith("/"))) {
-                        try {
-                            URI baseUri = new URI(url);
-                            extractedImageUrl = baseUri.resolve(firstImageUrl).toString();
-                        } catch (Exception uriEx) {
-                            extractedImageUrl = firstImageUrl; // 변환 실패 시 그대로 사용
-                        }
-                    } else if (firstImageUrl != null) {
-                        extractedImageUrl = firstImageUrl;
-                    }
-                    if (extractedImageUrl != null) {
-                        System.out.println(">>> [Image] 본문 첫 번째 이미지 태그에서 이미지 추출: " + extractedImageUrl);
-                    }
-                }
+            if (extractedImageUrl != null) {
+                System.out.println(">>> [Image] 대표 이미지 추출: " + extractedImageUrl);
             }
 
-            // 불필요한 요소 제거 후 텍스트 추출
-            contentElement.select(".article_btns, .byline, script, style, iframe, .sub_copy, .ad-unit, img").remove(); // <img> 태그는 텍스트로 인식될 수 있으므로 제거
-            extractedText = contentElement.text().trim();
-
             if (extractedText.length() < 10) {
                 return new ArticleExtractionResult("본문이 너무 짧습니다. (길이: " + extractedText.length() + ")", extractedImageUrl);
             }
@@ -124,14 +71,30 @@ public class GeminiService {
         }
     }
 
+    // 공유 CrawlerClient(커넥션 풀, 호스트별 동시성 제한, 크롤링 캐시)로 받은 바이트를 Jsoup으로 파싱합니다.
+    private Document fetchDocument(String url) throws IOException, InterruptedException {
+        CrawlerClient.CrawledPage page = crawlerClient.fetch(url);
+        return Jsoup.parse(new ByteArrayInputStream(page.body()), page.charset(), page.url());
+    }
+
     // 기사 본문을 Gemini API로 보내 요약, 키워드, 카테고리를 추출합니다.
+    // 본문은 호출하는 쪽에서 ArticlePreprocessor.prepare로 한 번 전처리한 텍스트여야 합니다. (분석 캐시 키도 같은 텍스트로 만듦)
     public NewsAnalysisResponse analyzeNewsArticle(String articleContent) {
-        // 병렬 처리의 효율성을 극대화하기 위해 API 호출 전 5초 지연(Thread.sleep)을 제거합니다.
-        // 할당량 초과(429)는 NewsCollectorService의 quotaExceeded 플래그를 통해 처리됩니다.
+        return join(analyzeNewsArticleAsync(articleContent));
+    }
+
+    // analyzeNewsArticle의 비동기 버전. 응답을 기다리는 동안 호출 스레드를 점유하지 않습니다.
+    public CompletableFuture<NewsAnalysisResponse> analyzeNewsArticleAsync(String articleContent) {
+        // 호출 속도는 GeminiRateLimiter(RPM/TPM 토큰 버킷)가 조절합니다.
+        // 할당량 초과(429)는 GeminiQuotaExceededException으로 전달되어 GeminiBatchAnalyzer가 재대기열에 넣습니다.
         System.out.println(">>> [GeminiService] API 호출 시도.");
 
+        if (isApiKeyMissing()) {
+            return CompletableFuture.failedFuture(new GeminiAnalysisException(
+                    "API KEY 설정 누락: application.properties에서 spring.ai.gemini.api-key를 설정하세요."));
+        }
+
         // 시스템 지침 및 사용자 프롬프트
-        String systemInstruction = "You are a news analysis expert. Perform the analysis tasks according to the Korean instructions provided in the user prompt and return the result only in the specified JSON format.";
         String userPrompt = String.format("""
             제공된 뉴스 기사의 내용을 분석하여 다음 세 가지 항목을 추출하세요:
             1. 'summary': 기사를 한국어로 세 문장 이내로 상세히 요약합니다.
@@ -141,171 +104,212 @@ public class GeminiService {
             기사 내용: %s
             """, articleContent);
 
-        String jsonSchema = """
-            {
-                "type": "object",
-                "properties": {
-                    "summary": { "type": "string", "description": "기사의 핵심 내용을 한국어로 3줄 요약" },
-                    "keywords": { "type": "string", "description": "기사의 핵심 키워드 5개를 쉼표(,)로 구분한 문자열" },
-                    "category": { "type": "string", "description": "기사의 카테고리 (예: 경제, 정치, 생활ㆍ문화 등)" }
-                },
-                "required": ["summary", "keywords", "category"]
-            }
-            """;
-
-        String jsonBody = createApiJsonBody(systemInstruction, userPrompt, jsonSchema);
-
-        try {
-            String apiKey = config.getApiKey();
-            if (apiKey == null || apiKey.isEmpty() || "YOUR_GEMINI_API_KEY_HERE".equals(apiKey)) {
-                return new NewsAnalysisResponse(
-                        "[API KEY 설정 누락] application.properties에서 spring.ai.gemini.api-key를 설정하세요.",
-                        "설정 필요",
-                        "기타"
-                );
-            }
+        return geminiClient.sendAsync(combinePrompt(SINGLE_SYSTEM_INSTRUCTION, userPrompt), SINGLE_SCHEMA,
+                        config.getMaxTokens(), NewsAnalysisResponse.class)
+                .handle((result, error) -> {
+                    if (error != null) {
+                        Throwable cause = unwrap(error);
+                        if (cause instanceof GeminiQuotaExceededException quotaExceeded) {
+                            throw quotaExceeded;
+                        }
+                        System.err.println("요청 또는 파싱 중 오류 발생: " + cause.getMessage());
+                        throw new GeminiAnalysisException("서버 요청 오류: " + cause.getMessage(), cause);
+                    }
+                    if (result.status() != 200) {
+                        System.err.println("API Error (" + result.status() + "): " + result.error());
+                        throw new GeminiAnalysisException("API 통신 오류: " + result.status());
+                    }
+                    NewsAnalysisResponse response = result.value();
+                    if (response == null || !isValid(response.summary(), response.keywords(), response.category())) {
+                        System.err.println("분석 실패: 응답 JSON 구조 오류 " + (result.error() == null ? "" : result.error()));
+                        throw new GeminiAnalysisException("분석 실패: 응답 JSON 구조 오류");
+                    }
+                    return response;
+                });
+    }
 
-            String url = "https://generativelanguage.googleapis.com/v1beta/models/"
-                    + config.getModel() + ":generateContent";
+    // 여러 기사를 하나의 generateContent 요청으로 묶어 분석합니다. (배열 responseSchema 사용)
+    // 결과는 index 필드로 입력 순서에 다시 매핑하고, 누락되거나 형식이 잘못된 항목만 개별 요청으로 재시도합니다.
+    public List<NewsAnalysisResponse> analyzeNewsArticles(List<String> articleContents) {
+        return join(analyzeNewsArticlesAsync(articleContents));
+    }
 
-            HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(url))
-                    .header("Content-Type", "application/json; charset=utf-8")
-                    .header("x-goog-api-key", apiKey)
-                    .POST(HttpRequest.BodyPublishers.ofString(jsonBody))
-                    .timeout(Duration.ofSeconds(config.getTimeoutSeconds()))
-                    .build();
+    public CompletableFuture<List<NewsAnalysisResponse>> analyzeNewsArticlesAsync(List<String> articleContents) {
+        if (articleContents.size() == 1) {
+            return analyzeNewsArticleAsync(articleContents.get(0)).thenApply(List::of);
+        }
+        if (isApiKeyMissing()) {
+            return retryMissing(articleContents, new NewsAnalysisResponse[articleContents.size()]);
+        }
+        System.out.println(">>> [GeminiService] 배치 API 호출 시도. (기사 수: " + articleContents.size() + ")");
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        StringBuilder articles = new StringBuilder();
+        for (int i = 0; i < articleContents.size(); i++) {
+            articles.append("[기사 ").append(i).append("]\n").append(articleContents.get(i)).append("\n\n");
+        }
+        String userPrompt = String.format("""
+            아래에 번호가 매겨진 %d개의 뉴스 기사가 있습니다. 각 기사마다 다음 네 가지 항목을 추출하세요:
+            0. 'index': 기사 번호 (입력된 [기사 N]의 N)
+            1. 'summary': 기사를 한국어로 세 문장 이내로 상세히 요약합니다.
+            2. 'keywords': 기사의 핵심 키워드 5개를 쉼표(,)로 구분하여 한 줄로 나열합니다.
+            3. 'category': 기사가 다음 카테고리 중 어디에 속하는지 판단하여 추출합니다. 다음 카테고리에 있는 걸로만 추출합니다. 다른 카테고리는 사용하지 않습니다.: [정치, 경제, 사회, 생활ㆍ문화, 스포츠, 엔터, ITㆍ과학, 세계].
 
-            if (response.statusCode() == 429) {
-                System.err.println("API Error (429 Quota Exceeded): " + response.body());
-                // NewsCollectorService에서 catch할 수 있도록 RuntimeException 발생
-                throw new RuntimeException("Gemini API 할당량 초과 (429) 오류 발생. 상세: " + response.body());
-            }
+            %s
+            """, articleContents.size(), articles);
+
+        // 배치 응답은 기사 수만큼 길어지므로 출력 토큰 한도를 기사 수에 비례하여 늘립니다.
+        NewsAnalysisResponse[] results = new NewsAnalysisResponse[articleContents.size()];
+        return geminiClient.sendAsync(combinePrompt(BATCH_SYSTEM_INSTRUCTION, userPrompt), BATCH_SCHEMA,
+                        config.getMaxTokens() * articleContents.size(), BatchItem[].class)
+                .handle((result, error) -> {
+                    if (error != null) {
+                        Throwable cause = unwrap(error);
+                        if (cause instanceof GeminiQuotaExceededException quotaExceeded) {
+                            throw quotaExceeded;
+                        }
+                        System.err.println("배치 요청 또는 파싱 중 오류 발생: " + cause.getMessage());
+                    } else if (result.status() != 200) {
+                        System.err.println("API Error (" + result.status() + "): " + result.error());
+                    } else if (result.value() == null) {
+                        System.err.println("배치 응답이 JSON 배열이 아닙니다: " + result.error());
+                    } else {
+                        for (BatchItem item : result.value()) {
+                            if (item == null || item.index() == null || item.index() < 0 || item.index() >= results.length
+                                    || results[item.index()] != null || !isValidBatchItem(item)) {
+                                continue;
+                            }
+                            results[item.index()] = new NewsAnalysisResponse(item.summary(), item.keywords(), item.category());
+                        }
+                    }
+                    return results;
+                })
+                .thenCompose(filled -> retryMissing(articleContents, filled));
+    }
 
-            if (response.statusCode() != 200) {
-                System.err.println("API Error (" + response.statusCode() + "): " + response.body());
-                return new NewsAnalysisResponse(
-                        String.format("[API 통신 오류: %d]", response.statusCode()),
-                        "오류",
-                        "기타"
-                );
+    // 응답에 없거나 형식이 잘못된 항목만 개별 요청으로 재시도합니다.
+    // 재시도 중 일부가 실패하면 이미 얻은 결과를 담은 예외로 실패시켜, 호출한 쪽이 실패한 항목만 다시 처리하게 합니다.
+    // 할당량 초과(429)가 하나라도 있으면 GeminiQuotaExceededException, 아니면 GeminiAnalysisException입니다. (성공한 항목에 할당량을 다시 쓰지 않음)
+    private CompletableFuture<List<NewsAnalysisResponse>> retryMissing(List<String> articleContents, NewsAnalysisResponse[] results) {
+        List<CompletableFuture<Void>> retries = new ArrayList<>();
+        AtomicReference<GeminiQuotaExceededException> quotaExceeded = new AtomicReference<>();
+        AtomicReference<Throwable> failed = new AtomicReference<>();
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] == null) {
+                int index = i;
+                retries.add(analyzeNewsArticleAsync(articleContents.get(i)).handle((response, error) -> {
+                    if (error == null) {
+                        results[index] = response;
+                    } else if (unwrap(error) instanceof GeminiQuotaExceededException cause) {
+                        quotaExceeded.compareAndSet(null, cause);
+                    } else {
+                        failed.compareAndSet(null, unwrap(error));
+                    }
+                    return null;
+                }));
             }
+        }
+        if (retries.isEmpty()) {
+            return CompletableFuture.completedFuture(Arrays.asList(results));
+        }
+        System.out.println(">>> [GeminiService] 배치 응답 누락/오류 항목 개별 재시도: " + retries.size() + "건");
+        return CompletableFuture.allOf(retries.toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> {
+                    GeminiQuotaExceededException cause = quotaExceeded.get();
+                    if (cause != null) {
+                        throw new GeminiQuotaExceededException(cause.getMessage(), cause.getRetryAfter(), Arrays.asList(results));
+                    }
+                    Throwable error = failed.get();
+                    if (error != null) {
+                        throw new GeminiAnalysisException(error.getMessage(), error, Arrays.asList(results));
+                    }
+                    return Arrays.asList(results);
+                });
+    }
 
-            String rawJson = extractJsonFromResponse(response.body());
-
-            return objectMapper.readValue(rawJson, NewsAnalysisResponse.class);
+    private static boolean isValidBatchItem(BatchItem item) {
+        return isValid(item.summary(), item.keywords(), item.category());
+    }
 
-        } catch (RuntimeException e) {
-            throw e;
-        } catch (Exception e) {
-            System.err.println("요청 또는 파싱 중 오류 발생: " + e.getMessage());
-            return new NewsAnalysisResponse(
-                    String.format("[서버 요청 오류: %s]", e.getMessage()),
-                    "오류",
-                    "기타"
-            );
-        }
+    private static boolean isValid(String summary, String keywords, String category) {
+        return summary != null && !summary.isBlank()
+                && keywords != null
+                && category != null && !category.isBlank();
     }
 
-    private String createApiJsonBody(String systemInstruction, String userPrompt, String responseSchema) {
-        // 시스템 지침과 사용자 프롬프트를 하나로 결합합니다.
-        String combinedPrompt = String.format("%s\n\n[USER INPUT START]\n%s\n[USER INPUT END]",
-                systemInstruction, userPrompt);
+    private boolean isApiKeyMissing() {
+        String apiKey = config.getApiKey();
+        return apiKey == null || apiKey.isEmpty() || "YOUR_GEMINI_API_KEY_HERE".equals(apiKey);
+    }
 
-        String escapedPrompt = combinedPrompt.replace("\"", "\\\"");
+    // 시스템 지침과 사용자 프롬프트를 하나로 결합합니다.
+    private static String combinePrompt(String systemInstruction, String userPrompt) {
+        return systemInstruction + "\n\n[USER INPUT START]\n" + userPrompt + "\n[USER INPUT END]";
+    }
 
-        return String.format("""
-        {
-          "contents": [
-            { 
-              "role": "user",
-              "parts": [{ "text": "%s" }]
+    // 동기 호출용: CompletionException을 벗겨 원래 예외(GeminiQuotaExceededException 등)를 그대로 던집니다.
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = unwrap(e);
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
             }
-          ],
-          "generationConfig": {
-            "temperature": %s,
-            "maxOutputTokens": %s,
-            "responseMimeType": "application/json",
-            "responseSchema": %s
-          }
+            throw new RuntimeException(cause);
         }
-        """,
-                escapedPrompt,
-                config.getTemperature(),
-                config.getMaxTokens(),
-                responseSchema
-        );
     }
 
-    private String extractJsonFromResponse(String responseBody) {
-        try {
-            JsonNode root = objectMapper.readTree(responseBody);
-            JsonNode candidate = root.path("candidates").get(0);
-            if (candidate == null) {
-                System.err.println("응답에서 후보 노드를 찾을 수 없습니다: " + responseBody);
-                return "{\"summary\": \"[분석 실패: API 응답 후보 없음]\", \"keywords\": \"API 오류\", \"category\": \"기타\"}";
-            }
-            JsonNode textNode = candidate.path("content").path("parts").get(0).path("text");
-            if (textNode.isTextual()) {
-                String rawJson = textNode.asText();
-                try {
-                    objectMapper.readTree(rawJson);
-                    return rawJson;
-                } catch (Exception jsonEx) {
-                    System.err.println("Gemini가 반환한 내용이 유효한 JSON이 아닙니다: " + rawJson);
-                    return "{\"summary\": \"[분석 실패: 응답 JSON 구조 오류]\", \"keywords\": \"JSON 오류\", \"category\": \"기타\"}";
-                }
-            } else {
-                System.err.println("응답에서 텍스트 노드를 찾을 수 없습니다: " + responseBody);
-                return "{\"summary\": \"[분석 실패: 텍스트 노드 없음]\", \"keywords\": \"API 오류\", \"category\": \"기타\"}";
-            }
-        } catch (Exception e) {
-            System.err.println("응답 JSON 처리 중 치명적인 오류 발생: " + e.getMessage());
-            return "{\"summary\": \"[분석 실패: 응답 JSON 처리 오류]\", \"keywords\": \"처리 오류\", \"category\": \"기타\"}";
+    static Throwable unwrap(Throwable e) {
+        while ((e instanceof CompletionException || e instanceof ExecutionException) && e.getCause() != null) {
+            e = e.getCause();
         }
+        return e;
     }
 
     /**
      * 사용자 피드백 학습용 호출 (응답 무시)
      */
     public void trainFeedback(String feedback) {
-        try {
-            String apiKey = config.getApiKey();
-            if (apiKey == null || apiKey.isEmpty()) {
-                return; // API 키 없으면 무시
-            }
+        if (config.getApiKey() == null || config.getApiKey().isEmpty()) {
+            return; // API 키 없으면 무시
+        }
+        // 별점/피드백 그대로 전송, 실패 시 무시
+        geminiClient.sendTextAsync(feedback, config.getMaxTokens()).exceptionally(ignored -> null);
+    }
 
-            String url = "https://generativelanguage.googleapis.com/v1beta/models/"
-                    + config.getModel() + ":generateContent";
-
-            // JSON body에 별점/피드백 그대로 전송
-            String jsonBody = """
-                {
-                  "contents": [
-                    { "parts": [{ "text": "%s" }] }
-                  ],
-                  "generationConfig": {
-                    "temperature": %s,
-                    "maxOutputTokens": %s
-                  }
-                }
-                """.formatted(feedback, config.getTemperature(), config.getMaxTokens());
+    // 배치 응답의 항목 하나
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record BatchItem(Integer index, String summary, String keywords, String category) {}
 
-            HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(url))
-                    .header("Content-Type", "application/json; charset=utf-8")
-                    .header("x-goog-api-key", apiKey)
-                    .POST(HttpRequest.BodyPublishers.ofString(jsonBody))
-                    .timeout(Duration.ofSeconds(30))
-                    .build();
+    private static final String SINGLE_SYSTEM_INSTRUCTION = "You are a news analysis expert. Perform the analysis tasks according to the Korean instructions provided in the user prompt and return the result only in the specified JSON format.";
 
-            // 응답 무시
-            httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+    private static final String BATCH_SYSTEM_INSTRUCTION = "You are a news analysis expert. Perform the analysis tasks according to the Korean instructions provided in the user prompt for EVERY article and return the result only in the specified JSON array format, one element per article, keeping each article's index.";
 
-        } catch (Exception ignored) {
-            // 실패 시 무시
-        }
-    }
-}
\ No newline at end of file
+    private static final String SINGLE_SCHEMA = """
+            {
+                "type": "object",
+                "properties": {
+                    "summary": { "type": "string", "description": "기사의 핵심 내용을 한국어로 3줄 요약" },
+                    "keywords": { "type": "string", "description": "기사의 핵심 키워드 5개를 쉼표(,)로 구분한 문자열" },
+                    "category": { "type": "string", "description": "기사의 카테고리 (예: 경제, 정치, 생활ㆍ문화 등)" }
+                },
+                "required": ["summary", "keywords", "category"]
+            }
+            """;
+
+    private static final String BATCH_SCHEMA = """
+            {
+                "type": "array",
+                "items": {
+                    "type": "object",
+                    "properties": {
+                        "index": { "type": "integer", "description": "입력된 기사 번호" },
+                        "summary": { "type": "string", "description": "기사의 핵심 내용을 한국어로 3줄 요약" },
+                        "keywords": { "type": "string", "description": "기사의 핵심 키워드 5개를 쉼표(,)로 구분한 문자열" },
+                        "category": { "type": "string", "description": "기사의 카테고리 (예: 경제, 정치, 생활ㆍ문화 등)" }
+                    },
+                    "required": ["index", "summary", "keywords", "category"]
+                }
+            }
+            """;
+}
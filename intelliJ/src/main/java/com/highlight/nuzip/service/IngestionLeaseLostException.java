@@ -0,0 +1,10 @@
+package com.highlight.nuzip.service;
+
+// 수집 작업의 임대가 만료되어 다른 워커가 그 작업을 가져간 뒤에 단계 결과를 기록하려 할 때 발생합니다.
+// 기록은 반영되지 않으며(같은 트랜잭션의 기사 저장/알림 생성도 함께 롤백), 이 워커는 작업을 파이프라인에서 내보내기만 합니다.
+public class IngestionLeaseLostException extends RuntimeException {
+
+    public IngestionLeaseLostException(Long taskId, Throwable cause) {
+        super("수집 작업 임대를 다른 워커에 빼앗겼습니다 (작업 id " + taskId + ")", cause);
+    }
+}
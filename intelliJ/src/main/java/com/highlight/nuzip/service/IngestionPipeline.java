@@ -0,0 +1,423 @@
+package com.highlight.nuzip.service;
+
+import com.highlight.nuzip.model.IngestionTask;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+// 수집 작업 큐(ingestion_task)의 작업을 단계별 파이프라인으로 처리합니다.
+//   feeder → [크롤링] → [분석] → [저장] → [알림]
+// - 단계마다 크기가 제한된 큐와 전용 워커 스레드, 처리 시간 제한이 있습니다.
+//   (크롤링은 I/O 위주라 많이, Gemini 분석은 할당량 때문에 적게 등 단계별로 따로 조정)
+// - 다음 단계 큐가 가득 차면 앞 단계 워커가 put에서 대기하므로, 느린 단계가 자연스럽게 앞 단계를 늦춥니다. (backpressure)
+// - feeder는 파이프라인 안의 작업 수가 news.pipeline.max-in-flight 미만일 때만 DB에서 새 작업을 가져옵니다.
+// - 단계 처리 시간이 제한을 넘으면 워커 스레드를 인터럽트하고, 작업은 나중에 재시도됩니다.
+// - 임대가 만료되어 다른 워커가 가져간 작업(IngestionLeaseLostException, 배치 결과에서 빠진 작업)은 다음 단계로 보내지 않고 내보냅니다.
+@Component
+public class IngestionPipeline {
+
+    private final IngestionQueueService ingestionQueueService;
+    private final NewsArticleProcessor newsArticleProcessor;
+
+    // 파이프라인 안에 동시에 머무를 수 있는 최대 작업 수 (DB 임대 중인 작업 수 상한)
+    @Value("${news.pipeline.max-in-flight:48}")
+    private int maxInFlight;
+
+    // 한 번에 가져올 작업 수
+    @Value("${news.ingestion.claim-batch-size:16}")
+    private int claimBatchSize;
+
+    // 가져올 작업이 없을 때 다시 확인하기까지의 대기 시간
+    @Value("${news.ingestion.poll-millis:15000}")
+    private long pollMillis;
+
+    @Value("${news.pipeline.crawl.workers:8}")
+    private int crawlWorkers;
+    @Value("${news.pipeline.crawl.queue-capacity:32}")
+    private int crawlQueueCapacity;
+    @Value("${news.pipeline.crawl.timeout-seconds:60}")
+    private long crawlTimeoutSeconds;
+
+    @Value("${news.pipeline.analyze.workers:10}")
+    private int analyzeWorkers;
+    @Value("${news.pipeline.analyze.queue-capacity:32}")
+    private int analyzeQueueCapacity;
+    @Value("${news.pipeline.analyze.timeout-seconds:660}")
+    private long analyzeTimeoutSeconds;
+
+    @Value("${news.pipeline.persist.workers:2}")
+    private int persistWorkers;
+    @Value("${news.pipeline.persist.queue-capacity:32}")
+    private int persistQueueCapacity;
+    @Value("${news.pipeline.persist.timeout-seconds:30}")
+    private long persistTimeoutSeconds;
+    // 한 트랜잭션에서 배치 INSERT로 저장할 최대 기사 수
+    @Value("${news.pipeline.persist.batch-size:20}")
+    private int persistBatchSize;
+
+    @Value("${news.pipeline.notify.workers:2}")
+    private int notifyWorkers;
+    @Value("${news.pipeline.notify.queue-capacity:64}")
+    private int notifyQueueCapacity;
+    @Value("${news.pipeline.notify.timeout-seconds:30}")
+    private long notifyTimeoutSeconds;
+    @Value("${news.pipeline.notify.batch-size:20}")
+    private int notifyBatchSize;
+
+    private Stage crawlStage;
+    private Stage analyzeStage;
+    private Stage persistStage;
+    private Stage notifyStage;
+
+    private Semaphore inFlight;
+    private ScheduledExecutorService watchdog;
+    private Thread feeder;
+    private volatile boolean running;
+
+    // 단계별 지연 백분위를 계산할 최근 처리 시간 표본 수
+    private static final int LATENCY_SAMPLES = 1024;
+
+    // 단계별 상태 (모니터링/벤치마크용). 백분위 지연은 최근 LATENCY_SAMPLES번의 단계 호출(저장/알림은 배치 1회) 기준입니다.
+    public record StageStats(String name, int queued, int capacity, int busy, int workers,
+                             long processed, long deferred, long timedOut, long leaseLost, double avgMillis,
+                             double p50Millis, double p95Millis, double p99Millis) {}
+
+    public IngestionPipeline(IngestionQueueService ingestionQueueService, NewsArticleProcessor newsArticleProcessor) {
+        this.ingestionQueueService = ingestionQueueService;
+        this.newsArticleProcessor = newsArticleProcessor;
+    }
+
+    // DB 스키마가 준비된 뒤 시작합니다.
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        inFlight = new Semaphore(Math.max(1, maxInFlight));
+        watchdog = Executors.newSingleThreadScheduledExecutor(daemon("pipeline-watchdog"));
+
+        crawlStage = new Stage("crawl", crawlWorkers, crawlQueueCapacity, crawlTimeoutSeconds, 1, single(newsArticleProcessor::extract));
+        analyzeStage = new Stage("analyze", analyzeWorkers, analyzeQueueCapacity, analyzeTimeoutSeconds, 1, single(newsArticleProcessor::analyze));
+        persistStage = new Stage("persist", persistWorkers, persistQueueCapacity, persistTimeoutSeconds, persistBatchSize, newsArticleProcessor::persistAll);
+        notifyStage = new Stage("notify", notifyWorkers, notifyQueueCapacity, notifyTimeoutSeconds, notifyBatchSize, newsArticleProcessor::notifyAll);
+        for (Stage stage : stages()) {
+            stage.start();
+        }
+
+        feeder = daemon("pipeline-feeder").newThread(this::feedLoop);
+        feeder.start();
+        System.out.println(">>> [IngestionPipeline] 시작 (노드: " + ingestionQueueService.getNodeId() + ", 최대 동시 작업: " + maxInFlight + ")");
+    }
+
+    // 종료 시 남은 작업은 임대가 만료된 뒤 다시 처리됩니다.
+    @PreDestroy
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        feeder.interrupt();
+        for (Stage stage : stages()) {
+            stage.stop();
+        }
+        watchdog.shutdownNow();
+    }
+
+    public List<StageStats> snapshot() {
+        if (!running) {
+            return List.of();
+        }
+        return stages().stream().map(Stage::stats).toList();
+    }
+
+    // 1분마다 단계별 상태를 출력해 병목 단계를 확인할 수 있게 합니다. (처리한 작업이 있을 때만)
+    @Scheduled(initialDelay = 60, fixedDelay = 60, timeUnit = TimeUnit.SECONDS)
+    public void logStats() {
+        if (!running || stages().stream().allMatch(stage -> stage.processed.get() == stage.lastLoggedProcessed)) {
+            return;
+        }
+        StringBuilder sb = new StringBuilder(">>> [IngestionPipeline] 진행 중 " + (maxInFlight - inFlight.availablePermits()) + "건");
+        for (Stage stage : stages()) {
+            StageStats stats = stage.stats();
+            stage.lastLoggedProcessed = stats.processed();
+            sb.append(String.format(" | %s 대기 %d/%d, 작업 %d/%d, 처리 %d, 보류 %d, 시간초과 %d, 임대상실 %d, 평균 %.0fms, p95 %.0fms",
+                    stats.name(), stats.queued(), stats.capacity(), stats.busy(), stats.workers(),
+                    stats.processed(), stats.deferred(), stats.timedOut(), stats.leaseLost(), stats.avgMillis(), stats.p95Millis()));
+        }
+        System.out.println(sb);
+    }
+
+    private void feedLoop() {
+        while (running) {
+            try {
+                // 파이프라인에 자리가 생길 때까지 대기한 뒤, 남은 자리만큼(최대 배치 크기) 작업을 가져옵니다.
+                inFlight.acquire();
+                int permits = 1;
+                while (permits < claimBatchSize && inFlight.tryAcquire()) {
+                    permits++;
+                }
+                List<IngestionTask> batch = ingestionQueueService.claimBatch(permits);
+                inFlight.release(permits - batch.size());
+                if (batch.isEmpty()) {
+                    Thread.sleep(pollMillis);
+                    continue;
+                }
+                for (IngestionTask task : batch) {
+                    route(task);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                System.err.println("!!! [IngestionPipeline] 작업 가져오기 실패: " + e.getMessage());
+                sleepQuietly(pollMillis);
+            }
+        }
+    }
+
+    // 작업 상태에 맞는 단계 큐로 보냅니다. 완료되었거나 재시도 대기로 반환된(임대 해제) 작업은 파이프라인에서 내보냅니다.
+    private void route(IngestionTask task) throws InterruptedException {
+        if (task.getClaimedBy() == null) {
+            inFlight.release();
+            return;
+        }
+        Stage next = switch (task.getStatus()) {
+            case FETCHED -> crawlStage;
+            case EXTRACTED -> analyzeStage;
+            case ANALYZED -> persistStage;
+            case PERSISTED -> notifyStage;
+            default -> null;
+        };
+        if (next == null) {
+            inFlight.release();
+            return;
+        }
+        next.queue.put(task); // 큐가 가득 차면 여기서 대기 (backpressure)
+    }
+
+    private List<Stage> stages() {
+        return List.of(crawlStage, analyzeStage, persistStage, notifyStage);
+    }
+
+    private static Function<List<IngestionTask>, List<IngestionTask>> single(UnaryOperator<IngestionTask> step) {
+        return tasks -> List.of(step.apply(tasks.get(0)));
+    }
+
+    private static ThreadFactory daemon(String prefix) {
+        AtomicInteger seq = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + seq.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // 파이프라인 한 단계: 제한된 입력 큐 + 고정 개수 워커 + 처리 시간 제한
+    // batchSize > 1이면 큐에 쌓인 작업을 최대 batchSize개까지 모아 한 번에 처리합니다. (저장/알림 단계의 배치 INSERT)
+    private final class Stage {
+        final String name;
+        final BlockingQueue<IngestionTask> queue;
+        final int capacity;
+        final int workers;
+        final long timeoutSeconds;
+        final int batchSize;
+        final Function<List<IngestionTask>, List<IngestionTask>> step;
+        final List<Thread> threads = new ArrayList<>();
+
+        final AtomicInteger busy = new AtomicInteger();
+        final AtomicLong processed = new AtomicLong();
+        final AtomicLong deferred = new AtomicLong();
+        final AtomicLong timedOut = new AtomicLong();
+        final AtomicLong leaseLost = new AtomicLong();
+        final AtomicLong busyNanos = new AtomicLong();
+        final LatencySamples latencies = new LatencySamples();
+        volatile long lastLoggedProcessed;
+
+        Stage(String name, int workers, int capacity, long timeoutSeconds, int batchSize,
+              Function<List<IngestionTask>, List<IngestionTask>> step) {
+            this.name = name;
+            this.capacity = Math.max(1, capacity);
+            this.queue = new ArrayBlockingQueue<>(this.capacity);
+            this.workers = Math.max(1, workers);
+            this.timeoutSeconds = timeoutSeconds;
+            this.batchSize = Math.max(1, batchSize);
+            this.step = step;
+        }
+
+        void start() {
+            ThreadFactory factory = daemon("pipeline-" + name);
+            for (int i = 0; i < workers; i++) {
+                Thread thread = factory.newThread(this::workLoop);
+                threads.add(thread);
+                thread.start();
+            }
+        }
+
+        void stop() {
+            threads.forEach(Thread::interrupt);
+        }
+
+        StageStats stats() {
+            long count = processed.get();
+            long[] sorted = latencies.sorted();
+            return new StageStats(name, queue.size(), capacity, busy.get(), workers, count, deferred.get(), timedOut.get(), leaseLost.get(),
+                    count == 0 ? 0 : busyNanos.get() / 1_000_000.0 / count,
+                    percentileMillis(sorted, 0.50), percentileMillis(sorted, 0.95), percentileMillis(sorted, 0.99));
+        }
+
+        // 인터럽트나 단계 오류로 워커가 끝나면 그만큼 처리 능력과 허용량(inFlight)이 사라지므로, 종료 요청(!running)일 때만 빠져나갑니다.
+        private void workLoop() {
+            while (running) {
+                List<IngestionTask> batch = new ArrayList<>(batchSize);
+                try {
+                    IngestionTask first = queue.poll(1, TimeUnit.SECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                } catch (InterruptedException e) {
+                    continue; // 종료 요청이면 반복 조건에서 빠져나갑니다.
+                }
+                if (batchSize > 1) {
+                    queue.drainTo(batch, batchSize - 1);
+                }
+
+                List<IngestionTask> results;
+                try {
+                    results = runWithTimeout(batch);
+                } catch (IngestionLeaseLostException e) {
+                    System.err.println("!!! [IngestionPipeline] " + name + " 단계: " + e.getMessage() + ", 파이프라인에서 내보냅니다.");
+                    leaseLost.addAndGet(batch.size());
+                    inFlight.release(batch.size());
+                    continue;
+                } catch (RuntimeException e) {
+                    // 실패 기록조차 못 한 경우(DB 장애 등): 작업은 임대가 만료되면 다시 가져오므로 파이프라인에서만 내보냅니다.
+                    System.err.println("!!! [IngestionPipeline] " + name + " 단계 처리 중 오류 (" + batch.size() + "건은 임대 만료 후 다시 처리): " + e.getMessage());
+                    inFlight.release(batch.size());
+                    continue;
+                }
+                if (results.size() < batch.size()) {
+                    // 결과에서 빠진 작업은 임대를 잃은 작업입니다.
+                    leaseLost.addAndGet(batch.size() - results.size());
+                    inFlight.release(batch.size() - results.size());
+                }
+                routeAll(results);
+            }
+        }
+
+        // 처리 결과를 다음 단계로 보냅니다. 큐 대기 중 인터럽트되어도 종료 요청이 아니면 다시 기다리고,
+        // 종료 중이면 보내지 못한 작업의 허용량을 돌려줍니다.
+        private void routeAll(List<IngestionTask> results) {
+            int next = 0;
+            while (next < results.size()) {
+                IngestionTask result = results.get(next);
+                try {
+                    route(result);
+                } catch (InterruptedException e) {
+                    if (!running) {
+                        inFlight.release(results.size() - next);
+                        return;
+                    }
+                    continue;
+                }
+                if (result.getClaimedBy() == null) {
+                    deferred.incrementAndGet();
+                }
+                next++;
+            }
+        }
+
+        // 제한 시간을 넘기면 워커 스레드를 인터럽트합니다. (HTTP 요청, Gemini 응답 대기 등은 인터럽트 시 중단되어 재시도로 처리됩니다)
+        // 시간 초과 판정 + 인터럽트와, 완료 판정 + 인터럽트 플래그 정리는 같은 잠금 안에서 하므로
+        // 정리가 끝난 뒤에 인터럽트가 늦게 도착해 다음 작업을 방해하는 일이 없습니다.
+        private List<IngestionTask> runWithTimeout(List<IngestionTask> batch) {
+            Thread worker = Thread.currentThread();
+            AtomicInteger state = new AtomicInteger(); // 0: 실행 중, 1: 완료, 2: 시간 초과
+            ScheduledFuture<?> timer = watchdog.schedule(() -> {
+                boolean expired;
+                synchronized (state) {
+                    expired = state.compareAndSet(0, 2);
+                    if (expired) {
+                        worker.interrupt();
+                    }
+                }
+                if (expired) {
+                    timedOut.incrementAndGet();
+                    System.err.println("!!! [IngestionPipeline] " + name + " 단계 시간 초과 (" + timeoutSeconds + "초): "
+                            + batch.get(0).getTitle() + (batch.size() > 1 ? " 외 " + (batch.size() - 1) + "건" : ""));
+                }
+            }, timeoutSeconds, TimeUnit.SECONDS);
+
+            busy.incrementAndGet();
+            long start = System.nanoTime();
+            try {
+                return step.apply(batch);
+            } finally {
+                synchronized (state) {
+                    if (!state.compareAndSet(0, 1)) {
+                        Thread.interrupted(); // 시간 초과로 설정된 인터럽트 플래그를 지워 다음 작업에 영향이 없도록 합니다.
+                    }
+                }
+                timer.cancel(false);
+                long elapsed = System.nanoTime() - start;
+                busyNanos.addAndGet(elapsed);
+                latencies.record(elapsed);
+                processed.addAndGet(batch.size());
+                busy.decrementAndGet();
+            }
+        }
+    }
+
+    // 정렬된 표본에서 백분위 값을 밀리초로 구합니다. (nearest-rank)
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, rank)] / 1_000_000.0;
+    }
+
+    // 최근 처리 시간(나노초)을 고정 크기 링 버퍼에 보관합니다.
+    private static final class LatencySamples {
+        private final long[] nanos = new long[LATENCY_SAMPLES];
+        private long count;
+
+        synchronized void record(long value) {
+            nanos[(int) (count++ % nanos.length)] = value;
+        }
+
+        synchronized long[] sorted() {
+            long[] copy = Arrays.copyOf(nanos, (int) Math.min(count, nanos.length));
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.highlight.nuzip.service;
+
+import com.highlight.nuzip.dto.Item;
+import com.highlight.nuzip.model.IngestionStatus;
+import com.highlight.nuzip.model.IngestionTask;
+import com.highlight.nuzip.repository.IngestionTaskRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// DB 기반 기사 수집 작업 큐(ingestion_task)를 관리합니다.
+// - 수집기는 새 기사를 FETCHED 상태로 적재만 하고, IngestionPipeline이 배치 단위로 작업을 가져가(claim) 단계별로 진행합니다.
+// - 작업을 가져갈 때는 SELECT ... FOR UPDATE SKIP LOCKED로 잠근 뒤 임대 만료 시각(claimed_until)을 기록하고 바로 커밋합니다.
+//   처리 중 서버가 죽으면 임대가 만료된 뒤 다른 워커(또는 재시작한 서버)가 마지막 완료 단계부터 이어서 처리합니다.
+// - 단계 완료를 기록할 때마다 임대를 다시 lease-seconds만큼 늘리므로, 임대 시간은 배치 전체가 아니라 한 단계(+큐 대기)만 덮으면 됩니다.
+// - 모든 기록은 작업의 버전(@Version)이 가져갈 때와 같을 때만 반영됩니다. 임대가 만료되어 다른 워커가 가져간 작업이면
+//   IngestionLeaseLostException이 발생하고, 이 워커는 작업을 파이프라인에서 내보냅니다.
+@Service
+public class IngestionQueueService {
+
+    // 아직 처리할 단계가 남은 상태
+    private static final List<String> CLAIMABLE_STATUSES = List.of(
+            IngestionStatus.FETCHED.name(),
+            IngestionStatus.EXTRACTED.name(),
+            IngestionStatus.ANALYZED.name(),
+            IngestionStatus.PERSISTED.name()
+    );
+
+    // 다중 행 INSERT 한 번에 넣을 최대 작업 수
+    private static final int INSERT_CHUNK_SIZE = 100;
+
+    private final IngestionTaskRepository ingestionTaskRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    // 작업 임대 시간. 단계 하나의 처리 시간 제한과 다음 단계 큐 대기 시간을 합한 것보다 길어야 합니다.
+    @Value("${news.ingestion.lease-seconds:900}")
+    private long leaseSeconds;
+
+    // 작업당 최대 시도 횟수 (초과 시 FAILED)
+    @Value("${news.ingestion.max-attempts:5}")
+    private int maxAttempts;
+
+    // 실패한 작업을 다시 가져가기까지의 기본 대기 시간 (시도마다 2배)
+    @Value("${news.ingestion.retry-backoff-seconds:60}")
+    private long retryBackoffSeconds;
+
+    // 완료(NOTIFIED)된 작업 보관 기간
+    @Value("${news.ingestion.retention-days:3}")
+    private long retentionDays;
+
+    // 실패(FAILED)한 작업 보관 기간 (원인 확인용으로 완료 작업보다 조금 더 남겨 둡니다)
+    @Value("${news.ingestion.failed-retention-days:7}")
+    private long failedRetentionDays;
+
+    // 이 서버(워커)를 구분하는 이름 (pid@host, ClusterCoordinator와 같은 이름)
+    private final String nodeId;
+    private final ClusterCoordinator clusterCoordinator;
+
+    public IngestionQueueService(IngestionTaskRepository ingestionTaskRepository, JdbcTemplate jdbcTemplate,
+                                 ClusterCoordinator clusterCoordinator) {
+        this.ingestionTaskRepository = ingestionTaskRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.clusterCoordinator = clusterCoordinator;
+        this.nodeId = clusterCoordinator.getNodeId();
+    }
+
+    // 네이버에서 가져온 새 기사를 FETCHED 상태로 적재하고, 실제로 적재된 기사만 반환합니다. 이미 큐에 있는 링크는 건너뜁니다.
+    // 여러 노드가 같은 기사(여러 카테고리에 걸친 기사 등)를 동시에 적재해도 INSERT IGNORE라 한쪽만 들어가고 트랜잭션은 실패하지 않습니다.
+    // 기사마다 INSERT를 보내지 않고 다중 행 INSERT IGNORE ... RETURNING으로 묶어, 실제로 들어간 링크만 돌려받습니다. (MariaDB 10.5 이상)
+    // JdbcTemplate은 JpaTransactionManager가 연 같은 커넥션/트랜잭션에 참여합니다.
+    @Transactional
+    public List<Item> enqueue(List<Item> items, Map<String, Long> categoryIdByLink) {
+        if (items.isEmpty()) {
+            return List.of();
+        }
+        Set<String> existing = new HashSet<>(ingestionTaskRepository.findExistingLinks(
+                items.stream().map(Item::getOriginallink).toList()));
+        List<Item> candidates = new ArrayList<>();
+        for (Item item : items) {
+            if (existing.add(item.getOriginallink())) {
+                candidates.add(item);
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Set<String> insertedLinks = new HashSet<>();
+        for (int from = 0; from < candidates.size(); from += INSERT_CHUNK_SIZE) {
+            insertedLinks.addAll(insertIgnore(candidates.subList(from, Math.min(from + INSERT_CHUNK_SIZE, candidates.size())),
+                    categoryIdByLink, now));
+        }
+        return candidates.stream().filter(item -> insertedLinks.contains(item.getOriginallink())).toList();
+    }
+
+    // 새 작업을 FETCHED 상태로 적재합니다. 다른 노드가 같은 링크를 먼저 적재한 행은 무시되고 반환 목록에서도 빠집니다.
+    private List<String> insertIgnore(List<Item> items, Map<String, Long> categoryIdByLink, LocalDateTime now) {
+        String sql = "INSERT IGNORE INTO ingestion_task"
+                + " (original_link, category_id, title, description, pub_date, status, attempts, local_analysis, version, created_at, updated_at)"
+                + " VALUES " + String.join(", ", Collections.nCopies(items.size(), "(?, ?, ?, ?, ?, 'FETCHED', 0, FALSE, ?, ?)"))
+                + " RETURNING original_link";
+        List<Object> args = new ArrayList<>(items.size() * 7);
+        for (Item item : items) {
+            args.add(item.getOriginallink());
+            args.add(categoryIdByLink.get(item.getOriginallink()));
+            args.add(item.getCleanTitle());
+            args.add(item.getCleanDescription());
+            args.add(item.getPubDate());
+            args.add(now);
+            args.add(now);
+        }
+        return jdbcTemplate.queryForList(sql, String.class, args.toArray());
+    }
+
+    // 처리할 작업을 최대 limit개 가져오고 임대를 설정합니다. 트랜잭션이 끝나면 행 잠금은 풀리고 임대만 남습니다.
+    @Transactional
+    public List<IngestionTask> claimBatch(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<IngestionTask> tasks = ingestionTaskRepository.lockClaimable(CLAIMABLE_STATUSES, now, limit);
+        for (IngestionTask task : tasks) {
+            task.setClaimedBy(nodeId);
+            task.setClaimedUntil(now.plusSeconds(leaseSeconds));
+        }
+        return tasks;
+    }
+
+    // 단계 완료를 기록하고 임대를 연장합니다. 같은 워커가 다음 단계를 이어서 처리합니다.
+    public IngestionTask advance(IngestionTask task, IngestionStatus status) {
+        task.setStatus(status);
+        task.setLastError(null);
+        if (status == IngestionStatus.NOTIFIED) {
+            release(task);
+        } else {
+            task.setClaimedUntil(LocalDateTime.now().plusSeconds(leaseSeconds));
+        }
+        return save(task);
+    }
+
+    // 여러 작업의 단계 완료를 한 번에 기록합니다. 호출하는 쪽의 트랜잭션 안에서 사용합니다.
+    // 먼저 IN 조회 한 번으로 영속성 컨텍스트에 올려 두어, 저장(merge) 시 작업마다 SELECT가 나가지 않게 합니다.
+    // 한 건이라도 임대를 잃었으면 IngestionLeaseLostException으로 트랜잭션 전체가 롤백됩니다.
+    public List<IngestionTask> advanceAll(List<IngestionTask> tasks, IngestionStatus status) {
+        ingestionTaskRepository.findAllById(tasks.stream().map(IngestionTask::getId).toList());
+        return tasks.stream().map(task -> advance(task, status)).toList();
+    }
+
+    // 일시적인 오류: 시도 횟수를 늘리고 백오프 후 다시 가져갈 수 있도록 임대 만료 시각을 조정합니다.
+    public IngestionTask retryLater(IngestionTask task, String error, Duration minDelay) {
+        task.setAttempts(task.getAttempts() + 1);
+        task.setLastError(truncate(error));
+        if (task.getAttempts() >= maxAttempts) {
+            task.setStatus(IngestionStatus.FAILED);
+            release(task);
+        } else {
+            long backoff = retryBackoffSeconds << Math.min(task.getAttempts() - 1, 10);
+            if (minDelay != null) {
+                backoff = Math.max(backoff, minDelay.toSeconds());
+            }
+            task.setClaimedBy(null);
+            task.setClaimedUntil(LocalDateTime.now().plusSeconds(backoff));
+        }
+        return save(task);
+    }
+
+    // 재시도해도 소용없는 오류 (본문 부족 등)
+    public IngestionTask fail(IngestionTask task, String error) {
+        task.setAttempts(task.getAttempts() + 1);
+        task.setLastError(truncate(error));
+        task.setStatus(IngestionStatus.FAILED);
+        release(task);
+        return save(task);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    // 매일 새벽 4시 30분에 오래된 완료/실패 작업을 정리합니다. (본문 등 큰 컬럼이 쌓이지 않도록, 리더 노드만)
+    @Scheduled(cron = "0 30 4 * * *", zone = "Asia/Seoul")
+    @Transactional
+    public void purgeCompleted() {
+        if (!clusterCoordinator.isLeader()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        int removed = ingestionTaskRepository.deleteByStatusAndUpdatedAtBefore(
+                IngestionStatus.NOTIFIED, now.minusDays(retentionDays));
+        int removedFailed = ingestionTaskRepository.deleteByStatusAndUpdatedAtBefore(
+                IngestionStatus.FAILED, now.minusDays(failedRetentionDays));
+        System.out.println(">>> [IngestionQueue] 수집 작업 정리: 완료 " + removed + "건, 실패 " + removedFailed + "건");
+    }
+
+    // 가져간 뒤로 다른 워커가 작업을 가져가지 않았을 때만(버전이 같을 때만) 기록합니다.
+    private IngestionTask save(IngestionTask task) {
+        try {
+            return ingestionTaskRepository.save(task);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw new IngestionLeaseLostException(task.getId(), e);
+        }
+    }
+
+    private static void release(IngestionTask task) {
+        task.setClaimedBy(null);
+        task.setClaimedUntil(null);
+    }
+
+    private static String truncate(String error) {
+        if (error == null) {
+            return null;
+        }
+        return error.length() > 500 ? error.substring(0, 500) : error;
+    }
+}
@@ -0,0 +1,127 @@
+package com.highlight.nuzip.service;
+
+import com.highlight.nuzip.dto.NewsAnalysisResponse;
+import com.highlight.nuzip.model.AnalysisStatus;
+import com.highlight.nuzip.model.NewsArticle;
+import com.highlight.nuzip.repository.NewsArticleRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// 할당량 초과 중에 로컬 간이 분석(LOCAL)으로 게시된 기사를 Gemini 분석으로 교체합니다.
+// - Gemini 호출이 일시 중지되지 않은 동안에만, 최신 LOCAL 기사부터 batch-size개씩 처리합니다. (클러스터에서는 리더 노드만)
+//   id 커서로 내려가며 훑고 끝에 닿으면 처음(최신)부터 다시 시작하므로, 본문을 구할 수 없는 기사가 앞을 막지 않습니다.
+// - 본문은 보관된 기사 본문(news_article_body) → 수집 작업(ingestion_task)의 추출 본문 순으로 찾고, 없으면 다시 추출해 보관합니다. (크롤링 캐시를 거침)
+// - 요청은 GeminiBatchAnalyzer로 한꺼번에 넣어 배치 요청으로 묶이게 하고, 성공한 결과만 반영합니다.
+@Service
+public class LocalAnalysisUpgrader {
+
+    private final NewsArticleRepository newsArticleRepository;
+    private final ArticleBodyStore articleBodyStore;
+    private final GeminiBatchAnalyzer geminiBatchAnalyzer;
+    private final GeminiRateLimiter geminiRateLimiter;
+    private final ArticlePreprocessor articlePreprocessor;
+    private final AnalysisCache analysisCache;
+    private final ClusterCoordinator clusterCoordinator;
+
+    @Value("${news.analysis.local-upgrade.batch-size:20}")
+    private int batchSize;
+
+    // 한 번의 교체 작업에서 Gemini 응답을 기다리는 최대 시간
+    @Value("${news.analysis.local-upgrade.wait-seconds:300}")
+    private long waitSeconds;
+
+    // 다음에 훑을 위치 (이 id보다 작은 기사부터)
+    private long cursor = Long.MAX_VALUE;
+
+    public LocalAnalysisUpgrader(NewsArticleRepository newsArticleRepository, ArticleBodyStore articleBodyStore,
+                                 GeminiBatchAnalyzer geminiBatchAnalyzer, GeminiRateLimiter geminiRateLimiter,
+                                 ArticlePreprocessor articlePreprocessor, AnalysisCache analysisCache, ClusterCoordinator clusterCoordinator) {
+        this.newsArticleRepository = newsArticleRepository;
+        this.articleBodyStore = articleBodyStore;
+        this.geminiBatchAnalyzer = geminiBatchAnalyzer;
+        this.geminiRateLimiter = geminiRateLimiter;
+        this.articlePreprocessor = articlePreprocessor;
+        this.analysisCache = analysisCache;
+        this.clusterCoordinator = clusterCoordinator;
+    }
+
+    @Scheduled(initialDelayString = "${news.analysis.local-upgrade.interval-seconds:120}",
+            fixedDelayString = "${news.analysis.local-upgrade.interval-seconds:120}", timeUnit = TimeUnit.SECONDS)
+    public void upgrade() {
+        if (!clusterCoordinator.isLeader() || geminiRateLimiter.isPaused()) {
+            return;
+        }
+        List<NewsArticle> articles = newsArticleRepository.findByAnalysisStatusAndIdLessThanOrderByIdDesc(
+                AnalysisStatus.LOCAL, cursor, PageRequest.of(0, batchSize));
+        if (articles.isEmpty()) {
+            cursor = Long.MAX_VALUE;
+            return;
+        }
+        cursor = articles.get(articles.size() - 1).getId();
+
+        List<Upgrade> upgrades = new ArrayList<>();
+        for (NewsArticle article : articles) {
+            try {
+                String content = articleBodyStore.findOrExtract(article.getId(), article.getOriginalLink()).orElse(null);
+                if (content == null) {
+                    continue;
+                }
+                String preparedContent = articlePreprocessor.prepare(content);
+                String cacheKey = analysisCache.key(preparedContent);
+                CompletableFuture<NewsAnalysisResponse> analysis = analysisCache.get(cacheKey)
+                        .map(CompletableFuture::completedFuture)
+                        .orElseGet(() -> geminiBatchAnalyzer.submit(preparedContent));
+                upgrades.add(new Upgrade(article, cacheKey, analysis));
+            } catch (Exception e) {
+                System.err.println("!!! [분석 교체] 본문 준비 실패: " + article.getTitle() + " - " + e.getMessage());
+            }
+        }
+
+        int upgraded = 0;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(waitSeconds);
+        for (int i = 0; i < upgrades.size(); i++) {
+            Upgrade upgrade = upgrades.get(i);
+            try {
+                NewsAnalysisResponse response = upgrade.analysis().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                if (!NewsArticleProcessor.isReusableAnalysis(response)) {
+                    continue;
+                }
+                analysisCache.put(upgrade.cacheKey(), response);
+                upgraded += newsArticleRepository.upgradeLocalAnalysis(upgrade.article().getId(), response.summary(),
+                        response.keywords(), response.category().trim());
+            } catch (ExecutionException e) {
+                // 할당량 초과 등: 다음 주기에 다시 시도
+                System.err.println("!!! [분석 교체] Gemini 분석 실패: " + upgrade.article().getTitle() + " - " + e.getCause().getMessage());
+            } catch (TimeoutException e) {
+                System.err.println("!!! [분석 교체] Gemini 응답 대기 시간 초과, 남은 기사는 다음 주기에 처리합니다.");
+                cancelRemaining(upgrades, i);
+                break;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancelRemaining(upgrades, i);
+                return;
+            } catch (Exception e) {
+                System.err.println("!!! [분석 교체] 반영 실패: " + upgrade.article().getTitle() + " - " + e.getMessage());
+            }
+        }
+        System.out.println(">>> [분석 교체] 로컬 분석 기사 " + articles.size() + "건 중 " + upgraded + "건을 Gemini 분석으로 교체했습니다.");
+    }
+
+    // 더 기다리지 않는 분석 요청을 취소해, 아직 전송 전이면 Gemini 할당량을 쓰지 않게 합니다.
+    private static void cancelRemaining(List<Upgrade> upgrades, int from) {
+        for (int i = from; i < upgrades.size(); i++) {
+            upgrades.get(i).analysis().cancel(false);
+        }
+    }
+
+    private record Upgrade(NewsArticle article, String cacheKey, CompletableFuture<NewsAnalysisResponse> analysis) {}
+}
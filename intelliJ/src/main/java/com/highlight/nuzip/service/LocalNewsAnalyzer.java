@@ -0,0 +1,245 @@
+package com.highlight.nuzip.service;
+
+import com.highlight.nuzip.dto.NewsAnalysisResponse;
+import com.highlight.nuzip.model.NewsCategory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Gemini를 쓸 수 없을 때(할당량 초과 등) 서버 안에서 바로 만드는 간이 분석입니다. 결과는 LOCAL로 표시되고 나중에 Gemini 분석으로 교체됩니다.
+// - 요약: TF-IDF 점수가 높은 문장 최대 3개를 원래 순서대로 뽑는 추출 요약 (첫 문장 가중)
+// - 키워드: TF-IDF 상위 5개 단어
+// - 카테고리: 단어가 카테고리별 어휘 목록(NewsCategory 8개)에 얼마나 걸리는지로 분류, 아무것도 걸리지 않으면 사회
+// 형태소 분석기 없이 공백/기호로 나눈 단어에서 흔한 조사만 떼어 냅니다.
+// 문서 빈도(DF)는 이 분석기로 분석한 기사들로 누적하며, 단어 수가 상한을 넘으면 절반으로 줄여 최근 기사 위주로 유지합니다.
+@Component
+public class LocalNewsAnalyzer {
+
+    private static final int SUMMARY_SENTENCES = 3;
+    private static final int KEYWORDS = 5;
+    private static final int MIN_SENTENCE_LENGTH = 10;
+    private static final int FALLBACK_SUMMARY_LENGTH = 200;
+    private static final double LEAD_SENTENCE_BONUS = 1.2;
+    // 문서 빈도 표의 단어 수 상한
+    private static final int MAX_TERMS = 50_000;
+    private static final String DEFAULT_CATEGORY = NewsCategory.SOCIETY.getLabel();
+
+    // 긴 것부터 확인합니다. 떼고 남은 단어가 2글자 이상일 때만 뗍니다.
+    private static final List<String> PARTICLES = List.of(
+            "에서는", "으로는", "에게서", "에서도", "으로도", "이라는", "까지는", "부터는",
+            "에서", "으로", "에게", "까지", "부터", "처럼", "보다", "라는", "에는", "와의", "과의", "이나", "이며",
+            "은", "는", "이", "가", "을", "를", "의", "에", "로", "와", "과", "도", "만");
+
+    // 조사처럼 끝나지만 떼면 뜻이 바뀌는 단어 (경기도 → 경기). 두 글자 단어는 원래 떼지 않으므로 세 글자 이상만 둡니다.
+    private static final Set<String> NO_PARTICLE = Set.of(
+            "경기도", "강원도", "충청도", "전라도", "경상도", "제주도", "충청북도", "충청남도", "전라북도", "전라남도",
+            "경상북도", "경상남도", "울릉도", "한반도");
+
+    // 어휘 뒤에 붙어도 같은 단어로 보는 꼬리 (선수들 → 선수). 조사는 tokenize에서 한 번 떼므로 두 번째 조사만 남습니다.
+    private static final List<String> LEXICON_SUFFIXES = List.of("들");
+
+    private static final Set<String> STOPWORDS = Set.of(
+            "있는", "하는", "되는", "했던", "같은", "위한", "대한", "통해", "따라", "관련", "이번", "지난", "오는", "현재",
+            "이날", "올해", "내년", "작년", "당시", "가운데", "이후", "이전", "때문", "정도", "경우", "이상", "이하", "최근",
+            "모든", "다른", "또한",
+            "하지만", "그러나", "그리고", "특히", "한편", "오전", "오후", "기자", "뉴스", "사진", "제공", "연합뉴스", "뉴시스",
+            "그는", "그녀", "우리", "것으로", "것이", "것은", "등을", "등의", "있도록", "하기", "했고", "하며", "있어");
+
+    // 카테고리별 대표 어휘 (단어가 어휘와 같거나, 어휘 뒤에 복수 접미사/조사만 붙었으면 해당 카테고리 점수)
+    // 경기(스포츠/경제)처럼 여러 카테고리에 걸치는 단어는 넣지 않습니다.
+    private static final Map<NewsCategory, List<String>> LEXICON = new EnumMap<>(NewsCategory.class);
+
+    static {
+        LEXICON.put(NewsCategory.POLITICS, List.of("대통령", "국회", "여당", "야당", "민주당", "국민의힘", "의원", "총리", "장관",
+                "선거", "정당", "대선", "총선", "국방", "북한", "대통령실", "법안", "탄핵", "국정", "정치", "청문회", "개헌"));
+        LEXICON.put(NewsCategory.ECONOMY, List.of("경제", "금리", "증시", "주가", "코스피", "코스닥", "환율", "물가", "투자",
+                "수출", "수입", "매출", "영업이익", "실적", "은행", "금융", "부동산", "아파트", "주식", "인플레이션", "성장률",
+                "예산", "세금", "기업", "무역", "관세", "채권", "펀드", "침체", "경기침체", "둔화", "소비", "경기부양"));
+        LEXICON.put(NewsCategory.SOCIETY, List.of("경찰", "검찰", "법원", "재판", "사건", "사고", "화재", "수사", "혐의", "피의자",
+                "구속", "학교", "교육", "노동", "파업", "복지", "병원", "환자", "시민", "지자체", "소방", "피해자", "학생"));
+        LEXICON.put(NewsCategory.LIFE_CULTURE, List.of("문화", "전시", "공연", "축제", "여행", "관광", "음식", "건강", "날씨",
+                "출간", "박물관", "미술", "패션", "생활", "레저", "종교", "맛집", "전시회", "작가", "소설"));
+        LEXICON.put(NewsCategory.IT_SCIENCE, List.of("인공지능", "ai", "반도체", "스마트폰", "소프트웨어", "플랫폼", "데이터",
+                "클라우드", "통신", "5g", "과학", "연구진", "우주", "위성", "로봇", "배터리", "기술", "게임", "보안", "해킹",
+                "챗봇", "알고리즘", "디지털"));
+        LEXICON.put(NewsCategory.WORLD, List.of("미국", "중국", "일본", "러시아", "우크라이나", "유럽", "영국", "프랑스", "독일",
+                "이스라엘", "중동", "트럼프", "바이든", "시진핑", "푸틴", "유엔", "나토", "해외", "외신", "백악관", "국제"));
+        LEXICON.put(NewsCategory.ENTERTAINMENT, List.of("배우", "가수", "아이돌", "드라마", "영화", "예능", "방송", "앨범", "컴백",
+                "콘서트", "연예", "출연", "시청률", "데뷔", "뮤직비디오", "걸그룹", "보이그룹", "팬미팅", "주연"));
+        LEXICON.put(NewsCategory.SPORTS, List.of("선수", "감독", "리그", "축구", "야구", "농구", "배구", "골프", "올림픽",
+                "월드컵", "득점", "우승", "시즌", "구단", "홈런", "승리", "패배", "국가대표", "대표팀", "타자", "투수"));
+    }
+
+    private final Map<String, Integer> documentFrequency = new HashMap<>();
+    private int documents;
+
+    // 전처리된 본문(ArticlePreprocessor.prepare)을 분석합니다. Gemini 응답과 같은 형식(요약, 쉼표로 구분한 키워드, 카테고리 라벨)으로 반환합니다.
+    public NewsAnalysisResponse analyze(String preparedContent) {
+        String text = preparedContent == null ? "" : preparedContent;
+        List<String> sentences = ArticlePreprocessor.splitSentences(text);
+        List<List<String>> sentenceTerms = new ArrayList<>(sentences.size());
+        Map<String, Integer> termFrequency = new LinkedHashMap<>();
+        for (String sentence : sentences) {
+            List<String> terms = tokenize(sentence);
+            sentenceTerms.add(terms);
+            for (String term : terms) {
+                termFrequency.merge(term, 1, Integer::sum);
+            }
+        }
+
+        Map<String, Double> weights = weigh(termFrequency);
+        List<String> keywords = weights.entrySet().stream()
+                .sorted(Map.Entry.<String, Double>comparingByValue().reversed()) // 같은 점수는 먼저 나온 단어 우선 (안정 정렬)
+                .limit(KEYWORDS)
+                .map(Map.Entry::getKey)
+                .toList();
+
+        return new NewsAnalysisResponse(summarize(text, sentences, sentenceTerms, weights), String.join(", ", keywords),
+                classify(termFrequency, keywords));
+    }
+
+    // 단어별 TF-IDF. 이 기사를 문서 빈도에 반영한 뒤 계산합니다.
+    private Map<String, Double> weigh(Map<String, Integer> termFrequency) {
+        Map<String, Double> weights = new LinkedHashMap<>();
+        synchronized (documentFrequency) {
+            documents++;
+            for (String term : termFrequency.keySet()) {
+                documentFrequency.merge(term, 1, Integer::sum);
+            }
+            for (Map.Entry<String, Integer> entry : termFrequency.entrySet()) {
+                double idf = Math.log((1.0 + documents) / (1.0 + documentFrequency.get(entry.getKey()))) + 1;
+                weights.put(entry.getKey(), (1 + Math.log(entry.getValue())) * idf);
+            }
+            if (documentFrequency.size() > MAX_TERMS) {
+                decay();
+            }
+        }
+        return weights;
+    }
+
+    // 문서 빈도를 절반으로 줄이고 0이 된 단어를 지웁니다.
+    private void decay() {
+        documentFrequency.replaceAll((term, count) -> count / 2);
+        documentFrequency.values().removeIf(count -> count == 0);
+        documents = Math.max(1, documents / 2);
+    }
+
+    private static String summarize(String text, List<String> sentences, List<List<String>> sentenceTerms, Map<String, Double> weights) {
+        List<Integer> candidates = new ArrayList<>();
+        Map<Integer, Double> scores = new HashMap<>();
+        for (int i = 0; i < sentences.size(); i++) {
+            List<String> terms = sentenceTerms.get(i);
+            if (sentences.get(i).length() < MIN_SENTENCE_LENGTH || terms.isEmpty()) {
+                continue;
+            }
+            double score = 0;
+            for (String term : Set.copyOf(terms)) {
+                score += weights.getOrDefault(term, 0.0);
+            }
+            score /= Math.sqrt(terms.size());
+            if (candidates.isEmpty()) {
+                score *= LEAD_SENTENCE_BONUS; // 기사 첫 문장은 보통 핵심을 담고 있음
+            }
+            candidates.add(i);
+            scores.put(i, score);
+        }
+        if (candidates.isEmpty()) {
+            return text.length() <= FALLBACK_SUMMARY_LENGTH ? text : text.substring(0, FALLBACK_SUMMARY_LENGTH);
+        }
+        return candidates.stream()
+                .sorted(Comparator.comparingDouble((Integer i) -> scores.get(i)).reversed())
+                .limit(SUMMARY_SENTENCES)
+                .sorted()
+                .map(sentences::get)
+                .collect(Collectors.joining(" "));
+    }
+
+    // 카테고리별 어휘에 걸린 단어 빈도의 합 (키워드로 뽑힌 단어는 2배). 가장 높은 카테고리의 라벨을 반환합니다.
+    static String classify(Map<String, Integer> termFrequency, List<String> keywords) {
+        NewsCategory best = null;
+        double bestScore = 0;
+        for (Map.Entry<NewsCategory, List<String>> entry : LEXICON.entrySet()) {
+            double score = 0;
+            for (Map.Entry<String, Integer> term : termFrequency.entrySet()) {
+                if (matches(term.getKey(), entry.getValue())) {
+                    score += term.getValue() * (keywords.contains(term.getKey()) ? 2 : 1);
+                }
+            }
+            if (score > bestScore) {
+                bestScore = score;
+                best = entry.getKey();
+            }
+        }
+        return best == null ? DEFAULT_CATEGORY : best.getLabel();
+    }
+
+    private static boolean matches(String term, List<String> lexicon) {
+        for (String word : lexicon) {
+            if (term.equals(word)) {
+                return true;
+            }
+            if (term.length() > word.length() && term.startsWith(word)) {
+                String rest = term.substring(word.length());
+                if (LEXICON_SUFFIXES.contains(rest) || PARTICLES.contains(rest)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    // 글자/숫자 연속을 단어로 보고, 조사를 떼고, 불용어/숫자/한 글자/서술어(~다)를 뺍니다.
+    static List<String> tokenize(String sentence) {
+        List<String> terms = new ArrayList<>();
+        int length = sentence.length();
+        int i = 0;
+        while (i < length) {
+            while (i < length && !Character.isLetterOrDigit(sentence.charAt(i))) {
+                i++;
+            }
+            int start = i;
+            while (i < length && Character.isLetterOrDigit(sentence.charAt(i))) {
+                i++;
+            }
+            if (i > start) {
+                String term = normalize(sentence.substring(start, i));
+                if (term != null) {
+                    terms.add(term);
+                }
+            }
+        }
+        return terms;
+    }
+
+    private static String normalize(String word) {
+        String term = word.toLowerCase(Locale.ROOT);
+        if (isHangul(term.charAt(term.length() - 1)) && !NO_PARTICLE.contains(term)) {
+            for (String particle : PARTICLES) {
+                if (term.endsWith(particle) && term.length() - particle.length() >= 2) {
+                    term = term.substring(0, term.length() - particle.length());
+                    break;
+                }
+            }
+            if (term.endsWith("다")) {
+                return null;
+            }
+        }
+        if (term.length() < 2 || STOPWORDS.contains(term) || term.chars().allMatch(Character::isDigit)) {
+            return null;
+        }
+        return term;
+    }
+
+    private static boolean isHangul(char c) {
+        return c >= '가' && c <= '힣';
+    }
+}
@@ -6,10 +6,10 @@ import com.highlight.nuzip.model.Memo;
 import com.highlight.nuzip.model.Scrap;
 import com.highlight.nuzip.repository.MemoRepository;
 import com.highlight.nuzip.repository.ScrapRepository;
+import com.highlight.nuzip.util.TextUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -67,7 +67,7 @@ public class MemoService {
     // Entity -> Response 변환
     private MemoResponse toResponse(Memo memo){
         String formattedDate = memo.getUpdatedAt()
-                .format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+                .format(TextUtils.DATE_TIME);
         return new MemoResponse(
                 memo.getId(),
                 memo.getScrap().getUserId(),
@@ -1,13 +1,20 @@
 package com.highlight.nuzip.service;
 
 import com.highlight.nuzip.dto.NaverNewsResponse;
+import io.netty.channel.ChannelOption;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import java.time.Duration;
 
 @Service
 public class NaverApiService {
@@ -22,32 +29,80 @@ public class NaverApiService {
     @Value("${naver.base-url:https://openapi.naver.com}")
     private String baseUrl;
 
+    // 호출 1건당 응답 대기 시간 (초)
+    @Value("${naver.timeout-seconds:10}")
+    private int timeoutSeconds;
+
+    // 연결 수립 타임아웃 (밀리초)
+    @Value("${naver.connect-timeout-millis:3000}")
+    private int connectTimeoutMillis;
+
+    // 공유 커넥션 풀 크기 및 유휴 커넥션 유지 시간
+    @Value("${naver.pool.max-connections:16}")
+    private int maxConnections;
+
+    @Value("${naver.pool.max-idle-seconds:30}")
+    private int maxIdleSeconds;
+
     private final String newsSearchPath = "/v1/search/news.json"; // 경로를 상수로 관리
 
+    private ConnectionProvider connectionProvider;
     private WebClient webClient;
 
     @PostConstruct
     public void init() {
+        // 모든 카테고리 호출이 같은 커넥션 풀을 재사용하도록 전용 ConnectionProvider를 만듭니다.
+        this.connectionProvider = ConnectionProvider.builder("naver-api")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(Duration.ofSeconds(timeoutSeconds))
+                .maxIdleTime(Duration.ofSeconds(maxIdleSeconds))
+                .evictInBackground(Duration.ofSeconds(maxIdleSeconds))
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMillis)
+                .responseTimeout(Duration.ofSeconds(timeoutSeconds))
+                .compress(true);
+
         // baseUrl을 호스트(도메인)로 설정합니다.
         this.webClient = WebClient.builder()
                 .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
                 .defaultHeader("X-Naver-Client-Id", clientId)
                 .defaultHeader("X-Naver-Client-Secret", clientSecret)
                 .build();
     }
 
-    // 네이버 뉴스 검색 API를 호출합니다.
+    @PreDestroy
+    public void shutdown() {
+        if (connectionProvider != null) {
+            connectionProvider.dispose();
+        }
+    }
+
+    // 네이버 뉴스 검색 API를 호출합니다. (호출 단위 타임아웃 적용, 블로킹하지 않음)
     public Mono<NaverNewsResponse> searchNews(String query, int display) {
+        return searchNews(query, display, 1);
+    }
+
+    // start: 검색 시작 위치 (1 ~ 1000), display: 한 번에 가져올 개수 (최대 100)
+    public Mono<NaverNewsResponse> searchNews(String query, int display, int start) {
         return webClient.get()
                 .uri(uriBuilder -> uriBuilder
                         .path(newsSearchPath) // 🌟 경로를 명시적으로 지정
                         .queryParam("query", query)
                         .queryParam("display", display)
+                        .queryParam("start", start)
                         .queryParam("sort", "date")
                         .build())
                 .retrieve()
                 .bodyToMono(NaverNewsResponse.class)
+                .timeout(Duration.ofSeconds(timeoutSeconds))
                 .doOnError(e -> System.err.println("WebClient 오류 발생: " + e.getMessage()));
     }
-}
\ No newline at end of file
+
+    public int getTimeoutSeconds() {
+        return timeoutSeconds;
+    }
+}
@@ -0,0 +1,387 @@
+package com.highlight.nuzip.service;
+
+import com.highlight.nuzip.dto.Item;
+import com.highlight.nuzip.dto.NewsAnalysisResponse;
+import com.highlight.nuzip.model.AnalysisStatus;
+import com.highlight.nuzip.model.IngestionStatus;
+import com.highlight.nuzip.model.IngestionTask;
+import com.highlight.nuzip.model.NewsArticle;
+import com.highlight.nuzip.model.Subscription;
+import com.highlight.nuzip.repository.NewsArticleRepository;
+import com.highlight.nuzip.repository.SubscriptionRepository;
+import com.highlight.nuzip.util.TextUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+// 수집 작업 큐(ingestion_task)의 기사 1건에 대해 파이프라인 단계별 처리(크롤링, Gemini 분석, 저장, 알림 생성)를 수행합니다.
+// 각 메서드는 단계 결과를 ingestion_task에 기록한 뒤 갱신된 작업을 반환하며, 반환된 작업의 상태로 다음 단계가 결정됩니다.
+// 임대를 잃은 작업(IngestionLeaseLostException)은 기록하지 않고, 단건이면 예외를 그대로 던지고 배치면 결과 목록에서 뺍니다.
+// 네트워크 I/O(크롤링, Gemini 호출)는 트랜잭션 밖에서 수행하고, DB 커넥션은 단계 결과 기록과 배치 저장/알림 생성 동안만 잡습니다.
+// (Hikari 풀이 작으므로 외부 호출 지연이 커넥션 점유 시간으로 번지지 않게 합니다.)
+// 기사는 2단계로 게시됩니다: 수집 직후 네이버 검색 결과(제목, 설명, 링크, 발행 시각)만으로 PENDING 상태로 바로 저장하고(publishAll),
+// 파이프라인이 크롤링/분석을 마치면 같은 기사에 요약, 키워드, 카테고리를 채워 DONE으로 바꿉니다(persistAll).
+// 추출한 본문은 이때 압축해 news_article_body에 함께 저장합니다. (재분석, 읽기 모드)
+@Service
+public class NewsArticleProcessor {
+
+    private final NewsArticleRepository newsArticleRepository;
+    private final GeminiService geminiService;
+    private final GeminiBatchAnalyzer geminiBatchAnalyzer;
+    private final ArticleLinkDeduplicator articleLinkDeduplicator;
+    private final ArticleFingerprintIndex articleFingerprintIndex;
+    private final ArticlePreprocessor articlePreprocessor;
+    private final AnalysisCache analysisCache;
+    private final ArticleBodyStore articleBodyStore;
+    // Gemini를 쓸 수 없을 때의 간이 분석
+    private final LocalNewsAnalyzer localNewsAnalyzer;
+    private final GeminiRateLimiter geminiRateLimiter;
+
+    // 알림 생성용
+    private final NotificationService notificationService;
+    private final SubscriptionRepository subscriptionRepository;
+
+    private final IngestionQueueService ingestionQueueService;
+    private final TransactionTemplate transactionTemplate;
+
+    // Gemini 할당량 초과 시 로컬 간이 분석으로 먼저 게시하고 나중에 Gemini 분석으로 교체할지 여부
+    @Value("${news.analysis.local-fallback.enabled:true}")
+    private boolean localFallbackEnabled;
+
+    public NewsArticleProcessor(NewsArticleRepository newsArticleRepository, GeminiService geminiService, GeminiBatchAnalyzer geminiBatchAnalyzer, ArticleLinkDeduplicator articleLinkDeduplicator, ArticleFingerprintIndex articleFingerprintIndex, ArticlePreprocessor articlePreprocessor, AnalysisCache analysisCache, ArticleBodyStore articleBodyStore, LocalNewsAnalyzer localNewsAnalyzer, GeminiRateLimiter geminiRateLimiter, NotificationService notificationService, SubscriptionRepository subscriptionRepository, IngestionQueueService ingestionQueueService, TransactionTemplate transactionTemplate) {
+        this.newsArticleRepository = newsArticleRepository;
+        this.geminiService = geminiService;
+        this.geminiBatchAnalyzer = geminiBatchAnalyzer;
+        this.articleLinkDeduplicator = articleLinkDeduplicator;
+        this.articleFingerprintIndex = articleFingerprintIndex;
+        this.articlePreprocessor = articlePreprocessor;
+        this.analysisCache = analysisCache;
+        this.articleBodyStore = articleBodyStore;
+        this.localNewsAnalyzer = localNewsAnalyzer;
+        this.geminiRateLimiter = geminiRateLimiter;
+        this.notificationService = notificationService;
+        this.subscriptionRepository = subscriptionRepository;
+        this.ingestionQueueService = ingestionQueueService;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    // 수집 직후 빠른 게시: 새 기사를 작업 큐에 적재하고, 같은 트랜잭션에서 분석 전 기사(PENDING)로 바로 저장합니다.
+    // 속보가 Gemini 분석(할당량 대기 포함)을 기다리지 않고 몇 초 안에 조회됩니다. 저장한 기사 수를 반환합니다.
+    public int publishAll(List<Item> items, Map<String, Long> categoryIdByLink) {
+        if (items.isEmpty()) {
+            return 0;
+        }
+        Map<String, NewsArticle> pendingByLink = items.stream()
+                .collect(Collectors.toMap(Item::getOriginallink, this::toPendingArticle, (first, second) -> first));
+        List<Item> published = transactionTemplate.execute(status -> {
+            // 작업 적재가 먼저: 다른 노드가 같은 링크를 동시에 적재하면 INSERT IGNORE에서 한쪽만 남으므로 기사도 한 번만 저장됩니다.
+            List<Item> enqueued = ingestionQueueService.enqueue(items, categoryIdByLink);
+            newsArticleRepository.saveAll(enqueued.stream().map(item -> pendingByLink.get(item.getOriginallink())).toList());
+            return enqueued;
+        });
+        for (Item item : published) {
+            articleLinkDeduplicator.markStored(item.getOriginallink());
+        }
+        return published.size();
+    }
+
+    // FETCHED → EXTRACTED: 기사 본문 크롤링 (텍스트와 이미지 URL을 함께 반환)
+    public IngestionTask extract(IngestionTask task) {
+        try {
+            GeminiService.ArticleExtractionResult extractionResult = geminiService.extractArticleContent(task.getOriginalLink());
+            String articleContent = extractionResult.content();
+
+            // 내용 부족은 다시 시도해도 같으므로 실패 처리, 크롤링 실패는 나중에 재시도
+            if (articleContent.startsWith("본문이 너무 짧습니다")) {
+                System.out.println("[크롤링] 본문 내용 부족으로 스킵: " + task.getTitle());
+                return settle(ingestionQueueService.fail(task, articleContent));
+            }
+            if (articleContent.startsWith("크롤링 실패")) {
+                System.out.println("[크롤링] 본문 크롤링 실패, 나중에 재시도: " + task.getTitle());
+                return settle(ingestionQueueService.retryLater(task, articleContent, null));
+            }
+
+            task.setContent(articleContent);
+            task.setImageUrl(extractionResult.imageUrl()); // 🌟 추출된 이미지 URL 🌟
+            return ingestionQueueService.advance(task, IngestionStatus.EXTRACTED);
+        } catch (Exception e) {
+            return handleError("크롤링", task, e);
+        }
+    }
+
+    // EXTRACTED → ANALYZED: Gemini 분석 (할당량 초과 중이면 로컬 간이 분석)
+    public IngestionTask analyze(IngestionTask task) {
+        // 본문 전처리는 여기서 한 번만 합니다. 캐시 키, 지문, Gemini/로컬 분석 모두 이 텍스트를 사용합니다.
+        String preparedContent = articlePreprocessor.prepare(task.getContent());
+        try {
+            // 전처리된 본문 기준으로 이미 분석한 적 있는 내용인지 먼저 확인합니다. (메모리 LRU → DB)
+            String cacheKey = analysisCache.key(preparedContent);
+            NewsAnalysisResponse analysisResponse = analysisCache.get(cacheKey).orElse(null);
+            if (analysisResponse != null) {
+                System.out.println("[분석] 분석 캐시 적중 (Gemini 호출 생략): " + task.getTitle());
+            }
+
+            // 본문 지문(SimHash)으로 최근 분석한 재배포 기사인지 확인하고, 같으면 기존 분석 결과를 재사용
+            long fingerprint = articleFingerprintIndex.fingerprint(preparedContent);
+            if (analysisResponse == null) {
+                analysisResponse = articleFingerprintIndex.findNearDuplicate(fingerprint).orElse(null);
+                if (analysisResponse != null) {
+                    System.out.println("[분석] 유사 기사 분석 결과 재사용 (Gemini 호출 생략): " + task.getTitle());
+                }
+            }
+
+            if (analysisResponse == null) {
+                // 할당량 초과로 Gemini 호출이 멈춘 동안에는 기다리지 않고 로컬 분석으로 먼저 내보냅니다.
+                if (localFallbackEnabled && geminiRateLimiter.isPaused()) {
+                    return analyzeLocally(task, preparedContent);
+                }
+                // Gemini에 분석 요청 (다른 기사들과 묶어 배치 요청으로 전송)
+                analysisResponse = geminiBatchAnalyzer.analyze(preparedContent);
+                if (!isReusableAnalysis(analysisResponse)) {
+                    // 요약이나 카테고리가 빠진 결과는 저장하지 않고 나중에 다시 분석합니다.
+                    String reason = analysisResponse == null ? "분석 결과 없음" : "분석 결과에 요약/카테고리 누락";
+                    return settle(ingestionQueueService.retryLater(task, reason, null));
+                }
+                analysisCache.put(cacheKey, analysisResponse);
+                articleFingerprintIndex.register(fingerprint, analysisResponse);
+            }
+
+            task.setSummary(analysisResponse.summary());
+            task.setKeywords(analysisResponse.keywords());
+            task.setAnalyzedCategory(analysisResponse.category().trim());
+            task.setLocalAnalysis(false);
+            return ingestionQueueService.advance(task, IngestionStatus.ANALYZED);
+        } catch (GeminiQuotaExceededException e) {
+            // 할당량 초과 오류 (429): GeminiBatchAnalyzer가 재시도 횟수를 모두 소진한 경우에만 도달합니다.
+            if (localFallbackEnabled) {
+                System.err.println("!!! [분석] Gemini API 할당량 초과 (429)로 로컬 분석을 사용합니다: " + task.getTitle());
+                return analyzeLocally(task, preparedContent);
+            }
+            // 큐에서 나중에 다시 시도합니다.
+            System.err.println("!!! [분석] Gemini API 할당량 초과 (429)로 분석을 미룹니다: " + task.getTitle());
+            return settle(ingestionQueueService.retryLater(task, e.getMessage(), e.getRetryAfter()));
+        } catch (Exception e) {
+            return handleError("분석", task, e);
+        }
+    }
+
+    // 로컬 간이 분석 결과로 ANALYZED 처리합니다. 기사는 LOCAL 상태로 저장되고 LocalAnalysisUpgrader가 나중에 Gemini 분석으로 교체합니다.
+    // 로컬 결과는 분석 캐시/유사 기사 색인에 넣지 않습니다.
+    private IngestionTask analyzeLocally(IngestionTask task, String preparedContent) {
+        NewsAnalysisResponse local = localNewsAnalyzer.analyze(preparedContent);
+        task.setSummary(local.summary());
+        task.setKeywords(local.keywords());
+        task.setAnalyzedCategory(local.category());
+        task.setLocalAnalysis(true);
+        System.out.println("[분석] Gemini 할당량 초과로 로컬 분석 결과를 먼저 반영합니다 (카테고리: " + local.category() + "): " + task.getTitle());
+        return ingestionQueueService.advance(task, IngestionStatus.ANALYZED);
+    }
+
+    // ANALYZED → PERSISTED: 먼저 게시된 기사들에 분석 결과를 한 트랜잭션에서 배치 UPDATE로 반영하고 작업 상태도 함께 변경합니다.
+    // 게시된 기사가 없는 작업(2단계 게시 이전에 적재된 작업 등)은 새 기사로 배치 INSERT합니다.
+    public List<IngestionTask> persistAll(List<IngestionTask> tasks) {
+        if (tasks.size() == 1) {
+            return List.of(persist(tasks.get(0)));
+        }
+        try {
+            List<ArticleBodyStore.CompressedBody> bodies = tasks.stream().map(this::compressBody).toList();
+            List<IngestionTask> persisted = transactionTemplate.execute(status -> {
+                saveAnalyzedArticles(tasks, bodies);
+                return ingestionQueueService.advanceAll(tasks, IngestionStatus.PERSISTED);
+            });
+
+            for (IngestionTask task : tasks) {
+                articleLinkDeduplicator.markStored(task.getOriginalLink());
+                System.out.println(">>> [저장] 뉴스 수집 및 분석 완료 (카테고리: " + task.getAnalyzedCategory() + "): " + task.getTitle());
+            }
+            return persisted;
+        } catch (Exception e) {
+            // 배치 중 한 건이라도 실패하면 전체가 롤백되므로, 한 건씩 다시 저장해 실패한 작업만 재시도로 돌립니다.
+            System.err.println("!!! [저장] 배치 저장 실패, 개별 저장으로 재시도합니다 (" + tasks.size() + "건): " + e.getMessage());
+            return eachOwned(tasks, this::persist);
+        }
+    }
+
+    // ANALYZED → PERSISTED: 기사 1건 저장과 작업 상태 변경을 하나의 트랜잭션으로 묶습니다.
+    public IngestionTask persist(IngestionTask task) {
+        try {
+            ArticleBodyStore.CompressedBody body = compressBody(task);
+            IngestionTask persisted = transactionTemplate.execute(status -> {
+                saveAnalyzedArticles(List.of(task), Collections.singletonList(body));
+                return ingestionQueueService.advance(task, IngestionStatus.PERSISTED);
+            });
+
+            articleLinkDeduplicator.markStored(task.getOriginalLink());
+            System.out.println(">>> [저장] 뉴스 수집 및 분석 완료 (카테고리: " + task.getAnalyzedCategory() + "): " + task.getTitle());
+            return persisted;
+        } catch (Exception e) {
+            return handleError("저장", task, e);
+        }
+    }
+
+    // PERSISTED → NOTIFIED: 여러 기사의 구독자 알림을 한 트랜잭션에서 배치 INSERT로 생성합니다.
+    public List<IngestionTask> notifyAll(List<IngestionTask> tasks) {
+        try {
+            // 구독자 조회는 쓰기 트랜잭션 전에 끝내고(같은 카테고리는 한 번만), 트랜잭션은 INSERT와 상태 변경만 담습니다.
+            Map<Long, List<String>> subscribersByCategory = new HashMap<>();
+            for (IngestionTask task : tasks) {
+                subscribersByCategory.computeIfAbsent(task.getCategoryId(),
+                        categoryId -> subscriptionRepository.findByCategoryId(categoryId).stream()
+                                .map(Subscription::getUserId)
+                                .toList());
+            }
+            return transactionTemplate.execute(status -> {
+                for (IngestionTask task : tasks) {
+                    notificationService.createNotifications(subscribersByCategory.get(task.getCategoryId()), "새 기사: " + task.getTitle(), task.getArticleId()); // 알림 db 저장
+                }
+                return ingestionQueueService.advanceAll(tasks, IngestionStatus.NOTIFIED);
+            });
+        } catch (Exception e) {
+            if (tasks.size() == 1) {
+                return List.of(handleError("알림", tasks.get(0), e));
+            }
+            System.err.println("!!! [알림] 배치 알림 생성 실패, 개별 처리로 재시도합니다 (" + tasks.size() + "건): " + e.getMessage());
+            return eachOwned(tasks, task -> notifyAll(List.of(task)).get(0));
+        }
+    }
+
+    // 링크로 먼저 게시된 기사를 한 번의 IN 조회로 찾아 분석 결과를 채우고(커밋 시 배치 UPDATE), 없으면 새로 저장합니다. 트랜잭션 안에서 호출합니다.
+    // bodies는 tasks와 같은 순서의 압축 본문입니다. (본문이 없으면 null)
+    private void saveAnalyzedArticles(List<IngestionTask> tasks, List<ArticleBodyStore.CompressedBody> bodies) {
+        Map<String, NewsArticle> published = newsArticleRepository.findArticlesByOriginalLinkIn(
+                        tasks.stream().map(IngestionTask::getOriginalLink).toList()).stream()
+                .collect(Collectors.toMap(NewsArticle::getOriginalLink, Function.identity()));
+        List<NewsArticle> created = new ArrayList<>();
+        List<NewsArticle> articles = new ArrayList<>(tasks.size());
+        for (IngestionTask task : tasks) {
+            NewsArticle article = published.get(task.getOriginalLink());
+            if (article == null) {
+                article = toArticle(task);
+                created.add(article);
+            } else {
+                applyAnalysis(article, task);
+            }
+            articles.add(article);
+        }
+        newsArticleRepository.saveAll(created); // ID는 시퀀스에서 미리 할당되므로 커밋 시 한 번에 INSERT됩니다.
+        Map<Long, ArticleBodyStore.CompressedBody> bodyByArticleId = new LinkedHashMap<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            tasks.get(i).setArticleId(articles.get(i).getId());
+            if (bodies.get(i) != null) {
+                bodyByArticleId.put(articles.get(i).getId(), bodies.get(i));
+            }
+        }
+        articleBodyStore.saveAll(bodyByArticleId); // 본문은 배치 하나로 한 번에 저장
+    }
+
+    // 압축은 CPU 작업이므로 트랜잭션 전에 해 둡니다.
+    private ArticleBodyStore.CompressedBody compressBody(IngestionTask task) {
+        String content = task.getContent();
+        return content == null || content.isBlank() ? null : ArticleBodyStore.compress(content);
+    }
+
+    // 네이버 검색 결과만으로 만든 분석 전 기사
+    private NewsArticle toPendingArticle(Item item) {
+        NewsArticle article = new NewsArticle();
+        article.setTitle(item.getCleanTitle());
+        article.setDescription(item.getCleanDescription());
+        article.setOriginalLink(item.getOriginallink());
+        article.setPublishedAt(parseNaverPubDate(item.getPubDate()));
+        article.setCollectedAt(LocalDateTime.now());
+        article.setAnalysisStatus(AnalysisStatus.PENDING);
+        return article;
+    }
+
+    private void applyAnalysis(NewsArticle article, IngestionTask task) {
+        article.setImageUrl(task.getImageUrl());
+        article.setSummary(task.getSummary());
+        article.setKeywords(task.getKeywords());
+        article.setCategory(task.getAnalyzedCategory());
+        article.setAnalysisStatus(task.isLocalAnalysis() ? AnalysisStatus.LOCAL : AnalysisStatus.DONE);
+    }
+
+    private NewsArticle toArticle(IngestionTask task) {
+        // NewsArticle 엔티티 생성 및 필드 설정
+        NewsArticle article = new NewsArticle();
+        article.setTitle(task.getTitle());
+        article.setDescription(task.getDescription());
+        article.setOriginalLink(task.getOriginalLink());
+        applyAnalysis(article, task); // 이미지 URL, 요약, 키워드, 카테고리
+
+        // 네이버 API의 pubDate를 파싱하여 설정
+        article.setPublishedAt(parseNaverPubDate(task.getPubDate()));
+        article.setCollectedAt(LocalDateTime.now());
+        return article;
+    }
+
+    // 그 외 일반적인 오류는 시도 횟수를 늘리고 나중에 다시 처리합니다. 임대를 잃은 작업은 기록하지 않습니다.
+    private IngestionTask handleError(String stage, IngestionTask task, Exception e) {
+        if (e instanceof IngestionLeaseLostException leaseLost) {
+            throw leaseLost;
+        }
+        String errorMessage = e.getMessage();
+        String shortError = errorMessage != null ? errorMessage.substring(0, Math.min(errorMessage.length(), 100)) + "..." : "알 수 없는 오류";
+        System.err.println("!!! [" + stage + "] 기사 처리 중 일반 오류 발생: " + task.getTitle() + " - " + shortError);
+        return settle(ingestionQueueService.retryLater(task, errorMessage, null));
+    }
+
+    // 배치 실패 후 한 건씩 다시 처리합니다. 그사이 임대를 잃은 작업은 결과에서 빼 파이프라인에서 내보냅니다.
+    private List<IngestionTask> eachOwned(List<IngestionTask> tasks, UnaryOperator<IngestionTask> step) {
+        List<IngestionTask> results = new ArrayList<>(tasks.size());
+        for (IngestionTask task : tasks) {
+            try {
+                results.add(step.apply(task));
+            } catch (IngestionLeaseLostException e) {
+                System.err.println("!!! 다른 워커가 가져간 작업이라 건너뜁니다: " + task.getTitle());
+            }
+        }
+        return results;
+    }
+
+    // 작업이 최종 실패(FAILED)로 끝나면 먼저 게시된 기사도 분석 실패로 표시합니다. (제목/설명만으로 계속 노출)
+    private IngestionTask settle(IngestionTask task) {
+        if (task.getStatus() == IngestionStatus.FAILED) {
+            try {
+                newsArticleRepository.updateAnalysisStatus(task.getOriginalLink(), AnalysisStatus.PENDING, AnalysisStatus.FAILED);
+            } catch (Exception e) {
+                System.err.println("!!! 기사 분석 실패 표시 중 오류: " + task.getTitle() + " - " + e.getMessage());
+            }
+        }
+        return task;
+    }
+
+    // 요약과 카테고리가 모두 있는 결과만 저장/재사용합니다. Gemini 오류는 GeminiAnalysisException으로 전달되므로 요약 내용은 보지 않습니다.
+    // ("[단독]", "[속보]"로 시작하는 정상 요약도 있음)
+    static boolean isReusableAnalysis(NewsAnalysisResponse response) {
+        return response != null
+                && response.summary() != null && !response.summary().isBlank()
+                && response.category() != null && !response.category().isBlank();
+    }
+
+    // 네이버 API의 pubDate 문자열을 LocalDateTime 객체로 파싱합니다.
+    static LocalDateTime parseNaverPubDate(String pubDate) {
+        if (pubDate == null) {
+            return LocalDateTime.now().minusDays(1);
+        }
+        try {
+            // 네이버 날짜 형식: EEE, dd MMM yyyy HH:mm:ss Z (예: Mon, 11 Sep 2023 11:30:00 +0900)
+            // 시스템 기본 시간대로 변환하여 LocalDateTime으로 반환
+            return TextUtils.parseNaverPubDate(pubDate, ZoneId.systemDefault());
+        } catch (Exception e) {
+            System.err.println("pubDate 파싱 오류: " + pubDate + " - " + e.getMessage());
+            return LocalDateTime.now().minusHours(2);
+        }
+    }
+}
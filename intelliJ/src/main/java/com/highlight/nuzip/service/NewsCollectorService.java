@@ -1,209 +1,254 @@
 package com.highlight.nuzip.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.highlight.nuzip.dto.NewsAnalysisResponse;
-import com.highlight.nuzip.dto.NaverNewsResponse;
 import com.highlight.nuzip.dto.Item;
-import com.highlight.nuzip.model.NewsArticle;
-import com.highlight.nuzip.model.Subscription;
-import com.highlight.nuzip.repository.NewsArticleRepository;
+import com.highlight.nuzip.model.Category;
 import com.highlight.nuzip.repository.CategoryRepository;
-import com.highlight.nuzip.repository.SubscriptionRepository;
-import org.springframework.scheduling.annotation.Async;
+import com.highlight.nuzip.util.TextUtils;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Locale;
-import java.util.concurrent.CompletableFuture;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.stream.Collectors;
 
 @Service
 public class NewsCollectorService {
 
-    private final NewsArticleRepository newsArticleRepository;
     private final CategoryRepository categoryRepository;
-    private final GeminiService geminiService;
     private final NaverApiService naverApiService;
-    private final ObjectMapper objectMapper;
 
-    // 알림 생성용
-    private final NotificationService notificationService;
-    private final SubscriptionRepository  subscriptionRepository;
-
-    // 병렬 작업에서 할당량 초과 상태를 안전하게 공유하기 위한 AtomicBoolean 사용
-    private final AtomicBoolean quotaExceeded = new AtomicBoolean(false);
-
-    public NewsCollectorService(NewsArticleRepository newsArticleRepository, CategoryRepository categoryRepository, GeminiService geminiService, NaverApiService naverApiService, ObjectMapper objectMapper, NotificationService notificationService, SubscriptionRepository subscriptionRepository) {
-        this.newsArticleRepository = newsArticleRepository;
+    // 새 기사는 NewsArticleProcessor가 바로 게시(분석 대기)하고 작업 큐에 적재하며,
+    // 기사 단위 처리(크롤링, Gemini 분석, 분석 결과 반영, 알림)는 작업 큐를 거쳐 IngestionPipeline가 수행합니다.
+    private final NewsArticleProcessor newsArticleProcessor;
+    private final ArticleLinkDeduplicator articleLinkDeduplicator;
+    private final GeminiRateLimiter geminiRateLimiter;
+    // 여러 서버가 함께 수집할 때 카테고리를 나눠 맡습니다.
+    private final ClusterCoordinator clusterCoordinator;
+    // 카테고리별 수집 주기와 우선순위
+    private final CategoryPollScheduler categoryPollScheduler;
+    private final TransactionTemplate transactionTemplate;
+
+    // 네이버 API 동시 호출 수 (카테고리 단위)
+    @Value("${naver.fetch-concurrency:4}")
+    private int naverFetchConcurrency;
+
+    // 한 번에 가져올 기사 수(display). 기준점에 닿을 때까지 페이지를 넘깁니다.
+    @Value("${naver.page-size:20}")
+    private int naverPageSize;
+
+    // 네이버 검색 API 제한: display 최대 100, start 최대 1000
+    private static final int MAX_DISPLAY = 100;
+    private static final int MAX_START = 1000;
+
+    public NewsCollectorService(CategoryRepository categoryRepository, NaverApiService naverApiService, NewsArticleProcessor newsArticleProcessor, ArticleLinkDeduplicator articleLinkDeduplicator, GeminiRateLimiter geminiRateLimiter, ClusterCoordinator clusterCoordinator, CategoryPollScheduler categoryPollScheduler, TransactionTemplate transactionTemplate) {
         this.categoryRepository = categoryRepository;
-        this.geminiService = geminiService;
         this.naverApiService = naverApiService;
-        this.objectMapper = objectMapper;
-        this.notificationService = notificationService;
-        this.subscriptionRepository = subscriptionRepository;
+        this.newsArticleProcessor = newsArticleProcessor;
+        this.articleLinkDeduplicator = articleLinkDeduplicator;
+        this.geminiRateLimiter = geminiRateLimiter;
+        this.clusterCoordinator = clusterCoordinator;
+        this.categoryPollScheduler = categoryPollScheduler;
+        this.transactionTemplate = transactionTemplate;
     }
 
-    // 30분마다 실행되는 뉴스 수집 및 요약 스케줄러 (Gemini 호출 병렬 처리 적용)
-    // + 알림 생성
-    @Scheduled(initialDelay = 10, fixedDelay = 1800000, timeUnit = TimeUnit.SECONDS)
+    // news.collect.tick-seconds(기본 1분)마다 수집 시점이 된 카테고리만 수집합니다. (요약과 알림 생성은 작업 큐를 통해 IngestionPipeline가 처리)
+    // 카테고리별 수집 간격은 CategoryPollScheduler가 관측된 신규 기사 유입률에 맞춰 최소/최대 간격 사이에서 조정합니다.
+    // 첫 실행 지연은 news.collect.initial-delay-seconds로 바꿀 수 있습니다. (벤치마크처럼 수집을 직접 호출하는 경우 크게 설정)
+    @Scheduled(initialDelayString = "${news.collect.initial-delay-seconds:10}", fixedDelayString = "${news.collect.tick-seconds:60}", timeUnit = TimeUnit.SECONDS)
     public void collectAndSummarizeNews() {
-        // 작업 시작 시 quotaExceeded 상태 초기화
-        quotaExceeded.set(false);
-        System.out.println(">>> [스케줄러] 뉴스 수집 및 요약 작업을 시작합니다. 시각: " + LocalDateTime.now());
+        LocalDateTime now = LocalDateTime.now();
 
-        var activeCategories = categoryRepository.findActiveForCollection();
-        // 기사 수집 개수 설정
-        int displayCount = 10;
+        // 활성 카테고리 중 이 노드가 임대를 잡은 카테고리만 수집합니다. (서버가 여러 대여도 같은 카테고리를 중복 수집하지 않음)
+        var allCategories = categoryRepository.findActiveForCollection();
+        var myCategories = clusterCoordinator.claimShard(allCategories);
+        // 그중 수집 시점이 된 카테고리를 유입률/구독자 수가 큰 순서로
+        var activeCategories = categoryPollScheduler.dueInPriorityOrder(myCategories, now);
 
         if (activeCategories.isEmpty()) {
-            System.out.println(">>> DB에 설정된 활성화된 카테고리가 없습니다. 수집을 건너킵니다.");
+            if (myCategories.isEmpty()) {
+                System.out.println(">>> 이 노드(" + clusterCoordinator.getNodeId() + ")가 맡은 활성 카테고리가 없습니다. (전체 " + allCategories.size() + "개) 수집을 건너뜁니다.");
+            }
             return;
         }
+        System.out.println(">>> [스케줄러] 뉴스 수집 및 요약 작업을 시작합니다. 시각: " + now);
+        System.out.println(">>> [스케줄러] 이 노드가 맡은 카테고리 " + myCategories.size() + "개(전체 " + allCategories.size() + "개, 노드 "
+                + clusterCoordinator.getLiveNodes().size() + "대) 중 " + activeCategories.size() + "개가 수집 시점입니다.");
+
+        // --- 1. 수집 시점이 된 카테고리에 대해 네이버 API를 동시에 호출 (최대 naver.fetch-concurrency개, 우선순위 순서로 시작) ---
+        // 카테고리별 high-water mark에 도달할 때까지 페이지를 넘기며 새 기사만 가져옵니다.
+        List<CategoryNews> categoryNews = fetchCategoryNews(activeCategories);
+
+        // --- 2. 이미 저장된 기사를 배치 단위로 한 번에 제외 (Bloom filter + IN 쿼리) ---
+        Map<String, Long> categoryIdByLink = new HashMap<>();
+        List<Item> fetchedItems = new ArrayList<>();
+        // 우선순위 순서대로 큐에 넣어 파이프라인도 (id 순으로) 중요한 카테고리의 기사부터 처리합니다.
+        for (CategoryNews news : categoryNews) {
+            for (Item item : news.items()) {
+                if (item.getOriginallink() != null && categoryIdByLink.putIfAbsent(item.getOriginallink(), news.category().getId()) == null) {
+                    fetchedItems.add(item);
+                }
+            }
+        }
+        List<Item> newItems = articleLinkDeduplicator.filterNew(fetchedItems);
 
-        // --- 1. 모든 카테고리에 대해 네이버 API 호출 및 기사 수집 ---
-        List<CompletableFuture<Void>> futures = activeCategories.stream()
-                .flatMap(categoryEntity -> {
-                    String categoryName = categoryEntity.getName();
-                    System.out.println(">>> [수집 대상] 카테고리: " + categoryName);
-
-                    // 네이버 API 호출 (NaverNewsResponse DTO 사용)
-                    NaverNewsResponse response = naverApiService.searchNews(categoryName, displayCount)
-                            .block(java.time.Duration.ofSeconds(10));
-
-                    if (response == null || response.getItems() == null || response.getItems().isEmpty()) {
-                        System.out.println(">>> 네이버 API 응답에 기사가 없거나, 오류가 발생했습니다. (카테고리: " + categoryName + ")");
-                        return java.util.stream.Stream.empty();
-                    }
-
-                    // --- 2. 수집된 각 기사에 대해 비동기 분석 작업 (CompletableFuture) 생성 ---
-                    // 이 단계에서 기사별 병렬 처리가 시작됩니다.
-                    return response.getItems().stream()
-                            .map(item -> processNewsArticleAsync(item, categoryEntity.getId()));
-                })
-                .collect(Collectors.toList());
-
-        // --- 3. 모든 병렬 작업 완료 대기 ---
+        // --- 3. 신규 기사를 분석 대기(PENDING) 상태로 바로 게시하고 수집 작업 큐(ingestion_task)에 적재 ---
+        // 크롤링, Gemini 분석, 분석 결과 반영, 알림은 IngestionPipeline가 큐에서 가져가 처리하므로 서버가 재시작되어도 이어서 진행됩니다.
+        // 새 기준점은 적재와 같은 트랜잭션에서 저장합니다. 적재가 실패하거나 도중에 노드가 죽으면 기준점도 그대로 남아 다음 수집에서 다시 가져옵니다.
+        int published;
         try {
-            // 모든 작업이 완료되거나 최대 25분이 경과할 때까지 대기
-            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(25, TimeUnit.MINUTES);
-        } catch (java.util.concurrent.TimeoutException e) {
-            System.err.println("!!! [경고] 일부 기사 분석 작업이 25분 이내에 완료되지 못했습니다. TimeOut.");
+            published = transactionTemplate.execute(status -> {
+                int count = newsArticleProcessor.publishAll(newItems, categoryIdByLink);
+                advanceHighWaterMarks(categoryNews, now);
+                return count;
+            });
         } catch (Exception e) {
-            System.err.println("!!! [치명적 오류] 뉴스 분석 중 예기치 않은 오류 발생: " + e.getMessage());
+            System.err.println("!!! [스케줄러] 신규 기사 적재 실패, 기준점을 유지하고 다음 수집에서 다시 가져옵니다: " + e.getMessage());
+            return;
         }
 
-        System.out.println(">>> [스케줄러] 뉴스 수집 및 요약 작업을 완료했습니다.");
+        System.out.println(">>> [스케줄러] 뉴스 수집을 완료했습니다. 신규 기사 " + published + "건을 게시하고 분석 작업 큐에 적재했습니다.");
 
-        if (quotaExceeded.get()) {
-            System.out.println("!!! Gemini API 할당량 초과가 감지되었습니다. 다음 스케줄을 기다립니다.");
+        if (geminiRateLimiter.isPaused()) {
+            System.out.println("!!! Gemini API 할당량 초과로 호출이 일시 중지된 상태입니다. 대기 중인 분석은 백오프 후 재시도됩니다.");
         }
     }
 
-    // 개별 기사 처리 (크롤링, Gemini 분석, DB 저장)를 비동기적으로 수행하는 메서드
-    @Async // 이 메서드는 별도의 스레드에서 실행됩니다.
-    @Transactional // DB 저장은 트랜잭션으로 보호됩니다.
-    public CompletableFuture<Void> processNewsArticleAsync(Item item, Long categoryId) {
-        // 할당량 초과 시 즉시 종료 (빠른 실패)
-        if (quotaExceeded.get()) {
-            return CompletableFuture.completedFuture(null);
-        }
-
-        // Item DTO의 메서드를 사용하여 태그가 제거된 제목을 가져옵니다.
-        String cleanTitle = item.getCleanTitle();
-
-        // 중복 확인 (DB 접근)
-        if (newsArticleRepository.findByOriginalLink(item.getOriginallink()).isPresent()) {
-            System.out.println("[병렬] 이미 수집된 기사입니다. 스킵: " + cleanTitle);
-            return CompletableFuture.completedFuture(null);
-        }
+    // 카테고리별 네이버 검색을 리액티브 파이프라인으로 동시에 실행합니다.
+    // 각 호출은 NaverApiService의 호출 단위 타임아웃을 따르므로, 전체 소요 시간은 가장 느린 카테고리 수준이 됩니다.
+    private List<CategoryNews> fetchCategoryNews(List<Category> categories) {
+        int concurrency = Math.max(1, naverFetchConcurrency);
+        // 동시 호출 묶음 수 x 최대 페이지 수(네이버 start 한도까지)만큼의 호출 타임아웃 + 여유 시간을 전체 대기 한도로 사용합니다.
+        int rounds = (categories.size() + concurrency - 1) / concurrency;
+        Duration overallTimeout = Duration.ofSeconds((long) naverApiService.getTimeoutSeconds() * rounds * maxPages() + 5);
+
+        // flatMapSequential: 입력(우선순위) 순서대로 호출을 시작하고, 결과도 같은 순서로 모읍니다.
+        List<CategoryNews> result = Flux.fromIterable(categories)
+                .flatMapSequential(category -> {
+                    System.out.println(">>> [수집 대상] 카테고리: " + category.getName());
+                    return fetchNewItems(category, 1, new ArrayList<>())
+                            .onErrorResume(e -> {
+                                System.err.println("!!! 네이버 API 호출 실패 (카테고리: " + category.getName() + "): " + e.getMessage());
+                                return Mono.just(new CategoryNews(category, List.of(), false, true));
+                            });
+                }, concurrency)
+                .doOnNext(news -> {
+                    if (!news.failed() && news.items().isEmpty()) {
+                        System.out.println(">>> 네이버 API 응답에 새 기사가 없습니다. (카테고리: " + news.category().getName() + ")");
+                    }
+                })
+                .collectList()
+                .block(overallTimeout);
 
-        try {
-            // 3-1. 기사 본문 크롤링 (텍스트와 이미지 URL을 함께 반환)
-            GeminiService.ArticleExtractionResult extractionResult = geminiService.extractArticleContent(item.getOriginallink());
-            String articleContent = extractionResult.content();
-            String imageUrl = extractionResult.imageUrl(); // 🌟 추출된 이미지 URL 🌟
-
-            // 크롤링 실패 또는 내용 부족 스킵
-            if (articleContent.startsWith("크롤링 실패") || articleContent.startsWith("본문이 너무 짧습니다")) {
-                System.out.println("[병렬] 본문 크롤링 실패 또는 내용 부족으로 스킵: " + cleanTitle);
-                return CompletableFuture.completedFuture(null);
-            }
+        return result == null ? List.of() : result;
+    }
 
-            // 3-2. Gemini에 분석 요청
-            NewsAnalysisResponse analysisResponse = geminiService.analyzeNewsArticle(articleContent);
-
-            // 4. NewsArticle 엔티티 생성 및 필드 설정
-            NewsArticle article = new NewsArticle();
-            article.setTitle(cleanTitle);
-            article.setOriginalLink(item.getOriginallink());
-            article.setImageUrl(imageUrl); // 🌟 추출된 이미지 URL 설정 🌟
-
-            // 3-3. DTO에서 바로 데이터 추출 및 설정
-            article.setSummary(analysisResponse.summary());
-            article.setKeywords(analysisResponse.keywords());
-            article.setCategory(analysisResponse.category().trim()); // 카테고리 설정
-
-            // 네이버 API의 pubDate를 파싱하여 설정
-            article.setPublishedAt(parseNaverPubDate(item.getPubDate()));
-            article.setCollectedAt(LocalDateTime.now());
-
-            // 5. MariaDB에 저장
-            newsArticleRepository.save(article);
-            System.out.println(">>> [병렬] 뉴스 수집 및 분석 완료 (카테고리: " + article.getCategory() + "): " + cleanTitle);
-
-            // 사용자에게 Notification 생성
-            List<Subscription> subscriptions = subscriptionRepository.findByCategoryId(categoryId);
-            for(Subscription sub :  subscriptions) {
-                notificationService.createNotification(
-                        sub.getUserId(),
-                        "새 기사: " + cleanTitle,
-                        article.getId()
-                ); // 알림 db 저장
-            }
+    // 최신순 검색 결과를 start/display로 넘기며, 지난 수집 기준점(high-water mark)에 닿을 때까지 가져옵니다.
+    // 기준점 전에 멈추면 그 사이 기사를 영영 놓치므로 페이지 수를 제한하지 않고, 네이버 start 한도(1000)에서만 멈춥니다. (saturated)
+    // 기준점이 없는 첫 수집은 첫 페이지만 가져옵니다.
+    private Mono<CategoryNews> fetchNewItems(Category category, int start, List<Item> collected) {
+        int pageSize = pageSize();
+        return naverApiService.searchNews(category.getName(), pageSize, start)
+                .flatMap(response -> {
+                    List<Item> items = response.getItems() == null ? List.of() : response.getItems();
+                    boolean reachedMark = false;
+                    for (Item item : items) {
+                        if (isAtOrBeforeMark(item, category)) {
+                            reachedMark = true;
+                            break;
+                        }
+                        collected.add(item);
+                    }
 
-        } catch (Exception e) {
-            // 6. 할당량 초과 오류 (429) 처리
-            String errorMessage = e.getMessage();
-            if (errorMessage != null && (errorMessage.contains("Gemini API 할당량 초과 (429)"))) {
-                System.err.println("!!! [치명적 오류] Gemini API 할당량 초과 (429) 발생. 병렬 작업 중단 플래그 설정.");
-                quotaExceeded.set(true); // 모든 병렬 작업을 멈추도록 플래그 설정
-            }
+                    int nextStart = start + pageSize;
+                    boolean hasMore = items.size() == pageSize && nextStart <= MAX_START && nextStart <= response.getTotal();
+                    if (reachedMark || category.getLastCollectedPubDate() == null) {
+                        return Mono.just(new CategoryNews(category, collected, false, false));
+                    }
+                    if (!hasMore) {
+                        // 검색 결과가 더 있는데 멈췄다면 네이버 start 한도에 걸린 것 (그보다 오래된 기사는 API로 가져올 수 없으므로 기준점은 그대로 전진)
+                        boolean saturated = items.size() == pageSize && nextStart > MAX_START && nextStart <= response.getTotal();
+                        if (saturated) {
+                            System.out.println("!!! [수집] 네이버 검색 start 한도(" + MAX_START + ")에 도달해 기준점 이전 기사를 일부 놓쳤습니다. (카테고리: " + category.getName() + ")");
+                        }
+                        return Mono.just(new CategoryNews(category, collected, saturated, false));
+                    }
+                    return fetchNewItems(category, nextStart, collected);
+                });
+    }
 
-            // 그 외 일반적인 분석 및 저장 오류 처리
-            String shortError = errorMessage != null ? errorMessage.substring(0, Math.min(errorMessage.length(), 100)) + "..." : "알 수 없는 오류";
-            System.err.println("!!! [병렬] 기사 분석 및 저장 중 일반 오류 발생: " + cleanTitle + " - " + shortError);
+    // 기준점 링크와 같거나 기준점 시각보다 오래된 기사인지. pubDate를 읽을 수 없는 기사는 링크로만 판단합니다.
+    // (파싱 실패를 "지금 - N시간" 같은 임의 시각으로 바꾸면 기준점보다 오래된 것으로 잘못 판정해 수집을 일찍 멈출 수 있음)
+    static boolean isAtOrBeforeMark(Item item, Category category) {
+        if (category.getLastCollectedPubDate() == null) {
+            return false;
         }
-
-        return CompletableFuture.completedFuture(null);
+        if (item.getOriginallink() != null && item.getOriginallink().equals(category.getLastCollectedLink())) {
+            return true;
+        }
+        return parsePubDate(item.getPubDate())
+                .map(pubDate -> pubDate.isBefore(category.getLastCollectedPubDate()))
+                .orElse(false);
     }
 
-    // 네이버 API의 pubDate 문자열을 LocalDateTime 객체로 파싱합니다.
-    private LocalDateTime parseNaverPubDate(String pubDate) {
+    // 네이버 pubDate를 읽지 못하면 비어 있습니다.
+    private static Optional<LocalDateTime> parsePubDate(String pubDate) {
         if (pubDate == null) {
-            return LocalDateTime.now().minusDays(1);
+            return Optional.empty();
         }
         try {
-            // 네이버 날짜 형식: EEE, dd MMM yyyy HH:mm:ss Z (예: Mon, 11 Sep 2023 11:30:00 +0900)
-            DateTimeFormatter formatter = DateTimeFormatter
-                    .ofPattern("EEE, dd MMM yyyy HH:mm:ss Z")
-                    .withLocale(Locale.ENGLISH);
+            return Optional.of(TextUtils.parseNaverPubDate(pubDate, ZoneId.systemDefault()));
+        } catch (RuntimeException e) {
+            System.err.println("pubDate 파싱 오류: " + pubDate + " - " + e.getMessage());
+            return Optional.empty();
+        }
+    }
 
-            ZonedDateTime zonedDateTime = ZonedDateTime.parse(pubDate, formatter);
+    // 이번에 가져온 가장 최신 기사를 카테고리의 새 기준점으로 저장하고, 신규 기사 수로 다음 수집 시각을 정합니다. (최신순 정렬이므로 첫 항목)
+    // 신규 기사 적재와 같은 트랜잭션 안에서 호출합니다.
+    private void advanceHighWaterMarks(List<CategoryNews> categoryNews, LocalDateTime polledAt) {
+        for (CategoryNews news : categoryNews) {
+            Category category = news.category();
+            if (news.failed()) {
+                categoryPollScheduler.recordFailure(category, polledAt);
+                continue;
+            }
+            categoryPollScheduler.recordPoll(category, news.items().size(), news.saturated(), polledAt);
+            if (news.items().isEmpty()) {
+                continue;
+            }
+            // 기준 시각은 pubDate를 읽을 수 있는 가장 최신 기사로 정하고, 하나도 없으면 이전 기준 시각을 유지합니다.
+            Item newest = news.items().get(0);
+            news.items().stream()
+                    .map(item -> parsePubDate(item.getPubDate()))
+                    .flatMap(Optional::stream)
+                    .findFirst()
+                    .ifPresent(category::setLastCollectedPubDate);
+            category.setLastCollectedLink(newest.getOriginallink());
+            System.out.println(">>> [수집] 카테고리 " + category.getName() + " 새 기사 " + news.items().size() + "건, 기준점: " + category.getLastCollectedPubDate()
+                    + ", 다음 수집: " + category.getNextPollAt());
+        }
+        categoryRepository.saveAll(categoryNews.stream().map(CategoryNews::category).toList());
+    }
 
-            // 시스템 기본 시간대로 변환하여 LocalDateTime으로 반환
-            return zonedDateTime.withZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+    private int pageSize() {
+        return Math.min(Math.max(naverPageSize, 1), MAX_DISPLAY);
+    }
 
-        } catch (Exception e) {
-            System.err.println("pubDate 파싱 오류: " + pubDate + " - " + e.getMessage());
-            return LocalDateTime.now().minusHours(2);
-        }
+    private int maxPages() {
+        return (MAX_START - 1) / pageSize() + 1;
     }
+
+    // 카테고리와 해당 카테고리에서 수집된 네이버 기사 목록
+    // (saturated: 네이버 start 한도까지 읽고도 기준점에 닿지 못함, failed: 네이버 호출 실패)
+    private record CategoryNews(Category category, List<Item> items, boolean saturated, boolean failed) {}
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.highlight.nuzip.service;
 
+import com.highlight.nuzip.dto.ArticleReaderResponse;
+import com.highlight.nuzip.model.AnalysisStatus;
 import com.highlight.nuzip.model.NewsArticle;
 import com.highlight.nuzip.repository.CategoryRepository;
 import com.highlight.nuzip.repository.NewsArticleRepository;
@@ -8,29 +10,41 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+
 // 뉴스 조회(Read)와 관련된 비즈니스 로직을 처리하는 서비스입니다. 뉴스 수집 및 분석은 NewsCollectorService에서 담당합니다.
 @Service
 public class NewsService {
 
     private final NewsArticleRepository newsArticleRepository;
+    private final ArticleBodyStore articleBodyStore;
 
-
-    public NewsService(NewsArticleRepository newsArticleRepository) {
+    public NewsService(NewsArticleRepository newsArticleRepository, ArticleBodyStore articleBodyStore) {
         this.newsArticleRepository = newsArticleRepository;
+        this.articleBodyStore = articleBodyStore;
     }
 
-    // 전체 뉴스 기사를 페이지네이션하여 조회합니다.
-    public Page<NewsArticle> findAllNews(Pageable pageable) {
+    // 전체 뉴스 기사를 페이지네이션하여 조회합니다. status가 있으면 해당 분석 상태의 기사만 조회합니다.
+    public Page<NewsArticle> findAllNews(AnalysisStatus status, Pageable pageable) {
+        if (status != null) {
+            return newsArticleRepository.findByAnalysisStatus(status, pageable);
+        }
         return newsArticleRepository.findAll(pageable);
     }
 
-    // 카테고리별 뉴스 기사를 페이지네이션하여 조회합니다.
-    public Page<NewsArticle> findNewsByCategory(String categoryName, Pageable pageable) {
+    // 카테고리별 뉴스 기사를 페이지네이션하여 조회합니다. (카테고리는 분석 결과이므로 분석 대기 기사는 포함되지 않습니다.)
+    public Page<NewsArticle> findNewsByCategory(String categoryName, AnalysisStatus status, Pageable pageable) {
+        if (status != null) {
+            return newsArticleRepository.findByCategoryAndAnalysisStatus(categoryName, status, pageable);
+        }
         return newsArticleRepository.findByCategory(categoryName, pageable);
     }
 
     @Transactional(readOnly = true)
-    public Page<NewsArticle> searchNewsByKeyword(String keyword, Pageable pageable) {
+    public Page<NewsArticle> searchNewsByKeyword(String keyword, AnalysisStatus status, Pageable pageable) {
+        if (status != null) {
+            return newsArticleRepository.searchByKeywordAndAnalysisStatus(keyword, status, pageable);
+        }
         // NewsArticleRepository에 가정된 메소드 호출
         // 검색 키워드를 제목, 요약, 키워드 필드에 모두 전달하여 OR 검색을 수행합니다.
         return newsArticleRepository.findByTitleContainingOrSummaryContainingOrKeywordsContainingOrderByPublishedAtDesc(
@@ -40,4 +54,12 @@ public class NewsService {
                 pageable
         );
     }
-}
\ No newline at end of file
+
+    // 읽기 모드: 기사와 보관된 본문을 함께 반환합니다. 기사가 없거나 본문이 보관되지 않은 기사(분석 전, 본문 보관 이전 기사)면 비어 있습니다.
+    public Optional<ArticleReaderResponse> findReaderView(Long articleId) {
+        return newsArticleRepository.findById(articleId)
+                .flatMap(article -> articleBodyStore.find(articleId)
+                        .map(content -> new ArticleReaderResponse(article.getId(), article.getTitle(), article.getOriginalLink(),
+                                article.getImageUrl(), article.getCategory(), article.getPublishedAt(), content)));
+    }
+}
@@ -25,6 +25,19 @@ public class NotificationService {
         notificationRepository.save(notification);
     }
 
+    // 같은 메시지의 알림을 여러 사용자에게 한 번에 생성 (JDBC 배치 INSERT)
+    public void createNotifications(List<String> userIds, String message, Long articleId) {
+        List<Notification> notifications = userIds.stream().map(userId -> {
+            Notification notification = new Notification();
+            notification.setUserId(userId);
+            notification.setMessage(message);
+            notification.setArticleId(articleId);
+            return notification;
+        }).toList();
+
+        notificationRepository.saveAll(notifications);
+    }
+
     // 알림 읽음 처리
     public void markAsRead(Long notificationId, String userId) {
         Notification notification = notificationRepository.findById(notificationId)
@@ -0,0 +1,320 @@
+package com.highlight.nuzip.service;
+
+import com.highlight.nuzip.config.GeminiConfig;
+import com.highlight.nuzip.dto.NewsAnalysisResponse;
+import com.highlight.nuzip.dto.ReanalysisProgressResponse;
+import com.highlight.nuzip.model.AnalysisStatus;
+import com.highlight.nuzip.model.NewsArticle;
+import com.highlight.nuzip.model.ReanalysisRun;
+import com.highlight.nuzip.model.ReanalysisStatus;
+import com.highlight.nuzip.repository.NewsArticleRepository;
+import com.highlight.nuzip.repository.ReanalysisRunRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// Gemini 모델(gemini.model)이나 프롬프트 버전(GeminiService.PROMPT_VERSION)이 바뀌면 기존 기사(DONE)를 새 설정으로 다시 분석하는 백필입니다.
+// - 설정 조합마다 reanalysis_run 행 하나가 체크포인트입니다. 시작 시점의 최대 기사 id까지를 id 순(keyset)으로 batch-size개씩 처리하고
+//   배치마다 커서와 집계를 저장하므로, 재시작하거나 리더 노드가 바뀌어도 이어서 처리합니다. (클러스터에서는 리더 노드만)
+// - 설정이 가장 최근 백필과 다르면 새 백필을 시작합니다. 예전에 쓰던 설정으로 되돌아온 경우(A → B → A)에도
+//   그 설정의 기존 행을 처음부터 다시 시작하도록 초기화합니다. (B로 분석된 기사를 다시 A로 분석해야 하므로)
+// - 스케줄러 스레드는 배치를 전용 스레드에 넘기고 바로 돌아오며, 이전 배치가 끝나지 않았으면 이번 주기는 건너뜁니다.
+//   배치는 batch-timeout-seconds까지만 기다리고, 그때까지 끝나지 않은 기사부터는 다음 배치에서 다시 처리합니다.
+// - 본문은 보관된 본문 → 수집 작업 본문 → 재추출(크롤링 캐시) 순으로 구하고, 분석은 수집과 같은 Gemini 경로(분석 캐시 → 배치 분석기 → 속도 제한)를 거칩니다.
+// - 실시간 수집의 할당량을 빼앗지 않도록 기사마다 두 가지를 확인합니다.
+//   1) 공용 리미터에 min-spare 이상 여유가 있을 때만 시작 (수집이 한도를 쓰고 있거나 429로 멈췄으면 커서를 두고 다음 주기로 미룸)
+//   2) 공용 한도의 quota-share 비율짜리 별도 버킷에서 허용량 확보 (기사 1건을 요청 1건으로 계산)
+//   동시에 분석하는 기사는 concurrency개로 제한합니다.
+// 처음 기동할 때는 기존 기사를 현재 설정으로 분석된 것으로 보고 기준 기록만 남깁니다.
+@Service
+public class ReanalysisBackfillService {
+
+    private final NewsArticleRepository newsArticleRepository;
+    private final ReanalysisRunRepository reanalysisRunRepository;
+    private final ArticleBodyStore articleBodyStore;
+    private final ArticlePreprocessor articlePreprocessor;
+    private final AnalysisCache analysisCache;
+    private final GeminiBatchAnalyzer geminiBatchAnalyzer;
+    private final GeminiRateLimiter geminiRateLimiter;
+    private final GeminiConfig geminiConfig;
+    private final ClusterCoordinator clusterCoordinator;
+
+    @Value("${news.reanalysis.enabled:true}")
+    private boolean enabled;
+
+    @Value("${news.reanalysis.batch-size:50}")
+    private int batchSize;
+
+    // 동시에 처리(본문 준비 + Gemini 분석 대기)하는 기사 수
+    @Value("${news.reanalysis.concurrency:4}")
+    private int concurrency;
+
+    // 배치 하나의 결과를 기다리는 최대 시간
+    @Value("${news.reanalysis.batch-timeout-seconds:600}")
+    private long batchTimeoutSeconds;
+
+    // 재분석이 쓸 수 있는 공용 Gemini 한도의 비율
+    @Value("${news.reanalysis.quota-share:0.2}")
+    private double quotaShare;
+
+    // 공용 리미터에 이 비율 이상 여유가 있을 때만 다음 기사를 시작합니다.
+    @Value("${news.reanalysis.min-spare:0.5}")
+    private double minSpare;
+
+    private ExecutorService workers;
+    // 배치 처리(기사 조회, 결과 대기, 커서 저장)를 맡는 스레드. 스케줄러 스레드를 막지 않습니다.
+    private ExecutorService batchRunner;
+    // 진행 중인 배치 (runBatch는 겹쳐 실행되지 않으므로 스케줄러 스레드에서만 읽고 씁니다)
+    private Future<?> runningBatch;
+    private GeminiRateLimiter backfillLimiter;
+
+    // 기사 1건의 재분석 결과
+    private enum Outcome {
+        UPDATED,  // 새 분석 결과 반영
+        SKIPPED,  // 본문을 구할 수 없거나 그 사이 기사가 DONE이 아니게 됨
+        FAILED,   // 분석 오류 (건너뛰고 집계만)
+        DEFERRED  // 할당량 초과 등으로 미룸 (다음 배치에서 다시)
+    }
+
+    public ReanalysisBackfillService(NewsArticleRepository newsArticleRepository, ReanalysisRunRepository reanalysisRunRepository,
+                                     ArticleBodyStore articleBodyStore, ArticlePreprocessor articlePreprocessor, AnalysisCache analysisCache,
+                                     GeminiBatchAnalyzer geminiBatchAnalyzer, GeminiRateLimiter geminiRateLimiter, GeminiConfig geminiConfig,
+                                     ClusterCoordinator clusterCoordinator) {
+        this.newsArticleRepository = newsArticleRepository;
+        this.reanalysisRunRepository = reanalysisRunRepository;
+        this.articleBodyStore = articleBodyStore;
+        this.articlePreprocessor = articlePreprocessor;
+        this.analysisCache = analysisCache;
+        this.geminiBatchAnalyzer = geminiBatchAnalyzer;
+        this.geminiRateLimiter = geminiRateLimiter;
+        this.geminiConfig = geminiConfig;
+        this.clusterCoordinator = clusterCoordinator;
+    }
+
+    @PostConstruct
+    public void start() {
+        this.backfillLimiter = GeminiRateLimiter.share(geminiConfig, quotaShare);
+        this.workers = Executors.newFixedThreadPool(Math.max(1, concurrency), runnable -> {
+            Thread thread = new Thread(runnable, "reanalysis-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.batchRunner = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "reanalysis-batch");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        batchRunner.shutdownNow();
+        workers.shutdownNow();
+        backfillLimiter.shutdown();
+    }
+
+    @Scheduled(initialDelayString = "${news.reanalysis.interval-seconds:30}",
+            fixedDelayString = "${news.reanalysis.interval-seconds:30}", timeUnit = TimeUnit.SECONDS)
+    public void runBatch() {
+        if (!enabled || !clusterCoordinator.isLeader()) {
+            return;
+        }
+        if (runningBatch != null && !runningBatch.isDone()) {
+            return; // 이전 배치가 아직 진행 중
+        }
+        try {
+            ReanalysisRun run = currentRun();
+            if (run.getStatus() != ReanalysisStatus.RUNNING || !hasSpareQuota()) {
+                return;
+            }
+            runningBatch = batchRunner.submit(() -> {
+                try {
+                    processBatch(run);
+                } catch (Exception e) {
+                    System.err.println("!!! [재분석] 백필 배치 처리 실패: " + e.getMessage());
+                }
+            });
+        } catch (Exception e) {
+            System.err.println("!!! [재분석] 백필 배치 처리 실패: " + e.getMessage());
+        }
+    }
+
+    // 가장 최근 백필의 진행 상황
+    public Optional<ReanalysisProgressResponse> progress() {
+        return reanalysisRunRepository.findFirstByOrderByStartedAtDesc().map(run -> {
+            LocalDateTime end = run.getCompletedAt() != null ? run.getCompletedAt() : run.getUpdatedAt();
+            double minutes = Duration.between(run.getStartedAt(), end).toMillis() / 60_000.0;
+            double percent = run.getStatus() == ReanalysisStatus.COMPLETED ? 100.0
+                    : run.getTotal() == 0 ? 0.0 : Math.min(100.0, run.getProcessed() * 100.0 / run.getTotal());
+            return new ReanalysisProgressResponse(run.getModel(), run.getPromptVersion(), run.getStatus(),
+                    run.getCursorId(), run.getUpperBoundId(), run.getTotal(), run.getProcessed(), run.getUpdated(),
+                    run.getSkipped(), run.getFailed(), percent, minutes > 0 ? run.getProcessed() / minutes : 0.0,
+                    geminiRateLimiter.isPaused(), run.getStartedAt(), run.getUpdatedAt(), run.getCompletedAt());
+        });
+    }
+
+    // 현재 설정(모델 + 프롬프트 버전)의 백필. 가장 최근 백필과 설정이 다르면 새 백필을 시작하고, 진행 중이던 이전 설정의 백필은 중단합니다.
+    // 예전에 백필했던 설정이면 그 행을 처음부터 다시 시작하도록 초기화합니다.
+    private ReanalysisRun currentRun() {
+        String model = geminiConfig.getModel();
+        String target = model + "@" + GeminiService.PROMPT_VERSION;
+        Optional<ReanalysisRun> latest = reanalysisRunRepository.findFirstByOrderByStartedAtDesc();
+        if (latest.isPresent() && latest.get().getTarget().equals(target)) {
+            return latest.get();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        boolean firstRun = latest.isEmpty();
+        List<ReanalysisRun> running = reanalysisRunRepository.findByStatus(ReanalysisStatus.RUNNING);
+        for (ReanalysisRun previous : running) {
+            previous.setStatus(ReanalysisStatus.SUPERSEDED);
+            previous.setUpdatedAt(now);
+        }
+        reanalysisRunRepository.saveAll(running);
+
+        // 같은 설정의 예전 행이 있으면 새 행으로 덮어써 커서와 집계를 처음부터 다시 시작합니다.
+        long upperBound = newsArticleRepository.findMaxId().orElse(0L);
+        ReanalysisRun run = new ReanalysisRun();
+        run.setTarget(target);
+        run.setModel(model);
+        run.setPromptVersion(GeminiService.PROMPT_VERSION);
+        run.setUpperBoundId(upperBound);
+        run.setStartedAt(now);
+        run.setUpdatedAt(now);
+        if (firstRun) {
+            // 기존 기사는 현재 설정으로 분석된 것으로 보고 기준만 기록합니다.
+            run.setStatus(ReanalysisStatus.COMPLETED);
+            run.setCursorId(upperBound);
+            run.setCompletedAt(now);
+        } else {
+            run.setStatus(ReanalysisStatus.RUNNING);
+            run.setTotal(newsArticleRepository.countByAnalysisStatusAndIdLessThanEqual(AnalysisStatus.DONE, upperBound));
+            System.out.println(">>> [재분석] 분석 설정이 " + target + "(으)로 바뀌어 기존 기사 " + run.getTotal() + "건의 재분석을 시작합니다.");
+        }
+        return reanalysisRunRepository.save(run);
+    }
+
+    private void processBatch(ReanalysisRun run) {
+        List<NewsArticle> articles = newsArticleRepository.findReanalysisBatch(AnalysisStatus.DONE, run.getCursorId(),
+                run.getUpperBoundId(), PageRequest.of(0, batchSize));
+        LocalDateTime now = LocalDateTime.now();
+        if (articles.isEmpty()) {
+            run.setStatus(ReanalysisStatus.COMPLETED);
+            run.setCursorId(run.getUpperBoundId());
+            run.setUpdatedAt(now);
+            run.setCompletedAt(now);
+            reanalysisRunRepository.save(run);
+            System.out.println(">>> [재분석] " + run.getTarget() + " 재분석 완료: 처리 " + run.getProcessed() + "건, 반영 " + run.getUpdated()
+                    + "건, 건너뜀 " + run.getSkipped() + "건, 실패 " + run.getFailed() + "건");
+            return;
+        }
+
+        List<CompletableFuture<Outcome>> futures = articles.stream()
+                .map(article -> CompletableFuture.supplyAsync(() -> reanalyze(article), workers))
+                .toList();
+        List<Outcome> outcomes = awaitOutcomes(futures);
+        if (outcomes == null) {
+            return; // 종료 중
+        }
+
+        // 커서는 배치 앞에서부터 연속으로 끝난 기사까지만 옮깁니다. 미뤄진 기사부터는 다음 배치에서 다시 처리합니다.
+        // (그 뒤에 이미 분석된 기사는 분석 캐시에 남아 있어 Gemini를 다시 호출하지 않습니다.)
+        int deferred = 0;
+        for (int i = 0; i < articles.size(); i++) {
+            Outcome outcome = outcomes.get(i);
+            if (outcome == Outcome.DEFERRED) {
+                deferred = articles.size() - i;
+                break;
+            }
+            run.setCursorId(articles.get(i).getId());
+            run.setProcessed(run.getProcessed() + 1);
+            switch (outcome) {
+                case UPDATED -> run.setUpdated(run.getUpdated() + 1);
+                case SKIPPED -> run.setSkipped(run.getSkipped() + 1);
+                case FAILED -> run.setFailed(run.getFailed() + 1);
+                default -> { }
+            }
+        }
+        run.setUpdatedAt(now);
+        reanalysisRunRepository.save(run);
+        System.out.println(">>> [재분석] " + run.getProcessed() + "/" + run.getTotal() + "건 처리 (커서 id " + run.getCursorId()
+                + (deferred > 0 ? ", Gemini 한도 여유가 없어 " + deferred + "건은 다음에 다시 처리" : "") + ")");
+    }
+
+    // 배치 결과를 batch-timeout-seconds까지만 기다립니다. 그때까지 끝나지 않은 기사는 취소하고 미룸(DEFERRED)으로 봅니다.
+    // 기다리는 중 인터럽트되면(종료) null을 반환합니다.
+    private List<Outcome> awaitOutcomes(List<CompletableFuture<Outcome>> futures) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(batchTimeoutSeconds);
+        List<Outcome> outcomes = new ArrayList<>(futures.size());
+        for (CompletableFuture<Outcome> future : futures) {
+            try {
+                outcomes.add(future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+            } catch (TimeoutException e) {
+                future.cancel(false);
+                outcomes.add(Outcome.DEFERRED);
+            } catch (ExecutionException e) {
+                outcomes.add(Outcome.FAILED);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(remaining -> remaining.cancel(false));
+                return null;
+            }
+        }
+        return outcomes;
+    }
+
+    // 공용 리미터가 일시 중지되지 않았고 min-spare 이상 여유가 있는지
+    private boolean hasSpareQuota() {
+        return geminiRateLimiter.spareRequestFraction() >= minSpare;
+    }
+
+    private Outcome reanalyze(NewsArticle article) {
+        try {
+            if (!hasSpareQuota()) {
+                return Outcome.DEFERRED;
+            }
+            String content = articleBodyStore.findOrExtract(article.getId(), article.getOriginalLink()).orElse(null);
+            if (content == null) {
+                return Outcome.SKIPPED;
+            }
+            String preparedContent = articlePreprocessor.prepare(content);
+            String cacheKey = analysisCache.key(preparedContent);
+            NewsAnalysisResponse response = analysisCache.get(cacheKey).orElse(null);
+            if (response == null) {
+                if (!hasSpareQuota()) {
+                    return Outcome.DEFERRED; // 본문을 준비하는 동안 수집이 한도를 쓰기 시작함
+                }
+                backfillLimiter.acquireAsync(GeminiRateLimiter.estimateTokens(preparedContent, geminiConfig.getMaxTokens())).join();
+                response = geminiBatchAnalyzer.analyze(preparedContent);
+                if (!NewsArticleProcessor.isReusableAnalysis(response)) {
+                    return Outcome.FAILED;
+                }
+                analysisCache.put(cacheKey, response);
+            }
+            int changed = newsArticleRepository.applyReanalysis(article.getId(), response.summary(), response.keywords(),
+                    response.category().trim());
+            return changed > 0 ? Outcome.UPDATED : Outcome.SKIPPED;
+        } catch (GeminiQuotaExceededException e) {
+            return Outcome.DEFERRED;
+        } catch (Exception e) {
+            System.err.println("!!! [재분석] 기사 재분석 실패: " + article.getTitle() + " - " + e.getMessage());
+            return Outcome.FAILED;
+        }
+    }
+}
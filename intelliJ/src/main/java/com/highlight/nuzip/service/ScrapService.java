@@ -5,11 +5,11 @@ import com.highlight.nuzip.dto.ScrapRequest;
 import com.highlight.nuzip.dto.ScrapResponse;
 import com.highlight.nuzip.model.Scrap;
 import com.highlight.nuzip.repository.ScrapRepository;
+import com.highlight.nuzip.util.TextUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -60,7 +60,7 @@ public class ScrapService {
     // Entity → Response 변환
     private ScrapResponse toResponse(Scrap scrap) {
         String formattedDate = scrap.getCreatedAt()
-                .format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+                .format(TextUtils.DATE_TIME);
 
         List<MemoResponse> memoResponses = scrap.getMemos() == null ?
                 List.of() :
@@ -69,7 +69,7 @@ public class ScrapService {
                                 memo.getId(),
                                 memo.getScrap().getUserId(),
                                 memo.getContent(),
-                                memo.getUpdatedAt().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))
+                                memo.getUpdatedAt().format(TextUtils.DATE_TIME)
                         ))
                         .collect(Collectors.toList());
 
@@ -0,0 +1,77 @@
+package com.highlight.nuzip.util;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// 본문 텍스트의 64비트 SimHash 지문을 계산합니다.
+// 한국어 기사는 띄어쓰기/조사 차이가 많아 단어 대신 공백을 제거한 문자 3-gram(shingle)을 특징으로 사용합니다.
+public final class SimHash {
+
+    private static final int SHINGLE = 3;
+
+    private SimHash() {
+    }
+
+    public static long fingerprint(String text) {
+        if (text == null || text.isEmpty()) {
+            return 0L;
+        }
+        String normalized = normalize(text);
+        if (normalized.length() < SHINGLE) {
+            return hash(normalized);
+        }
+
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (int i = 0; i + SHINGLE <= normalized.length(); i++) {
+            frequencies.merge(normalized.substring(i, i + SHINGLE), 1, Integer::sum);
+        }
+
+        int[] weights = new int[64];
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            long h = hash(entry.getKey());
+            int weight = entry.getValue();
+            for (int bit = 0; bit < 64; bit++) {
+                weights[bit] += ((h >>> bit) & 1L) == 1L ? weight : -weight;
+            }
+        }
+
+        long fingerprint = 0L;
+        for (int bit = 0; bit < 64; bit++) {
+            if (weights[bit] > 0) {
+                fingerprint |= 1L << bit;
+            }
+        }
+        return fingerprint;
+    }
+
+    public static int hammingDistance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+
+    // 공백/구두점을 제거하고 소문자로 통일합니다.
+    private static String normalize(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                sb.append(Character.toLowerCase(c));
+            }
+        }
+        return sb.toString();
+    }
+
+    // 64비트 FNV-1a + murmur3 finalizer
+    private static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
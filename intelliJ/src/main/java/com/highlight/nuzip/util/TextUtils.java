@@ -0,0 +1,237 @@
+package com.highlight.nuzip.util;
+
+import org.apache.commons.text.translate.EntityArrays;
+
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// 수집 경로에서 자주 호출되는 텍스트 처리 유틸리티입니다.
+// - stripTagsAndDecode: HTML 태그 제거와 엔터티 해제를 한 번의 순회로 처리 (정규식/중간 문자열 없이, 바꿀 것이 없으면 입력을 그대로 반환)
+// - parseNaverPubDate: 네이버 pubDate(RFC 1123)를 고정 위치로 바로 읽고, 형식이 다를 때만 캐시된 DateTimeFormatter로 파싱
+// - appendNormalizedWhitespace: 기사 본문 텍스트 노드를 이어 붙이며 공백 정규화 (jsoup Element.text()와 같은 규칙)
+// - DateTimeFormatter는 불변/스레드 안전하므로 상수로 공유합니다.
+public final class TextUtils {
+
+    // 네이버 날짜 형식: EEE, dd MMM yyyy HH:mm:ss Z (예: Mon, 11 Sep 2023 11:30:00 +0900)
+    public static final DateTimeFormatter NAVER_PUB_DATE = DateTimeFormatter.ofPattern("EEE, dd MMM yyyy HH:mm:ss Z", Locale.ENGLISH);
+
+    // 화면/응답용 날짜 시각 형식 (yyyy-MM-dd HH:mm:ss)
+    public static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    // "Mon, 11 Sep 2023 11:30:00 +0900"
+    private static final int PUB_DATE_LENGTH = 31;
+    private static final String DAYS_OF_WEEK = "MonTueWedThuFriSatSun";
+
+    // StringEscapeUtils.unescapeHtml4와 같은 이름 엔터티 집합 (이름 → 문자, 앞의 &와 뒤의 ; 제외)
+    private static final Map<String, String> NAMED_ENTITIES = new HashMap<>();
+    private static final int MAX_ENTITY_NAME = 8;
+    // '&'부터 ';'까지 가장 긴 엔터티 (&#x10FFFF;)
+    private static final int MAX_ENTITY_LENGTH = 10;
+
+    static {
+        for (Map<CharSequence, CharSequence> table : List.of(EntityArrays.BASIC_UNESCAPE,
+                EntityArrays.ISO8859_1_UNESCAPE, EntityArrays.HTML40_EXTENDED_UNESCAPE)) {
+            for (Map.Entry<CharSequence, CharSequence> entry : table.entrySet()) {
+                String key = entry.getKey().toString();
+                NAMED_ENTITIES.putIfAbsent(key.substring(1, key.length() - 1), entry.getValue().toString());
+            }
+        }
+    }
+
+    private TextUtils() {
+    }
+
+    // HTML 조각에서 태그(<...>)를 지우고 엔터티(&quot; &#39; &#x27; 등)를 해제합니다.
+    // 기존 replaceAll("<[^>]+>", "") + unescapeHtml4와 같은 결과를 냅니다. (해제된 &lt;b&gt;는 태그로 다시 지우지 않음)
+    public static String stripTagsAndDecode(String html) {
+        if (html == null || html.isEmpty()) {
+            return "";
+        }
+        int first = firstSpecial(html);
+        if (first < 0) {
+            return html;
+        }
+
+        int length = html.length();
+        StringBuilder sb = new StringBuilder(length);
+        sb.append(html, 0, first);
+        int i = first;
+        while (i < length) {
+            char c = html.charAt(i);
+            if (c == '<') {
+                int close = html.indexOf('>', i + 1);
+                if (close > i + 1) {
+                    i = close + 1;
+                    continue;
+                }
+            } else if (c == '&') {
+                int consumed = decodeEntity(html, i, sb);
+                if (consumed > 0) {
+                    i += consumed;
+                    continue;
+                }
+            }
+            sb.append(c);
+            i++;
+        }
+        return sb.toString();
+    }
+
+    // 네이버 pubDate를 시각으로 바꿉니다. 형식이 맞지 않으면 DateTimeParseException을 던집니다.
+    public static OffsetDateTime parseNaverPubDate(String pubDate) {
+        if (pubDate.length() == PUB_DATE_LENGTH && pubDate.charAt(3) == ',' && pubDate.charAt(4) == ' '
+                && pubDate.charAt(7) == ' ' && pubDate.charAt(11) == ' ' && pubDate.charAt(16) == ' '
+                && pubDate.charAt(19) == ':' && pubDate.charAt(22) == ':' && pubDate.charAt(25) == ' ') {
+            int month = month(pubDate.charAt(8), pubDate.charAt(9), pubDate.charAt(10));
+            char sign = pubDate.charAt(26);
+            int day = digits(pubDate, 5, 2);
+            int year = digits(pubDate, 12, 4);
+            int hour = digits(pubDate, 17, 2);
+            int minute = digits(pubDate, 20, 2);
+            int second = digits(pubDate, 23, 2);
+            int offsetHours = digits(pubDate, 27, 2);
+            int offsetMinutes = digits(pubDate, 29, 2);
+            if (month > 0 && (sign == '+' || sign == '-') && (day | year | hour | minute | second | offsetHours | offsetMinutes) >= 0) {
+                try {
+                    int offsetSeconds = (offsetHours * 3600 + offsetMinutes * 60) * (sign == '-' ? -1 : 1);
+                    OffsetDateTime parsed = OffsetDateTime.of(year, month, day, hour, minute, second, 0, ZoneOffset.ofTotalSeconds(offsetSeconds));
+                    // 포매터와 같이 요일이 날짜와 맞지 않으면 받아들이지 않습니다.
+                    if (pubDate.regionMatches(0, DAYS_OF_WEEK, (parsed.getDayOfWeek().getValue() - 1) * 3, 3)) {
+                        return parsed;
+                    }
+                } catch (DateTimeException e) {
+                    // 범위를 벗어난 값 (예: 31 Feb)
+                }
+            }
+        }
+        // 고정 위치로 읽을 수 없는 입력은 포매터에 맡겨 같은 DateTimeParseException을 받습니다.
+        return OffsetDateTime.parse(pubDate, NAVER_PUB_DATE);
+    }
+
+    // 네이버 pubDate를 지정한 시간대의 LocalDateTime으로 바꿉니다.
+    public static LocalDateTime parseNaverPubDate(String pubDate, ZoneId zone) {
+        return parseNaverPubDate(pubDate).atZoneSameInstant(zone).toLocalDateTime();
+    }
+
+    // 공백류 문자(nbsp 포함) 연속을 공백 1개로 합쳐 sb에 이어 붙이고, 폭 없는 문자(zero-width space, soft hyphen)는 버립니다.
+    // stripLeading이면 text 앞쪽 공백을 버립니다. (sb가 이미 공백으로 끝났을 때)
+    // jsoup의 StringUtil.appendNormalisedWhitespace와 같은 결과를 내지만 jsoup 내부(internal) 패키지에 기대지 않습니다.
+    public static void appendNormalizedWhitespace(StringBuilder sb, String text, boolean stripLeading) {
+        boolean lastWasSpace = false;
+        boolean reachedText = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == ' ' || c == '\t' || c == '\n' || c == '\f' || c == '\r' || c == '\u00A0') {
+                if ((stripLeading && !reachedText) || lastWasSpace) {
+                    continue;
+                }
+                sb.append(' ');
+                lastWasSpace = true;
+            } else if (c != '\u200B' && c != '\u00AD') {
+                sb.append(c);
+                lastWasSpace = false;
+                reachedText = true;
+            }
+        }
+    }
+
+    private static int firstSpecial(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '<' || c == '&') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // s[start]의 '&'부터 엔터티를 해제해 sb에 붙이고, 소비한 글자 수를 반환합니다. 엔터티가 아니면 0.
+    private static int decodeEntity(String s, int start, StringBuilder sb) {
+        // ';'는 엔터티 최대 길이 안에서만 찾습니다. (';' 없는 '&'가 많은 긴 본문에서도 선형 시간)
+        int semicolon = -1;
+        for (int i = start + 1, end = Math.min(s.length(), start + MAX_ENTITY_LENGTH); i < end; i++) {
+            if (s.charAt(i) == ';') {
+                semicolon = i;
+                break;
+            }
+        }
+        if (semicolon < 0) {
+            return 0;
+        }
+        if (start + 1 < semicolon && s.charAt(start + 1) == '#') {
+            return decodeNumericEntity(s, start, semicolon, sb);
+        }
+        int nameLength = semicolon - start - 1;
+        if (nameLength < 2 || nameLength > MAX_ENTITY_NAME) {
+            return 0;
+        }
+        String value = NAMED_ENTITIES.get(s.substring(start + 1, semicolon));
+        if (value == null) {
+            return 0;
+        }
+        sb.append(value);
+        return semicolon - start + 1;
+    }
+
+    // &#39; / &#x27; / &#X27;
+    private static int decodeNumericEntity(String s, int start, int semicolon, StringBuilder sb) {
+        int digitsStart = start + 2;
+        int radix = 10;
+        if (digitsStart < semicolon && (s.charAt(digitsStart) == 'x' || s.charAt(digitsStart) == 'X')) {
+            digitsStart++;
+            radix = 16;
+        }
+        if (digitsStart == semicolon || semicolon - digitsStart > 8) {
+            return 0;
+        }
+        int codePoint = 0;
+        for (int i = digitsStart; i < semicolon; i++) {
+            int digit = Character.digit(s.charAt(i), radix);
+            if (digit < 0) {
+                return 0;
+            }
+            codePoint = codePoint * radix + digit;
+        }
+        if (!Character.isValidCodePoint(codePoint)) {
+            return 0;
+        }
+        sb.appendCodePoint(codePoint);
+        return semicolon - start + 1;
+    }
+
+    // 숫자가 아니면 -1
+    private static int digits(String s, int start, int count) {
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            int digit = s.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    // 영문 월 약어 → 1~12, 알 수 없으면 0
+    private static int month(char a, char b, char c) {
+        return switch (a) {
+            case 'J' -> b == 'a' && c == 'n' ? 1 : b == 'u' ? (c == 'n' ? 6 : c == 'l' ? 7 : 0) : 0;
+            case 'F' -> b == 'e' && c == 'b' ? 2 : 0;
+            case 'M' -> b == 'a' ? (c == 'r' ? 3 : c == 'y' ? 5 : 0) : 0;
+            case 'A' -> b == 'p' && c == 'r' ? 4 : b == 'u' && c == 'g' ? 8 : 0;
+            case 'S' -> b == 'e' && c == 'p' ? 9 : 0;
+            case 'O' -> b == 'c' && c == 't' ? 10 : 0;
+            case 'N' -> b == 'o' && c == 'v' ? 11 : 0;
+            case 'D' -> b == 'e' && c == 'c' ? 12 : 0;
+            default -> 0;
+        };
+    }
+}
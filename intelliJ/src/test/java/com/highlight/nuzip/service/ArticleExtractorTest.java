@@ -0,0 +1,153 @@
+package com.highlight.nuzip.service;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArticleExtractorTest {
+
+    private static final String URL = "https://news.example.com/article/2026/10/17/123";
+    private static final List<String> FIXTURES = List.of("naver-news.html", "publisher-article-body.html", "no-selector-fallback.html");
+
+    private static Document fixture(String name) throws IOException {
+        try (InputStream in = ArticleExtractorTest.class.getResourceAsStream("/fixtures/" + name)) {
+            return Jsoup.parse(new String(in.readAllBytes(), StandardCharsets.UTF_8), URL);
+        }
+    }
+
+    // og:image가 없는 문서 (본문 첫 이미지로 대체하는 경로)
+    private static Document withoutOgImage(Document doc) {
+        Document copy = doc.clone();
+        copy.select("meta[property=og:image]").remove();
+        return copy;
+    }
+
+    @Test
+    void extractsLikeLegacyImplementation() throws IOException {
+        for (String name : FIXTURES) {
+            for (Document doc : List.of(fixture(name), withoutOgImage(fixture(name)))) {
+                String[] expected = legacyExtract(doc.clone(), URL);
+
+                ArticleExtractor.Extraction extraction = new ArticleExtractor().extract(doc, URL);
+
+                assertThat(extraction.text()).as(name).isNotEmpty().isEqualTo(expected[0]);
+                assertThat(extraction.imageUrl()).as(name).isEqualTo(expected[1]);
+            }
+        }
+    }
+
+    @Test
+    void doesNotModifyDocument() throws IOException {
+        Document doc = fixture("publisher-article-body.html");
+        String before = doc.outerHtml();
+
+        new ArticleExtractor().extract(doc, URL);
+
+        assertThat(doc.outerHtml()).isEqualTo(before);
+    }
+
+    @Test
+    void reusesLearnedSelectorForSameDomain() throws IOException {
+        ArticleExtractor extractor = new ArticleExtractor();
+        Document doc = withoutOgImage(fixture("publisher-article-body.html"));
+        String[] expected = legacyExtract(doc.clone(), URL);
+
+        ArticleExtractor.Extraction first = extractor.extract(doc, URL);
+        ArticleExtractor.Extraction learned = extractor.extract(doc, URL);
+
+        assertThat(first.selector()).isEqualTo(".article_body");
+        assertThat(learned).isEqualTo(first);
+        assertThat(learned.text()).isEqualTo(expected[0]);
+        assertThat(learned.imageUrl()).isEqualTo(expected[1]).startsWith("https://news.example.com/photos/");
+    }
+
+    @Test
+    void fallsBackToAllSelectorsWhenLearnedSelectorMisses() throws IOException {
+        ArticleExtractor extractor = new ArticleExtractor();
+        extractor.extract(fixture("publisher-article-body.html"), URL);
+        // 같은 도메인이 다른 구조로 바뀐 경우
+        Document changed = fixture("naver-news.html");
+        String[] expected = legacyExtract(changed.clone(), URL);
+
+        ArticleExtractor.Extraction extraction = extractor.extract(changed, URL);
+
+        assertThat(extraction.selector()).isEqualTo("#newsct_article");
+        assertThat(extraction.text()).isEqualTo(expected[0]);
+        assertThat(extraction.imageUrl()).isEqualTo(expected[1]);
+        // 새로 학습한 선택자로 다시 추출해도 같은 결과
+        assertThat(extractor.extract(changed, URL)).isEqualTo(extraction);
+    }
+
+    @Test
+    void fallsBackToBodyWhenNoSelectorMatches() throws IOException {
+        ArticleExtractor extractor = new ArticleExtractor();
+        extractor.extract(fixture("naver-news.html"), URL);
+        Document doc = fixture("no-selector-fallback.html");
+        String[] expected = legacyExtract(doc.clone(), URL);
+
+        ArticleExtractor.Extraction extraction = extractor.extract(doc, URL);
+
+        assertThat(extraction.selector()).isNull();
+        assertThat(extraction.text()).isEqualTo(expected[0]).doesNotContain("섹션 0");
+        assertThat(extraction.imageUrl()).isEqualTo(expected[1]);
+    }
+
+    @Test
+    void skipsEmptyCandidateAndExcludedElementsInNestedCandidates() {
+        String html = "<html><body><article><div id='newsct_article'><script>x()</script> </div>"
+                + "<div class='article_body'><p>첫 문단<span class='byline'>홍길동 기자</span></p><p>둘째 문단</p>"
+                + "<img src='/a.jpg'></div><footer>꼬리</footer></article></body></html>";
+        Document doc = Jsoup.parse(html, URL);
+        String[] expected = legacyExtract(doc.clone(), URL);
+
+        ArticleExtractor.Extraction extraction = new ArticleExtractor().extract(doc, URL);
+
+        assertThat(extraction.selector()).isEqualTo(".article_body");
+        assertThat(extraction.text()).isEqualTo(expected[0]).isEqualTo("첫 문단 둘째 문단");
+        assertThat(extraction.imageUrl()).isEqualTo(expected[1]).isEqualTo("https://news.example.com/a.jpg");
+    }
+
+    // 변경 전 GeminiService.extractArticleContent의 추출 로직 (로그 출력 제외, 문서를 변경함)
+    private static String[] legacyExtract(Document doc, String url) {
+        String[] commonSelectors = {
+                "#newsct_article", "#articleBodyContents", ".article_body", ".article-view", ".view_contents", "article"
+        };
+        Element contentElement = null;
+        String usedSelector = "";
+        for (String selector : commonSelectors) {
+            contentElement = doc.select(selector).first();
+            if (contentElement != null && !contentElement.text().trim().isEmpty()) {
+                usedSelector = selector;
+                break;
+            }
+        }
+        if (contentElement == null || usedSelector.isEmpty() || contentElement.text().trim().isEmpty()) {
+            contentElement = doc.body();
+            contentElement.select("header, footer, nav, aside, .sidebar, .ad, .ad-unit, .byline, #comment, .related-articles, .article_btns, .sub_copy, script, style, iframe").remove();
+        }
+        String imageUrl = null;
+        Element ogImage = doc.select("meta[property=og:image]").first();
+        if (ogImage != null) {
+            imageUrl = ogImage.attr("content");
+        }
+        if (imageUrl == null || imageUrl.isEmpty()) {
+            Elements images = contentElement.select("img");
+            if (!images.isEmpty()) {
+                String first = images.first().attr("src");
+                imageUrl = first.startsWith("/") ? URI.create(url).resolve(first).toString() : first;
+            }
+        }
+        contentElement.select(".article_btns, .byline, script, style, iframe, .sub_copy, .ad-unit, img").remove();
+        return new String[]{contentElement.text().trim(), imageUrl};
+    }
+}
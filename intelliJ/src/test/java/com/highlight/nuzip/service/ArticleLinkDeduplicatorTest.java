@@ -0,0 +1,79 @@
+package com.highlight.nuzip.service;
+
+import com.highlight.nuzip.dto.Item;
+import com.highlight.nuzip.repository.NewsArticleRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ArticleLinkDeduplicatorTest {
+
+    private static final int STORED = 12;
+    private static final int PAGE_SIZE = 5;
+
+    @Test
+    void seedsFilterPageByPageFromIdCursor() {
+        NewsArticleRepository repository = mock(NewsArticleRepository.class);
+        List<Long> cursors = new ArrayList<>();
+        when(repository.findLinksAfter(anyLong(), any(Pageable.class))).thenAnswer(invocation -> {
+            long after = invocation.getArgument(0);
+            Pageable pageable = invocation.getArgument(1);
+            cursors.add(after);
+            // id는 10, 20, 30, ... (연속되지 않아도 커서는 마지막 id부터)
+            return LongStream.rangeClosed(1, STORED).map(i -> i * 10).filter(id -> id > after)
+                    .limit(pageable.getPageSize()).mapToObj(ArticleLinkDeduplicatorTest::row).toList();
+        });
+        List<String> checked = new ArrayList<>();
+        when(repository.findByOriginalLinkIn(anyCollection())).thenAnswer(invocation -> {
+            checked.addAll(invocation.getArgument(0));
+            return List.copyOf(checked);
+        });
+        ArticleLinkDeduplicator deduplicator = new ArticleLinkDeduplicator(repository);
+        ReflectionTestUtils.setField(deduplicator, "expectedInsertions", 1000L);
+        ReflectionTestUtils.setField(deduplicator, "falsePositiveRate", 0.01);
+        ReflectionTestUtils.setField(deduplicator, "seedPageSize", PAGE_SIZE);
+
+        deduplicator.seed();
+
+        assertThat(cursors).containsExactly(0L, 50L, 100L);
+        // 모든 페이지의 링크가 필터에 들어가, 저장된 링크는 전부 DB 확인 대상이 됩니다.
+        List<Item> items = LongStream.rangeClosed(1, STORED).mapToObj(i -> item(link(i * 10))).toList();
+        assertThat(deduplicator.filterNew(items)).isEmpty();
+        assertThat(checked).hasSize(STORED);
+    }
+
+    private static NewsArticleRepository.LinkRow row(long id) {
+        return new NewsArticleRepository.LinkRow() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getOriginalLink() {
+                return link(id);
+            }
+        };
+    }
+
+    private static String link(long id) {
+        return "https://news.example.com/article/" + id;
+    }
+
+    private static Item item(String link) {
+        Item item = new Item();
+        item.setOriginallink(link);
+        return item;
+    }
+}
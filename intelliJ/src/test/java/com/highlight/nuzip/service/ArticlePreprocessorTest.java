@@ -0,0 +1,97 @@
+package com.highlight.nuzip.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArticlePreprocessorTest {
+
+    private final ArticlePreprocessor preprocessor = new ArticlePreprocessor(1500);
+
+    @Test
+    void stripsLeadingDatelineAndByline() {
+        String body = "[서울=뉴시스] 홍길동 기자 = 정부가 내년 예산안을 발표했다. 총지출은 600조원이다.";
+
+        assertThat(preprocessor.prepare(body)).isEqualTo("정부가 내년 예산안을 발표했다. 총지출은 600조원이다.");
+    }
+
+    @Test
+    void stripsConsecutiveLeadingDatelines() {
+        String body = "(세종=연합뉴스) 【세종=뉴스1】 기획재정부가 세제 개편안을 내놨다.";
+
+        assertThat(preprocessor.prepare(body)).isEqualTo("기획재정부가 세제 개편안을 내놨다.");
+    }
+
+    @Test
+    void keepsBracketedEqualsInsideBody() {
+        String body = "수입 단가는 1,380원(1달러=1,380원 기준)으로 계산했다. 비교 대상은 [A=B] 방식이다.";
+
+        assertThat(preprocessor.prepare(body)).isEqualTo(body);
+    }
+
+    @Test
+    void stripsPhotoCreditsAndReporterEmail() {
+        String body = "시민들이 광장에 모였다. (사진=연합뉴스) 행사는 저녁까지 이어졌다. 홍길동 기자 hong@yna.co.kr";
+
+        assertThat(preprocessor.prepare(body)).isEqualTo("시민들이 광장에 모였다. 행사는 저녁까지 이어졌다.");
+    }
+
+    @Test
+    void dropsBoilerplateSentences() {
+        String body = "금리가 동결됐다. <저작권자 ⓒ 뉴시스, 무단 전재 및 재배포 금지.> ▶ 카카오톡 제보하기";
+
+        assertThat(preprocessor.prepare(body)).isEqualTo("금리가 동결됐다.");
+    }
+
+    @Test
+    void trimsToInputBudgetAtSentenceBoundary() {
+        // 10토큰 = 20자
+        ArticlePreprocessor small = new ArticlePreprocessor(10);
+
+        assertThat(small.prepare("첫 문장입니다. 두 번째 문장입니다. 세 번째 문장입니다."))
+                .isEqualTo("첫 문장입니다. 두 번째 문장입니다.");
+        // 첫 문장부터 넘으면 단어 경계에서 자릅니다.
+        assertThat(small.prepare("아주 긴 첫 문장이 예산을 넘어서 단어 경계에서 잘려야 합니다."))
+                .isEqualTo("아주 긴 첫 문장이 예산을 넘어서");
+    }
+
+    @Test
+    void isIdempotent() {
+        ArticlePreprocessor small = new ArticlePreprocessor(20);
+        List<String> bodies = List.of(
+                "[서울=뉴시스] [부산=뉴시스] 홍길동 기자 = 부산항 물동량이 3.5% 늘었다. (사진=뉴시스) 무단 전재 금지.",
+                "수입 단가는 1,380원(1달러=1,380원 기준)으로 계산했다.   ​ 다음 문장",
+                "[이데일리 김철수 기자] \"올해 목표는 달성했다.\" 그는 말했다! 문의 kim@edaily.co.kr",
+                "아주 긴 첫 문장이 예산을 넘어서 단어 경계에서 잘려야 하고 다시 전처리해도 결과가 같아야 합니다."
+        );
+
+        for (ArticlePreprocessor p : List.of(preprocessor, small)) {
+            for (String body : bodies) {
+                String once = p.prepare(body);
+                assertThat(p.prepare(once)).as(body).isEqualTo(once);
+            }
+        }
+    }
+
+    @Test
+    void returnsEmptyForMissingBody() {
+        assertThat(preprocessor.prepare(null)).isEmpty();
+        assertThat(preprocessor.prepare("")).isEmpty();
+    }
+
+    @Test
+    void splitsSentencesRespectingDecimalsAndClosingQuotes() {
+        List<String> sentences = ArticlePreprocessor.splitSentences(
+                "성장률은 2.1%였다. 그는 \"괜찮다.\" 라고 말했다. 정말인가? 끝맺지 않은 문장");
+
+        assertThat(sentences).containsExactly(
+                "성장률은 2.1%였다.", "그는 \"괜찮다.\"", "라고 말했다.", "정말인가?", "끝맺지 않은 문장");
+    }
+
+    @Test
+    void collapsesWhitespace() {
+        assertThat(ArticlePreprocessor.normalizeWhitespace("  가  나\n\t다​라  ")).isEqualTo("가 나 다라");
+    }
+}
@@ -0,0 +1,89 @@
+package com.highlight.nuzip.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CrawlCacheTest {
+
+    private static final String URL = "https://news.example.com/article/1";
+    private static final FileTime OLD = FileTime.from(Instant.now().minus(Duration.ofDays(30)));
+
+    @TempDir
+    Path dir;
+
+    private CrawlCache cache;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        cache = new CrawlCache();
+        ReflectionTestUtils.setField(cache, "cacheDir", dir.toString());
+        ReflectionTestUtils.setField(cache, "ttlMinutes", 360L);
+        ReflectionTestUtils.setField(cache, "maxAgeDays", 14L);
+        cache.init();
+    }
+
+    @Test
+    void keepsRevalidatedEntryWhoseBodyFileIsOld() throws IOException {
+        cache.put(URL, "<html>본문</html>".getBytes(StandardCharsets.UTF_8), "UTF-8", "\"v1\"", null);
+        // 304 재검증은 메타만 다시 쓰므로 본문 파일의 수정 시각은 처음 저장한 때 그대로입니다.
+        cache.touch(cache.get(URL).orElseThrow());
+        setAllModifiedTimes(".html.gz", OLD);
+
+        cache.evictExpired();
+
+        assertThat(cache.get(URL)).isPresent();
+    }
+
+    @Test
+    void evictsBodyAndMetaTogetherByFetchedAt() throws IOException {
+        cache.put(URL, "<html>본문</html>".getBytes(StandardCharsets.UTF_8), "UTF-8", null, null);
+        ReflectionTestUtils.invokeMethod(cache, "writeMeta", URL, "UTF-8", null, null, Instant.now().minus(Duration.ofDays(15)));
+
+        cache.evictExpired();
+
+        assertThat(cache.get(URL)).isEmpty();
+        assertThat(files()).isEmpty();
+    }
+
+    @Test
+    void removesOldOrphanFilesOnly() throws IOException {
+        Path oldOrphan = Files.writeString(dir.resolve("orphan.html.gz"), "x");
+        Files.setLastModifiedTime(oldOrphan, OLD);
+        Path oldTemp = Files.writeString(dir.resolve("body123.tmp"), "x");
+        Files.setLastModifiedTime(oldTemp, OLD);
+        // 저장 중일 수 있는 최근 파일은 남깁니다.
+        Path recentOrphan = Files.writeString(dir.resolve("recent.html.gz"), "x");
+
+        cache.evictExpired();
+
+        assertThat(files()).containsExactly(recentOrphan);
+    }
+
+    private void setAllModifiedTimes(String suffix, FileTime time) throws IOException {
+        for (Path file : files()) {
+            if (file.getFileName().toString().endsWith(suffix)) {
+                Files.setLastModifiedTime(file, time);
+            }
+        }
+    }
+
+    private List<Path> files() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.toList();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.highlight.nuzip.service;
+
+import com.highlight.nuzip.config.GeminiConfig;
+import com.highlight.nuzip.dto.NewsAnalysisResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GeminiBatchAnalyzerTest {
+
+    private final GeminiService geminiService = mock(GeminiService.class);
+    // 전송된 배치의 기사 본문 목록
+    private final List<List<String>> sent = new CopyOnWriteArrayList<>();
+    // 첫 배치의 응답 (테스트가 완료시킬 때까지 동시 전송 한도 1개를 잡고 있음)
+    private final CompletableFuture<List<NewsAnalysisResponse>> firstCall = new CompletableFuture<>();
+    private GeminiBatchAnalyzer analyzer;
+
+    @BeforeEach
+    void setUp() {
+        when(geminiService.analyzeNewsArticlesAsync(anyList())).thenAnswer(invocation -> {
+            List<String> contents = invocation.getArgument(0);
+            sent.add(contents);
+            if (sent.size() == 1) {
+                return firstCall;
+            }
+            return CompletableFuture.completedFuture(contents.stream().map(GeminiBatchAnalyzerTest::response).toList());
+        });
+        analyzer = new GeminiBatchAnalyzer(geminiService, mock(GeminiConfig.class));
+        ReflectionTestUtils.setField(analyzer, "batchSize", 5);
+        ReflectionTestUtils.setField(analyzer, "lingerMillis", 50L);
+        ReflectionTestUtils.setField(analyzer, "maxInFlight", 1);
+        ReflectionTestUtils.setField(analyzer, "waitSeconds", 1L);
+        analyzer.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        analyzer.stop();
+    }
+
+    @Test
+    void doesNotSendRequestsCancelledBeforeDispatch() throws Exception {
+        CompletableFuture<NewsAnalysisResponse> blocker = analyzer.submit("첫 기사");
+        awaitSent(1);
+
+        CompletableFuture<NewsAnalysisResponse> abandoned = analyzer.submit("포기한 기사");
+        CompletableFuture<NewsAnalysisResponse> live = analyzer.submit("기다리는 기사");
+        abandoned.cancel(false);
+        firstCall.complete(List.of(response("첫 기사")));
+
+        assertThat(live.get(5, TimeUnit.SECONDS).summary()).isEqualTo("기다리는 기사");
+        assertThat(blocker.get(5, TimeUnit.SECONDS).summary()).isEqualTo("첫 기사");
+        assertThat(sent).containsExactly(List.of("첫 기사"), List.of("기다리는 기사"));
+    }
+
+    @Test
+    void cancelsRequestWhenCallerStopsWaiting() throws Exception {
+        analyzer.submit("첫 기사");
+        awaitSent(1);
+
+        // 동시 전송 한도가 찬 동안 대기 시간(1초)이 지나면 요청을 취소합니다.
+        assertThatThrownBy(() -> analyzer.analyze("시간 초과 기사")).hasMessageContaining("대기 시간 초과");
+        CompletableFuture<NewsAnalysisResponse> live = analyzer.submit("다음 기사");
+        firstCall.complete(List.of(response("첫 기사")));
+
+        assertThat(live.get(5, TimeUnit.SECONDS).summary()).isEqualTo("다음 기사");
+        assertThat(sent).flatExtracting(contents -> contents).doesNotContain("시간 초과 기사");
+    }
+
+    @Test
+    void cancelsRequestWhenWaitingThreadIsInterrupted() throws Exception {
+        analyzer.submit("첫 기사");
+        awaitSent(1);
+
+        Thread.currentThread().interrupt();
+        assertThatThrownBy(() -> analyzer.analyze("인터럽트된 기사")).hasMessageContaining("인터럽트");
+        assertThat(Thread.interrupted()).isTrue();
+        CompletableFuture<NewsAnalysisResponse> live = analyzer.submit("다음 기사");
+        firstCall.complete(List.of(response("첫 기사")));
+
+        assertThat(live.get(5, TimeUnit.SECONDS).summary()).isEqualTo("다음 기사");
+        assertThat(sent).flatExtracting(contents -> contents).doesNotContain("인터럽트된 기사");
+    }
+
+    private void awaitSent(int batches) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (sent.size() < batches && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(sent).hasSize(batches);
+    }
+
+    private static NewsAnalysisResponse response(String content) {
+        return new NewsAnalysisResponse(content, "키워드", "사회");
+    }
+}
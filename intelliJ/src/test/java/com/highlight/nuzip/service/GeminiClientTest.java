@@ -0,0 +1,44 @@
+package com.highlight.nuzip.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeminiClientTest {
+
+    private static final String BODY = "{\"error\": {\"code\": 429, \"details\": [{\"@type\": \"type.googleapis.com/google.rpc.RetryInfo\", \"retryDelay\": \"37.5s\"}]}}";
+
+    @Test
+    void readsRetryAfterSeconds() {
+        assertThat(GeminiClient.parseRetryAfter(" 12 ", BODY)).isEqualTo(Duration.ofSeconds(12));
+    }
+
+    @Test
+    void readsRetryAfterHttpDate() {
+        String date = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(90));
+
+        assertThat(GeminiClient.parseRetryAfter(date, BODY)).isBetween(Duration.ofSeconds(85), Duration.ofSeconds(90));
+    }
+
+    @Test
+    void treatsPastHttpDateAsNoWait() {
+        assertThat(GeminiClient.parseRetryAfter("Wed, 21 Oct 2015 07:28:00 GMT", BODY)).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    void fallsBackToBodyRetryDelayWhenHeaderIsMissingOrUnreadable() {
+        assertThat(GeminiClient.parseRetryAfter(null, BODY)).isEqualTo(Duration.ofMillis(37_500));
+        assertThat(GeminiClient.parseRetryAfter("곧", BODY)).isEqualTo(Duration.ofMillis(37_500));
+    }
+
+    @Test
+    void returnsNullWhenNothingIsReadable() {
+        assertThat(GeminiClient.parseRetryAfter("soon", "{}")).isNull();
+        assertThat(GeminiClient.parseRetryAfter(null, null)).isNull();
+    }
+}
@@ -0,0 +1,114 @@
+package com.highlight.nuzip.service;
+
+import com.highlight.nuzip.dto.NewsAnalysisResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalNewsAnalyzerTest {
+
+    private final LocalNewsAnalyzer analyzer = new LocalNewsAnalyzer();
+
+    @Test
+    void stripsParticles() {
+        assertThat(LocalNewsAnalyzer.tokenize("정부에서는 서울의 반도체를 선수들과 지원"))
+                .containsExactly("정부", "서울", "반도체", "선수들", "지원");
+    }
+
+    @Test
+    void keepsParticleWhenStemWouldBeSingleCharacter() {
+        // "나는"에서 "는"을 떼면 한 글자라 그대로 둡니다.
+        assertThat(LocalNewsAnalyzer.tokenize("나는 국회에")).containsExactly("나는", "국회");
+    }
+
+    @Test
+    void dropsPredicatesStopwordsNumbersAndSingleCharacters() {
+        assertThat(LocalNewsAnalyzer.tokenize("이번 2026 예산안이 통과됐다. 또한 큰 AI 기술"))
+                .containsExactly("예산안", "ai", "기술");
+    }
+
+    @Test
+    void summarizesTopThreeSentencesInOriginalOrder() {
+        List<String> sentences = List.of(
+                "대표팀이 결승전에서 승리하며 우승을 차지했다.",
+                "짧은 문장.",
+                "감독은 선수들의 체력 관리가 승리의 비결이라고 말했다.",
+                "경기장에는 많은 관중이 몰려 응원전을 펼쳤다.",
+                "대표팀 선수들은 다음 달 귀국해 환영 행사에 참석한다.",
+                "구단 관계자는 시즌 일정이 다음 주에 발표된다고 전했다.");
+
+        String summary = analyzer.analyze(String.join(" ", sentences)).summary();
+
+        List<String> picked = ArticlePreprocessor.splitSentences(summary);
+        assertThat(picked).hasSize(3).isSubsetOf(sentences).doesNotContain("짧은 문장.");
+        assertThat(picked).isSortedAccordingTo((a, b) -> Integer.compare(sentences.indexOf(a), sentences.indexOf(b)));
+    }
+
+    @Test
+    void keepsAllSentencesWhenThreeOrFewer() {
+        String text = "대표팀이 결승전에서 승리하며 우승을 차지했다. 감독은 선수들의 체력 관리가 비결이라고 말했다.";
+
+        assertThat(analyzer.analyze(text).summary()).isEqualTo(text);
+    }
+
+    @Test
+    void fallsBackToLeadingTextWhenNoSentenceQualifies() {
+        assertThat(analyzer.analyze("짧은 글.").summary()).isEqualTo("짧은 글.");
+    }
+
+    @Test
+    void classifiesByLexiconHits() {
+        NewsAnalysisResponse response = analyzer.analyze(
+                "대표팀 선수들이 축구 경기에서 승리했다. 감독은 선수들의 투지를 칭찬했다.");
+
+        assertThat(response.category()).isEqualTo("스포츠");
+        assertThat(response.keywords()).isNotBlank();
+    }
+
+    @Test
+    void fallsBackToSocietyWhenNoLexiconWordMatches() {
+        assertThat(analyzer.analyze("오늘은 하늘이 맑고 바람이 선선하게 불었다. 산책하는 사람이 많았다.").category())
+                .isEqualTo("사회");
+        assertThat(LocalNewsAnalyzer.classify(Map.of(), List.of())).isEqualTo("사회");
+    }
+
+    @Test
+    void countsKeywordsTwiceWhenClassifying() {
+        // 경제 어휘 1번(키워드) vs 정치 어휘 1번(키워드 아님)
+        assertThat(LocalNewsAnalyzer.classify(Map.of("금리", 1, "국회", 1), List.of("금리"))).isEqualTo("경제");
+        assertThat(LocalNewsAnalyzer.classify(Map.of("금리", 1, "국회", 1), List.of("국회"))).isEqualTo("정치");
+    }
+
+    @Test
+    void keepsProvinceNamesThatEndLikeParticles() {
+        assertThat(LocalNewsAnalyzer.tokenize("경기도 경기도에서 제주도는")).containsExactly("경기도", "경기도", "제주도");
+    }
+
+    @Test
+    void doesNotClassifyGyeonggiProvinceAsSports() {
+        NewsAnalysisResponse response = analyzer.analyze(
+                "경기도 수원시 주민센터에서 주민 간담회가 열렸다. 경기도 관계자와 주민들이 참석했다.");
+
+        assertThat(response.category()).isEqualTo("사회");
+    }
+
+    @Test
+    void classifiesEconomicDownturnAsEconomy() {
+        NewsAnalysisResponse response = analyzer.analyze(
+                "경기 침체 우려가 커지면서 가계 소비가 줄었다. 경기 둔화가 하반기까지 이어질 전망이다.");
+
+        assertThat(response.category()).isEqualTo("경제");
+    }
+
+    @Test
+    void matchesLexiconOnlyWithPluralOrParticleSuffix() {
+        // "ai"는 airline의 접두어가 아니고, 선수들은 선수와 같은 단어
+        assertThat(LocalNewsAnalyzer.classify(Map.of("airline", 3, "aim", 2), List.of())).isEqualTo("사회");
+        assertThat(LocalNewsAnalyzer.classify(Map.of("ai", 1), List.of())).isEqualTo("ITㆍ과학");
+        assertThat(LocalNewsAnalyzer.classify(Map.of("선수들", 1), List.of())).isEqualTo("스포츠");
+        assertThat(LocalNewsAnalyzer.classify(Map.of("국회의원실", 1), List.of())).isEqualTo("사회");
+    }
+}
@@ -0,0 +1,243 @@
+package com.highlight.nuzip.service;
+
+import com.highlight.nuzip.dto.NewsAnalysisResponse;
+import com.highlight.nuzip.model.AnalysisStatus;
+import com.highlight.nuzip.model.IngestionStatus;
+import com.highlight.nuzip.model.IngestionTask;
+import com.highlight.nuzip.model.NewsArticle;
+import com.highlight.nuzip.model.Subscription;
+import com.highlight.nuzip.repository.NewsArticleRepository;
+import com.highlight.nuzip.repository.SubscriptionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 기사 처리 흐름(크롤링 → 분석 → 배치 저장 → 배치 알림)에서 DB 커넥션을 잡는 트랜잭션을 셉니다.
+// 트랜잭션 매니저가 시작된 트랜잭션 수를 기록하고, 크롤링/Gemini 호출이 트랜잭션 안에서 불리면 위반으로 기록합니다.
+// (실행 시간에 기대는 단언은 CI 부하에 따라 흔들리므로 쓰지 않습니다)
+class NewsArticleProcessorTransactionTest {
+
+    private static final int ARTICLES = 10;
+
+    private final TransactionCounter transactionManager = new TransactionCounter();
+    private final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+    private final List<String> networkCalls = Collections.synchronizedList(new ArrayList<>());
+    private final List<String> networkCallsInTransaction = Collections.synchronizedList(new ArrayList<>());
+    // 본문 저장 호출마다 저장한 본문 수
+    private final List<Integer> bodyWrites = Collections.synchronizedList(new ArrayList<>());
+
+    private IngestionQueueService ingestionQueueService;
+    private NewsArticleProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        NewsArticleRepository newsArticleRepository = mock(NewsArticleRepository.class);
+        GeminiService geminiService = mock(GeminiService.class);
+        GeminiBatchAnalyzer geminiBatchAnalyzer = mock(GeminiBatchAnalyzer.class);
+        ArticlePreprocessor articlePreprocessor = mock(ArticlePreprocessor.class);
+        AnalysisCache analysisCache = mock(AnalysisCache.class);
+        ArticleBodyStore articleBodyStore = mock(ArticleBodyStore.class);
+        NotificationService notificationService = mock(NotificationService.class);
+        SubscriptionRepository subscriptionRepository = mock(SubscriptionRepository.class);
+        ingestionQueueService = mock(IngestionQueueService.class);
+
+        when(geminiService.extractArticleContent(anyString())).thenAnswer(invocation -> network("크롤링",
+                () -> new GeminiService.ArticleExtractionResult("충분히 긴 기사 본문입니다. ".repeat(20), "https://img.example.com/a.jpg")));
+        when(geminiBatchAnalyzer.analyze(anyString())).thenAnswer(invocation -> network("Gemini",
+                () -> new NewsAnalysisResponse("요약", "키워드1, 키워드2", "경제")));
+        when(articlePreprocessor.prepare(anyString())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(analysisCache.key(anyString())).thenReturn("key");
+        when(analysisCache.get(anyString())).thenAnswer(invocation -> db(Optional::empty));
+
+        // 저장소 호출: 트랜잭션 밖이면 자기 트랜잭션을, 안이면 바깥 트랜잭션에 참여합니다. (Spring Data 저장소와 같음)
+        when(newsArticleRepository.saveAll(anyList())).thenAnswer(invocation -> db(() -> invocation.getArgument(0)));
+        // 수집 직후 분석 대기(PENDING)로 먼저 게시된 기사들
+        when(newsArticleRepository.findArticlesByOriginalLinkIn(anyList())).thenAnswer(invocation -> db(() -> {
+            Collection<String> links = invocation.getArgument(0);
+            return links.stream().map(link -> {
+                NewsArticle article = new NewsArticle();
+                article.setId(Long.parseLong(link.substring(link.lastIndexOf('/') + 1)) + 1000);
+                article.setOriginalLink(link);
+                article.setAnalysisStatus(AnalysisStatus.PENDING);
+                return article;
+            }).toList();
+        }));
+        when(subscriptionRepository.findByCategoryId(anyLong())).thenAnswer(invocation -> db(() -> {
+            Subscription subscription = new Subscription();
+            subscription.setUserId("user-" + invocation.getArgument(0));
+            subscription.setCategoryId(invocation.getArgument(0));
+            return List.of(subscription);
+        }));
+        doAnswer(invocation -> db(() -> {
+            bodyWrites.add(invocation.<Map<Long, ArticleBodyStore.CompressedBody>>getArgument(0).size());
+            return null;
+        })).when(articleBodyStore).saveAll(anyMap());
+        doAnswer(invocation -> db(() -> null))
+                .when(notificationService).createNotifications(anyList(), anyString(), any());
+        when(ingestionQueueService.advance(any(), any())).thenAnswer(invocation -> db(() -> {
+            IngestionTask task = invocation.getArgument(0);
+            task.setStatus(invocation.getArgument(1));
+            return task;
+        }));
+        when(ingestionQueueService.advanceAll(anyList(), any())).thenAnswer(invocation -> db(() -> {
+            List<IngestionTask> tasks = invocation.getArgument(0);
+            tasks.forEach(task -> task.setStatus(invocation.getArgument(1)));
+            return tasks;
+        }));
+
+        processor = new NewsArticleProcessor(newsArticleRepository, geminiService, geminiBatchAnalyzer,
+                mock(ArticleLinkDeduplicator.class), mock(ArticleFingerprintIndex.class), articlePreprocessor, analysisCache, articleBodyStore,
+                new LocalNewsAnalyzer(), mock(GeminiRateLimiter.class), notificationService, subscriptionRepository, ingestionQueueService, transactionTemplate);
+    }
+
+    @Test
+    void holdsConnectionOnlyForShortBatchedWrites() {
+        List<IngestionTask> tasks = new ArrayList<>();
+        for (int i = 0; i < ARTICLES; i++) {
+            tasks.add(task(i));
+        }
+
+        List<IngestionTask> analyzed = tasks.stream().map(processor::extract).map(processor::analyze).toList();
+        int beforePersist = transactionManager.transactions();
+        List<IngestionTask> persisted = processor.persistAll(analyzed);
+        int persistTransactions = transactionManager.transactions() - beforePersist;
+        int beforeNotify = transactionManager.transactions();
+        List<IngestionTask> notified = processor.notifyAll(persisted);
+        int notifyTransactions = transactionManager.transactions() - beforeNotify;
+
+        assertThat(notified).extracting(IngestionTask::getStatus).containsOnly(IngestionStatus.NOTIFIED);
+        verify(ingestionQueueService, never()).retryLater(any(), any(), any());
+        verify(ingestionQueueService, never()).fail(any(), any());
+
+        // 크롤링/Gemini 호출은 모두 일어나되 트랜잭션 밖에서만
+        assertThat(networkCalls).hasSize(ARTICLES * 2);
+        assertThat(networkCallsInTransaction).isEmpty();
+        // 기사 저장은 배치 하나에 트랜잭션 하나, 본문 저장도 배치 하나에 한 번
+        assertThat(persistTransactions).isEqualTo(1);
+        assertThat(bodyWrites).containsExactly(ARTICLES);
+        // 알림은 카테고리(2개)별 구독 조회 + 알림 쓰기 트랜잭션 하나
+        assertThat(notifyTransactions).isEqualTo(2 + 1);
+    }
+
+    @Test
+    void dropsTasksWhoseLeaseWasLostFromBatchResults() {
+        List<IngestionTask> analyzed = new ArrayList<>();
+        for (int i = 0; i < ARTICLES; i++) {
+            analyzed.add(processor.analyze(processor.extract(task(i))));
+        }
+        IngestionTask taken = analyzed.get(3);
+        // 다른 워커가 가져간 작업: 배치 기록은 통째로 실패하고, 개별 기록에서도 그 작업만 실패합니다.
+        doThrow(new IngestionLeaseLostException(taken.getId(), null)).when(ingestionQueueService).advanceAll(anyList(), any());
+        doAnswer(invocation -> db(() -> {
+            IngestionTask task = invocation.getArgument(0);
+            if (task == taken) {
+                throw new IngestionLeaseLostException(task.getId(), null);
+            }
+            task.setStatus(invocation.getArgument(1));
+            return task;
+        })).when(ingestionQueueService).advance(any(), any());
+
+        List<IngestionTask> persisted = processor.persistAll(analyzed);
+
+        assertThat(persisted).hasSize(ARTICLES - 1).doesNotContain(taken)
+                .extracting(IngestionTask::getStatus).containsOnly(IngestionStatus.PERSISTED);
+        verify(ingestionQueueService, never()).retryLater(any(), any(), any());
+    }
+
+    private static IngestionTask task(int i) {
+        IngestionTask task = new IngestionTask();
+        task.setId((long) i + 1);
+        task.setOriginalLink("https://news.example.com/article/" + i);
+        task.setCategoryId((long) (i % 2) + 1);
+        task.setTitle("기사 " + i);
+        task.setPubDate("Sat, 17 Oct 2026 09:10:00 +0900");
+        task.setStatus(IngestionStatus.FETCHED);
+        task.setClaimedBy("test-node");
+        return task;
+    }
+
+    // 외부 호출 흉내: 결과를 반환하고, 트랜잭션 안이었다면 기록합니다.
+    private <T> T network(String name, Supplier<T> result) {
+        networkCalls.add(name);
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            networkCallsInTransaction.add(name);
+        }
+        return result.get();
+    }
+
+    // DB 호출 흉내: 트랜잭션(REQUIRED) 안에서 실행됩니다.
+    private <T> T db(Supplier<T> result) {
+        return transactionTemplate.execute(status -> result.get());
+    }
+
+    // 새로 시작된(바깥) 트랜잭션 수를 세는 트랜잭션 매니저
+    // (JpaTransactionManager는 트랜잭션 동안 커넥션 하나를 잡고 있음)
+    private static final class TransactionCounter extends AbstractPlatformTransactionManager {
+
+        private final ThreadLocal<Boolean> active = new ThreadLocal<>();
+        private final AtomicInteger transactions = new AtomicInteger();
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected boolean isExistingTransaction(Object transaction) {
+            return active.get() != null;
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+            active.set(Boolean.TRUE);
+            transactions.incrementAndGet();
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doSetRollbackOnly(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doCleanupAfterCompletion(Object transaction) {
+            active.remove();
+        }
+
+        int transactions() {
+            return transactions.get();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.highlight.nuzip.service;
+
+import com.highlight.nuzip.dto.Item;
+import com.highlight.nuzip.model.Category;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NewsCollectorServiceTest {
+
+    private static final String MARK_LINK = "https://news.example.com/article/100";
+
+    // 기준점: 2026-10-17 09:00 (KST)
+    private static Category category() {
+        Category category = new Category();
+        category.setName("경제");
+        category.setLastCollectedPubDate(ZonedDateTime.parse("2026-10-17T09:00:00+09:00")
+                .withZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime());
+        category.setLastCollectedLink(MARK_LINK);
+        return category;
+    }
+
+    @Test
+    void comparesPubDateWithMark() {
+        assertThat(NewsCollectorService.isAtOrBeforeMark(item("https://news.example.com/a", "Sat, 17 Oct 2026 08:59:00 +0900"), category())).isTrue();
+        assertThat(NewsCollectorService.isAtOrBeforeMark(item("https://news.example.com/b", "Sat, 17 Oct 2026 09:01:00 +0900"), category())).isFalse();
+    }
+
+    @Test
+    void stopsAtMarkLinkEvenWithUnreadablePubDate() {
+        assertThat(NewsCollectorService.isAtOrBeforeMark(item(MARK_LINK, "어제 오후"), category())).isTrue();
+    }
+
+    @Test
+    void treatsUnreadablePubDateAsNewerThanMark() {
+        // 예전에는 파싱 실패를 "지금 - 2시간"으로 바꿔, 기준점이 그보다 최근이면 여기서 수집을 멈췄습니다.
+        Category category = category();
+        category.setLastCollectedPubDate(LocalDateTime.now().minusMinutes(10));
+
+        assertThat(NewsCollectorService.isAtOrBeforeMark(item("https://news.example.com/c", "어제 오후"), category)).isFalse();
+        assertThat(NewsCollectorService.isAtOrBeforeMark(item("https://news.example.com/d", null), category)).isFalse();
+    }
+
+    private static Item item(String link, String pubDate) {
+        Item item = new Item();
+        item.setOriginallink(link);
+        item.setPubDate(pubDate);
+        return item;
+    }
+}
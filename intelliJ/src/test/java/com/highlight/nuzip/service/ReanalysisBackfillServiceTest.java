@@ -0,0 +1,115 @@
+package com.highlight.nuzip.service;
+
+import com.highlight.nuzip.config.GeminiConfig;
+import com.highlight.nuzip.model.AnalysisStatus;
+import com.highlight.nuzip.model.ReanalysisRun;
+import com.highlight.nuzip.model.ReanalysisStatus;
+import com.highlight.nuzip.repository.NewsArticleRepository;
+import com.highlight.nuzip.repository.ReanalysisRunRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 설정(모델 + 프롬프트 버전)이 바뀔 때 어떤 백필(reanalysis_run)이 시작/중단되는지 확인합니다.
+// 공용 리미터 여유를 0으로 두어 배치 처리는 하지 않습니다.
+class ReanalysisBackfillServiceTest {
+
+    private final Map<String, ReanalysisRun> runs = new HashMap<>();
+    private final GeminiConfig geminiConfig = mock(GeminiConfig.class);
+    private final NewsArticleRepository newsArticleRepository = mock(NewsArticleRepository.class);
+    private ReanalysisBackfillService service;
+
+    @BeforeEach
+    void setUp() {
+        ReanalysisRunRepository reanalysisRunRepository = mock(ReanalysisRunRepository.class);
+        when(reanalysisRunRepository.save(any())).thenAnswer(invocation -> {
+            ReanalysisRun run = invocation.getArgument(0);
+            runs.put(run.getTarget(), run);
+            return run;
+        });
+        when(reanalysisRunRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(reanalysisRunRepository.findByStatus(any())).thenAnswer(invocation -> runs.values().stream()
+                .filter(run -> run.getStatus() == invocation.getArgument(0)).toList());
+        when(reanalysisRunRepository.findFirstByOrderByStartedAtDesc()).thenAnswer(invocation -> runs.values().stream()
+                .max(Comparator.comparing(ReanalysisRun::getStartedAt)));
+        when(newsArticleRepository.countByAnalysisStatusAndIdLessThanEqual(any(AnalysisStatus.class), anyLong())).thenReturn(100L);
+
+        ClusterCoordinator clusterCoordinator = mock(ClusterCoordinator.class);
+        when(clusterCoordinator.isLeader()).thenReturn(true);
+        GeminiRateLimiter geminiRateLimiter = mock(GeminiRateLimiter.class);
+        when(geminiRateLimiter.spareRequestFraction()).thenReturn(0.0);
+
+        service = new ReanalysisBackfillService(newsArticleRepository, reanalysisRunRepository, mock(ArticleBodyStore.class),
+                mock(ArticlePreprocessor.class), mock(AnalysisCache.class), mock(GeminiBatchAnalyzer.class), geminiRateLimiter,
+                geminiConfig, clusterCoordinator);
+        ReflectionTestUtils.setField(service, "enabled", true);
+    }
+
+    @Test
+    void recordsBaselineOnFirstStartAndStartsRunWhenModelChanges() throws InterruptedException {
+        switchTo("model-a", 10);
+        ReanalysisRun baseline = run("model-a");
+        assertThat(baseline.getStatus()).isEqualTo(ReanalysisStatus.COMPLETED);
+        assertThat(baseline.getCursorId()).isEqualTo(10);
+
+        switchTo("model-b", 20);
+        assertThat(run("model-b").getStatus()).isEqualTo(ReanalysisStatus.RUNNING);
+        assertThat(run("model-b").getUpperBoundId()).isEqualTo(20);
+        assertThat(run("model-b").getTotal()).isEqualTo(100);
+
+        // 같은 설정이면 진행 중인 백필을 그대로 이어갑니다.
+        run("model-b").setCursorId(5);
+        switchTo("model-b", 30);
+        assertThat(run("model-b").getCursorId()).isEqualTo(5);
+        assertThat(run("model-b").getUpperBoundId()).isEqualTo(20);
+    }
+
+    @Test
+    void restartsPreviousTargetWhenSwitchingBack() throws InterruptedException {
+        switchTo("model-a", 10);
+        switchTo("model-b", 20);
+        run("model-b").setCursorId(15);
+        run("model-b").setProcessed(7);
+
+        // A → B → A: B로 분석된 기사를 다시 A로 분석해야 하므로 A의 예전 완료 기록을 초기화하고 새로 시작합니다.
+        switchTo("model-a", 30);
+
+        assertThat(run("model-b").getStatus()).isEqualTo(ReanalysisStatus.SUPERSEDED);
+        ReanalysisRun restarted = run("model-a");
+        assertThat(restarted.getStatus()).isEqualTo(ReanalysisStatus.RUNNING);
+        assertThat(restarted.getCursorId()).isZero();
+        assertThat(restarted.getProcessed()).isZero();
+        assertThat(restarted.getUpperBoundId()).isEqualTo(30);
+        assertThat(restarted.getCompletedAt()).isNull();
+
+        // A → B → A → B: B도 마찬가지로 처음부터 다시
+        switchTo("model-b", 40);
+        assertThat(run("model-a").getStatus()).isEqualTo(ReanalysisStatus.SUPERSEDED);
+        assertThat(run("model-b").getStatus()).isEqualTo(ReanalysisStatus.RUNNING);
+        assertThat(run("model-b").getCursorId()).isZero();
+        assertThat(run("model-b").getUpperBoundId()).isEqualTo(40);
+    }
+
+    private void switchTo(String model, long maxArticleId) throws InterruptedException {
+        Thread.sleep(5); // 시작 시각(startedAt)으로 가장 최근 백필을 고르므로 겹치지 않게 합니다.
+        when(geminiConfig.getModel()).thenReturn(model);
+        when(newsArticleRepository.findMaxId()).thenReturn(Optional.of(maxArticleId));
+        service.runBatch();
+    }
+
+    private ReanalysisRun run(String model) {
+        return runs.get(model + "@" + GeminiService.PROMPT_VERSION);
+    }
+}
@@ -0,0 +1,124 @@
+package com.highlight.nuzip.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.highlight.nuzip.dto.Item;
+import com.highlight.nuzip.dto.NaverNewsResponse;
+import org.apache.commons.text.StringEscapeUtils;
+import org.jsoup.internal.StringUtil;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TextUtilsTest {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+    // 녹화된 네이버 뉴스 검색 응답
+    private static List<Item> naverItems() throws IOException {
+        try (InputStream in = TextUtilsTest.class.getResourceAsStream("/fixtures/naver-news-response.json")) {
+            return new ObjectMapper().readValue(in, NaverNewsResponse.class).getItems();
+        }
+    }
+
+    // 변경 전 Item.sanitizeHtmlFragment
+    private static String legacyClean(String html) {
+        if (html == null || html.isEmpty()) {
+            return "";
+        }
+        return StringEscapeUtils.unescapeHtml4(html.replaceAll("<[^>]+>", ""));
+    }
+
+    @Test
+    void cleansNaverPayloadLikeLegacyImplementation() throws IOException {
+        for (Item item : naverItems()) {
+            assertThat(item.getCleanTitle()).isEqualTo(legacyClean(item.getTitle()));
+            assertThat(item.getCleanDescription()).isEqualTo(legacyClean(item.getDescription()));
+        }
+    }
+
+    @Test
+    void stripsTagsAndDecodesEntitiesInNaverPayload() throws IOException {
+        List<Item> items = naverItems();
+
+        assertThat(items.get(0).getCleanTitle()).isEqualTo("정부, 내년 예산안 의결…반도체·AI 연구개발 대폭 확대");
+        assertThat(items.get(1).getCleanTitle()).isEqualTo("<단독> 대형 플랫폼 개인정보 유출 정황…당국 조사 착수");
+        assertThat(items.get(2).getCleanTitle()).isEqualTo("배우 A씨, 신작 드라마 주연 확정…'3년 만의 복귀'");
+        assertThat(items.get(3).getCleanTitle()).isEqualTo("S&P500 사상 최고치…뉴욕증시 3대 지수 동반 상승");
+        assertThat(items.get(3).getCleanDescription()).endsWith("주목하고 있다 📈");
+        assertThat(items.get(4).getCleanTitle()).isEqualTo("[포토] 가을 단풍 절정…‘오색 물결’");
+        assertThat(items.get(5).getCleanDescription()).contains("a < b 인 상황", "& 관측");
+    }
+
+    @Test
+    void returnsSameInstanceWhenNothingToReplace() {
+        String plain = "태그와 엔터티가 없는 제목";
+        assertThat(TextUtils.stripTagsAndDecode(plain)).isSameAs(plain);
+        assertThat(TextUtils.stripTagsAndDecode(null)).isEmpty();
+        assertThat(TextUtils.stripTagsAndDecode("")).isEmpty();
+    }
+
+    @Test
+    void handlesMalformedMarkupLikeLegacyImplementation() {
+        List<String> inputs = List.of(
+                "열린 태그만 <b", "빈 태그 <> 유지", "닫는 괄호만 > 유지", "중첩 <<b>>", "<a href=\"x\">링크</a>",
+                "세미콜론 없음 &amp 그대로", "알 수 없는 &foo; 그대로", "숫자 &#65;&#x42;&#X43;", "잘못된 숫자 &#xZZ; &#;",
+                "&&amp;;", "끝 &", "엔터티 뒤 태그 &lt;b&gt;굵게&lt;/b&gt;");
+        for (String input : inputs) {
+            assertThat(TextUtils.stripTagsAndDecode(input)).as(input).isEqualTo(legacyClean(input));
+        }
+        // 기존 구현은 예외를 던지던 범위 밖 코드 포인트는 그대로 둡니다.
+        assertThat(TextUtils.stripTagsAndDecode("범위 초과 &#x110000;")).isEqualTo("범위 초과 &#x110000;");
+    }
+
+    @Test
+    void parsesNaverPubDatesLikeFormatter() throws IOException {
+        for (Item item : naverItems()) {
+            OffsetDateTime expected = ZonedDateTime.parse(item.getPubDate(), TextUtils.NAVER_PUB_DATE).toOffsetDateTime();
+            assertThat(TextUtils.parseNaverPubDate(item.getPubDate())).isEqualTo(expected);
+        }
+        assertThat(TextUtils.parseNaverPubDate("Sat, 17 Oct 2026 09:10:00 +0900", SEOUL))
+                .isEqualTo(LocalDateTime.of(2026, 10, 17, 9, 10));
+        assertThat(TextUtils.parseNaverPubDate("Fri, 16 Oct 2026 20:10:00 -0400", SEOUL))
+                .isEqualTo(LocalDateTime.of(2026, 10, 17, 9, 10));
+    }
+
+    @Test
+    void rejectsPubDatesTheFormatterRejects() {
+        List<String> inputs = List.of(
+                "Fri, 17 Oct 2026 09:10:00 +0900", // 요일 불일치 (토요일)
+                "Sat, 3 Oct 2026 09:10:00 +0900",  // 한 자리 날짜
+                "Sat, 32 Oct 2026 09:10:00 +0900",
+                "Sat, 17 Okt 2026 09:10:00 +0900",
+                "Sat, 17 Oct 2026 25:10:00 +0900",
+                "2026-10-17 09:10:00");
+        for (String input : inputs) {
+            assertThatThrownBy(() -> ZonedDateTime.parse(input, TextUtils.NAVER_PUB_DATE)).as(input).isInstanceOf(DateTimeParseException.class);
+            assertThatThrownBy(() -> TextUtils.parseNaverPubDate(input)).as(input).isInstanceOf(DateTimeParseException.class);
+        }
+    }
+
+    // 기존 추출기가 쓰던 jsoup 내부 구현과 같은 결과인지 확인합니다.
+    @Test
+    void appendsNormalizedWhitespaceLikeJsoup() {
+        List<String> inputs = List.of("  가  나\n\t다", "\u00A0 둘째\n\n단락 ", "폭\u200B없는\u00AD문자", "", "   ", "😀 이모지\r\n");
+        for (boolean stripLeading : new boolean[]{true, false}) {
+            for (String input : inputs) {
+                StringBuilder expected = new StringBuilder("앞");
+                StringUtil.appendNormalisedWhitespace(expected, input, stripLeading);
+                StringBuilder actual = new StringBuilder("앞");
+                TextUtils.appendNormalizedWhitespace(actual, input, stripLeading);
+                assertThat(actual.toString()).as(input).isEqualTo(expected.toString());
+            }
+        }
+    }
+}